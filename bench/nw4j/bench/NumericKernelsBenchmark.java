@@ -0,0 +1,219 @@
+/*
+ * Copyright (c) 2024, Miracle-Masterpiсe <mrmiraclemasterpiece@gmail.com or https://t.me/MiracleMasterpiece>. All rights reserved.
+ * Use is subject to license terms.
+ * 
+ * 
+ * 
+ * 
+ * 
+ * 
+ * 
+ * 
+ * */
+package nw4j.bench;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.DoubleSupplier;
+
+import nw4j.wrapper.c.kernels.INumericKernels;
+import nw4j.wrapper.c.kernels.NumericKernels;
+import nw4j.wrapper.c.pointers.FloatPointer;
+
+/**
+ * Compares the float kernels (sum, dot, axpy, min, max, clamp and prefixSum) computed by {@link NumericKernels#get()},
+ * by {@link NumericKernels#scalar()} and by a loop over {@link FloatPointer#get(long)}.
+ * <p>
+ * A standalone harness that follows the JMH average time mode: every case runs warm-up iterations first,
+ * then the measured iterations, and the results are consumed so the JIT cannot remove the work.
+ * As with JMH forks, every case runs in a fresh JVM started with the same options, so the profile collected
+ * for one implementation cannot slow down the code compiled for the next one.
+ * -DnwBenchFork=false runs all cases in this JVM, which is faster but lets the cases affect each other.
+ * Times are only comparable within one run on one machine.
+ * <p>
+ * Build and run as described in bench/compile.txt. Without <code>--add-modules jdk.incubator.vector</code>
+ * or without the classes of src-vector, {@link NumericKernels#get()} is the scalar implementation.
+ *
+ * java --enable-native-access=ALL-UNNAMED --add-modules jdk.incubator.vector -Djava.library.path=native/bin/linux -cp ... nw4j.bench.NumericKernelsBenchmark 10000000 [case]
+ *
+ * @since 0.8
+ * @author miracle-masterpiece
+ * */
+public final class NumericKernelsBenchmark {
+
+	private static final int WARMUP_ITERATIONS 	= Integer.getInteger("nwBenchWarmup", 20);
+	private static final int ITERATIONS 		= Integer.getInteger("nwBenchIterations", 50);
+	private static final boolean FORK 			= Boolean.parseBoolean(System.getProperty("nwBenchFork", "true"));
+
+	/**Consumes the results, like the JMH Blackhole.*/
+	private static volatile double sink;
+
+	private NumericKernelsBenchmark() {}
+
+	public static void main(String[] args) throws IOException, InterruptedException {
+		final long n 		= args.length > 0 ? Long.parseLong(args[0]) : 10_000_000;
+		final String only 	= args.length > 1 ? args[1] : null;
+
+		if (only == null) {
+			System.out.println("elements: " + n + ", vectorized: " + NumericKernels.isVectorized());
+			System.out.println("warm-up: " + WARMUP_ITERATIONS + ", iterations: " + ITERATIONS + ", fork: " + FORK);
+		}
+
+		try(FloatPointer a = FloatPointer.alloc(n); FloatPointer b = FloatPointer.alloc(n); FloatPointer c = FloatPointer.alloc(n)){
+			for (long i = 0; i < n; ++i) {
+				a.set(i, (i % 7) * 0.25f);
+				b.set(i, (i % 5) * 0.5f);
+			}
+			final Map<String, DoubleSupplier> cases = cases(a, b, c, n);
+			if (only != null) {
+				final DoubleSupplier benchmark = cases.get(only);
+				if (benchmark == null) {
+					throw new IllegalArgumentException("Unknown case: " + only + ", expected one of " + cases.keySet());
+				}
+				run(only, benchmark);
+				return;
+			}
+			for (Map.Entry<String, DoubleSupplier> e : cases.entrySet()) {
+				if (FORK) {
+					fork(n, e.getKey());
+				}else {
+					run(e.getKey(), e.getValue());
+				}
+			}
+		}
+	}
+
+	/**
+	 * Every case is a separate lambda, so the kernels are called from separate call sites.
+	 * The kernels that write memory keep the data bounded: axpy adds a tiny multiple of a, clamp is idempotent,
+	 * and prefixSum writes to c.
+	 * */
+	private static Map<String, DoubleSupplier> cases(FloatPointer a, FloatPointer b, FloatPointer c, long n) {
+		final INumericKernels fast 		= NumericKernels.get();
+		final INumericKernels scalar 	= NumericKernels.scalar();
+		final float alpha = 1e-7f;
+		final Map<String, DoubleSupplier> cases = new LinkedHashMap<>();
+
+		cases.put("sum.get", 			() -> fast.sum(a, n));
+		cases.put("sum.scalar", 		() -> scalar.sum(a, n));
+		cases.put("sum.loop", 			() -> sum(a, n));
+
+		cases.put("dot.get", 			() -> fast.dot(a, b, n));
+		cases.put("dot.scalar", 		() -> scalar.dot(a, b, n));
+		cases.put("dot.loop", 			() -> dot(a, b, n));
+
+		cases.put("axpy.get", 			() -> {fast.axpy(alpha, a, b, n); 		return b.get(n - 1);});
+		cases.put("axpy.scalar", 		() -> {scalar.axpy(alpha, a, b, n); 	return b.get(n - 1);});
+		cases.put("axpy.loop", 			() -> {axpy(alpha, a, b, n); 			return b.get(n - 1);});
+
+		cases.put("min.get", 			() -> fast.min(a, n));
+		cases.put("min.scalar", 		() -> scalar.min(a, n));
+		cases.put("min.loop", 			() -> min(a, n));
+
+		cases.put("max.get", 			() -> fast.max(a, n));
+		cases.put("max.scalar", 		() -> scalar.max(a, n));
+		cases.put("max.loop", 			() -> max(a, n));
+
+		cases.put("clamp.get", 			() -> {fast.clamp(b, n, 0.25f, 1.5f); 	return b.get(n - 1);});
+		cases.put("clamp.scalar", 		() -> {scalar.clamp(b, n, 0.25f, 1.5f); return b.get(n - 1);});
+		cases.put("clamp.loop", 		() -> {clamp(b, n, 0.25f, 1.5f); 		return b.get(n - 1);});
+
+		cases.put("prefixSum.get", 		() -> {fast.prefixSum(a, c, n); 		return c.get(n - 1);});
+		cases.put("prefixSum.scalar", 	() -> {scalar.prefixSum(a, c, n); 		return c.get(n - 1);});
+		cases.put("prefixSum.loop", 	() -> {prefixSum(a, c, n); 				return c.get(n - 1);});
+		return cases;
+	}
+
+	/**
+	 * Runs a single case in a new JVM with the options, the system properties and the class path of this one.
+	 * */
+	private static void fork(long n, String name) throws IOException, InterruptedException {
+		final List<String> command = new ArrayList<>();
+		command.add(ProcessHandle.current().info().command().orElse("java"));
+		command.addAll(ManagementFactory.getRuntimeMXBean().getInputArguments());
+		command.add("-cp");
+		command.add(System.getProperty("java.class.path"));
+		command.add(NumericKernelsBenchmark.class.getName());
+		command.add(Long.toString(n));
+		command.add(name);
+		final int exit = new ProcessBuilder(command).inheritIO().start().waitFor();
+		if (exit != 0) {
+			throw new IllegalStateException("Case " + name + " failed with exit code " + exit);
+		}
+	}
+
+	private static float sum(FloatPointer p, long n) {
+		float sum = 0;
+		for (long i = 0; i < n; ++i) {
+			sum += p.get(i);
+		}
+		return sum;
+	}
+
+	private static float dot(FloatPointer a, FloatPointer b, long n) {
+		float sum = 0;
+		for (long i = 0; i < n; ++i) {
+			sum += a.get(i) * b.get(i);
+		}
+		return sum;
+	}
+
+	private static void axpy(float alpha, FloatPointer x, FloatPointer y, long n) {
+		for (long i = 0; i < n; ++i) {
+			y.set(i, alpha * x.get(i) + y.get(i));
+		}
+	}
+
+	private static float min(FloatPointer p, long n) {
+		float min = Float.POSITIVE_INFINITY;
+		for (long i = 0; i < n; ++i) {
+			min = Math.min(min, p.get(i));
+		}
+		return min;
+	}
+
+	private static float max(FloatPointer p, long n) {
+		float max = Float.NEGATIVE_INFINITY;
+		for (long i = 0; i < n; ++i) {
+			max = Math.max(max, p.get(i));
+		}
+		return max;
+	}
+
+	private static void clamp(FloatPointer p, long n, float lo, float hi) {
+		for (long i = 0; i < n; ++i) {
+			p.set(i, Math.min(Math.max(p.get(i), lo), hi));
+		}
+	}
+
+	private static void prefixSum(FloatPointer src, FloatPointer dst, long n) {
+		float sum = 0;
+		for (long i = 0; i < n; ++i) {
+			sum += src.get(i);
+			dst.set(i, sum);
+		}
+	}
+
+	/**
+	 * Prints the average, the best and the worst time of one call in milliseconds.
+	 * */
+	private static void run(String name, DoubleSupplier benchmark) {
+		for (int i = 0; i < WARMUP_ITERATIONS; ++i) {
+			sink += benchmark.getAsDouble();
+		}
+		long total = 0, best = Long.MAX_VALUE, worst = 0;
+		for (int i = 0; i < ITERATIONS; ++i) {
+			final long start = System.nanoTime();
+			sink += benchmark.getAsDouble();
+			final long time = System.nanoTime() - start;
+			total 	+= time;
+			best 	= Math.min(best, time);
+			worst 	= Math.max(worst, time);
+		}
+		System.out.printf("%-20s avg %8.3f ms   min %8.3f ms   max %8.3f ms%n", name, total / 1e6 / ITERATIONS, best / 1e6, worst / 1e6);
+	}
+}
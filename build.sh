@@ -0,0 +1,10 @@
+#!/bin/sh
+# Compiles src into bin, then src-vector into the same output with the incubating Vector API, then bench into bench-bin.
+# Only src-vector is compiled with --add-modules jdk.incubator.vector, so the library itself never links against it.
+# Eclipse builds all three from .classpath, where the module can only be added to the whole project.
+set -e
+cd "$(dirname "$0")"
+JAVAC=${JAVAC:-javac}
+$JAVAC --release 22 -d bin $(find src -name '*.java')
+$JAVAC --release 22 --add-modules jdk.incubator.vector -cp bin -d bin $(find src-vector -name '*.java')
+$JAVAC --release 22 -cp bin -d bench-bin $(find bench -name '*.java')
@@ -51,6 +51,22 @@ jlong 	reallocateMemory(	const jlong oldAddress, const jlong newsize);
 void 	setMemory(			const jlong address, 	const jint value, 		const jlong size);
 jlong 	callocateMemory(	const jlong count, 		const jint typeSize);
 void 	copyMemory(			const jlong srcAddress, const jlong dstAddress, const jlong len);
+jlong 	memoryBlockSize(	const jlong address);
+void 	moveMemory(			const jlong srcAddress, const jlong dstAddress, const jlong len);
+jint 	compareMemory(		const jlong address1, 	const jlong address2, 	const jlong len);
+jlong 	mismatchMemory(		const jlong address1, 	const jlong address2, 	const jlong len);
+jlong 	indexOfByte(		const jlong address, 	const jlong len, 		const jbyte value);
+void 	fillShort(			const jlong address, 	const jlong count, 		const jshort value);
+void 	fillInt(			const jlong address, 	const jlong count, 		const jint value);
+void 	fillLong(			const jlong address, 	const jlong count, 		const jlong value);
+void 	swapOrder16(		const jlong srcAddress, const jlong dstAddress, const jlong count);
+void 	swapOrder32(		const jlong srcAddress, const jlong dstAddress, const jlong count);
+void 	swapOrder64(		const jlong srcAddress, const jlong dstAddress, const jlong count);
+void 	copyMemoryNonTemporal(const jlong srcAddress, const jlong dstAddress, const jlong len);
+jlong 	mapAnonymous(		const jlong size);
+jlong 	mapHugePages(		const jlong size, 		const jlong hugePageSize, const jint hugetlb);
+jint 	unmapMemory(		const jlong address, 	const jlong size);
+jlong 	pageSize();
 
 uint8_t sizeofChar();
 uint8_t sizeofShort();
@@ -11,7 +11,24 @@
  * 
  * */
 #include<string.h>	
-#include<malloc.h>	
+#if defined(USE_INTRINSIC) && (defined(__SSE2__) || defined(_M_X64))
+	#define MEMACCESS_SSE2
+	#include<emmintrin.h>
+	#if defined(__SSSE3__)
+		#include<tmmintrin.h>
+	#endif
+#endif
+#if defined(__APPLE__)
+	#include<malloc/malloc.h>
+#else
+	#include<malloc.h>	
+#endif
+#if defined(_WIN32)
+	#include<windows.h>
+#else
+	#include<sys/mman.h>
+	#include<unistd.h>
+#endif
 	
 	////////////////////////////setters/////////////////////////////
 	void setByte(const jlong address, 	const jbyte value){
@@ -96,13 +113,264 @@
 	}
 	
 	jlong callocateMemory(const jlong count, const jint typeSize){
-		return (jlong)malloc(count * typeSize);
+		return (jlong)calloc(count, typeSize);
 	}
 	
 	void copyMemory(const jlong srcAddress, const jlong dstAddress, const jlong len){
 		memcpy((jlong*)dstAddress, (jlong*)srcAddress, len);
 	}
 
+	void moveMemory(const jlong srcAddress, const jlong dstAddress, const jlong len){
+		memmove((void*)dstAddress, (void*)srcAddress, len);
+	}
+	
+	//Returns -1, 0 or 1 like memcmp, comparing bytes as unsigned values.
+	jint compareMemory(const jlong address1, const jlong address2, const jlong len){
+		const int result = memcmp((void*)address1, (void*)address2, len);
+		return result < 0 ? -1 : (result > 0 ? 1 : 0);
+	}
+	
+	//Returns the index of the first different byte, or -1 if the blocks are equal.
+	jlong mismatchMemory(const jlong address1, const jlong address2, const jlong len){
+		const uint8_t* a = (const uint8_t*)address1;
+		const uint8_t* b = (const uint8_t*)address2;
+		jlong i = 0;
+		#if defined(MEMACCESS_SSE2)
+			for (; i + 16 <= len; i += 16){
+				const __m128i va = _mm_loadu_si128((const __m128i*)(a + i));
+				const __m128i vb = _mm_loadu_si128((const __m128i*)(b + i));
+				const unsigned int mask = (unsigned int)_mm_movemask_epi8(_mm_cmpeq_epi8(va, vb)) ^ 0xFFFFu;
+				if (mask){
+					#if defined(_MSC_VER)
+						unsigned long bit;
+						_BitScanForward(&bit, mask);
+						return i + bit;
+					#else
+						return i + __builtin_ctz(mask);
+					#endif
+				}
+			}
+		#else
+			for (; i + 8 <= len; i += 8){
+				uint64_t wa, wb;
+				memcpy(&wa, a + i, 8);
+				memcpy(&wb, b + i, 8);
+				if (wa != wb) break;
+			}
+		#endif
+		for (; i < len; ++i){
+			if (a[i] != b[i]) return i;
+		}
+		return -1;
+	}
+	
+	//Returns the index of the first byte equal to value, or -1.
+	jlong indexOfByte(const jlong address, const jlong len, const jbyte value){
+		const void* found = memchr((const void*)address, (uint8_t)value, len);
+		return found ? (jlong)((const uint8_t*)found - (const uint8_t*)address) : -1;
+	}
+	
+	void fillShort(const jlong address, const jlong count, const jshort value){
+		jshort* dst = (jshort*)address;
+		jlong i = 0;
+		#if defined(MEMACCESS_SSE2)
+			const __m128i v = _mm_set1_epi16(value);
+			for (; i + 8 <= count; i += 8) _mm_storeu_si128((__m128i*)(dst + i), v);
+		#endif
+		for (; i < count; ++i) dst[i] = value;
+	}
+	
+	void fillInt(const jlong address, const jlong count, const jint value){
+		jint* dst = (jint*)address;
+		jlong i = 0;
+		#if defined(MEMACCESS_SSE2)
+			const __m128i v = _mm_set1_epi32(value);
+			for (; i + 4 <= count; i += 4) _mm_storeu_si128((__m128i*)(dst + i), v);
+		#endif
+		for (; i < count; ++i) dst[i] = value;
+	}
+	
+	void fillLong(const jlong address, const jlong count, const jlong value){
+		jlong* dst = (jlong*)address;
+		jlong i = 0;
+		#if defined(MEMACCESS_SSE2)
+			const __m128i v = _mm_set1_epi64x(value);
+			for (; i + 2 <= count; i += 2) _mm_storeu_si128((__m128i*)(dst + i), v);
+		#endif
+		for (; i < count; ++i) dst[i] = value;
+	}
+	
+	//Copy with streaming stores that bypass the cache, for blocks much larger than the last level cache.
+	void copyMemoryNonTemporal(const jlong srcAddress, const jlong dstAddress, const jlong len){
+		#if defined(MEMACCESS_SSE2)
+			const uint8_t* src = (const uint8_t*)srcAddress;
+			uint8_t* dst = (uint8_t*)dstAddress;
+			jlong head = (16 - ((uintptr_t)dst & 15)) & 15;
+			if (head > len) head = len;
+			memcpy(dst, src, head);
+			jlong i = head;
+			for (; i + 64 <= len; i += 64){
+				const __m128i v0 = _mm_loadu_si128((const __m128i*)(src + i));
+				const __m128i v1 = _mm_loadu_si128((const __m128i*)(src + i + 16));
+				const __m128i v2 = _mm_loadu_si128((const __m128i*)(src + i + 32));
+				const __m128i v3 = _mm_loadu_si128((const __m128i*)(src + i + 48));
+				_mm_stream_si128((__m128i*)(dst + i), v0);
+				_mm_stream_si128((__m128i*)(dst + i + 16), v1);
+				_mm_stream_si128((__m128i*)(dst + i + 32), v2);
+				_mm_stream_si128((__m128i*)(dst + i + 48), v3);
+			}
+			_mm_sfence();
+			memcpy(dst + i, src + i, len - i);
+		#else
+			memcpy((void*)dstAddress, (void*)srcAddress, len);
+		#endif
+	}
+
+	#if defined(MEMACCESS_SSE2)
+	//Swaps the bytes of each 16-bit lane.
+	static inline __m128i swap16x8(const __m128i v){
+		return _mm_or_si128(_mm_slli_epi16(v, 8), _mm_srli_epi16(v, 8));
+	}
+	#endif
+	
+	//Reverses the byte order of count 16-bit elements. src and dst may be equal.
+	void swapOrder16(const jlong srcAddress, const jlong dstAddress, const jlong count){
+		const uint16_t* src = (const uint16_t*)srcAddress;
+		uint16_t* dst = (uint16_t*)dstAddress;
+		jlong i = 0;
+		#if defined(MEMACCESS_SSE2)
+			for (; i + 8 <= count; i += 8){
+				_mm_storeu_si128((__m128i*)(dst + i), swap16x8(_mm_loadu_si128((const __m128i*)(src + i))));
+			}
+		#endif
+		for (; i < count; ++i){
+			const uint16_t v = src[i];
+			dst[i] = (uint16_t)((v << 8) | (v >> 8));
+		}
+	}
+	
+	//Reverses the byte order of count 32-bit elements. src and dst may be equal.
+	void swapOrder32(const jlong srcAddress, const jlong dstAddress, const jlong count){
+		const uint32_t* src = (const uint32_t*)srcAddress;
+		uint32_t* dst = (uint32_t*)dstAddress;
+		jlong i = 0;
+		#if defined(MEMACCESS_SSE2)
+			#if defined(__SSSE3__)
+				const __m128i mask = _mm_set_epi8(12, 13, 14, 15, 8, 9, 10, 11, 4, 5, 6, 7, 0, 1, 2, 3);
+			#endif
+			for (; i + 4 <= count; i += 4){
+				__m128i v = _mm_loadu_si128((const __m128i*)(src + i));
+				#if defined(__SSSE3__)
+					v = _mm_shuffle_epi8(v, mask);
+				#else
+					//Swap the 16-bit halves of each element, then the bytes of each half.
+					v = swap16x8(_mm_shufflehi_epi16(_mm_shufflelo_epi16(v, 0xB1), 0xB1));
+				#endif
+				_mm_storeu_si128((__m128i*)(dst + i), v);
+			}
+		#endif
+		for (; i < count; ++i){
+			const uint32_t v = src[i];
+			dst[i] = (v >> 24) | ((v >> 8) & 0xFF00u) | ((v << 8) & 0xFF0000u) | (v << 24);
+		}
+	}
+	
+	//Reverses the byte order of count 64-bit elements. src and dst may be equal.
+	void swapOrder64(const jlong srcAddress, const jlong dstAddress, const jlong count){
+		const uint64_t* src = (const uint64_t*)srcAddress;
+		uint64_t* dst = (uint64_t*)dstAddress;
+		jlong i = 0;
+		#if defined(MEMACCESS_SSE2)
+			#if defined(__SSSE3__)
+				const __m128i mask = _mm_set_epi8(8, 9, 10, 11, 12, 13, 14, 15, 0, 1, 2, 3, 4, 5, 6, 7);
+			#endif
+			for (; i + 2 <= count; i += 2){
+				__m128i v = _mm_loadu_si128((const __m128i*)(src + i));
+				#if defined(__SSSE3__)
+					v = _mm_shuffle_epi8(v, mask);
+				#else
+					//Reverse the four 16-bit quarters of each element, then the bytes of each quarter.
+					v = swap16x8(_mm_shufflehi_epi16(_mm_shufflelo_epi16(v, 0x1B), 0x1B));
+				#endif
+				_mm_storeu_si128((__m128i*)(dst + i), v);
+			}
+		#endif
+		for (; i < count; ++i){
+			const uint64_t v = src[i];
+			const uint32_t lo = (uint32_t)v, hi = (uint32_t)(v >> 32);
+			const uint32_t slo = (lo >> 24) | ((lo >> 8) & 0xFF00u) | ((lo << 8) & 0xFF0000u) | (lo << 24);
+			const uint32_t shi = (hi >> 24) | ((hi >> 8) & 0xFF00u) | ((hi << 8) & 0xFF0000u) | (hi << 24);
+			dst[i] = ((uint64_t)slo << 32) | shi;
+		}
+	}
+
+	//Usable size of a block returned by malloc, calloc or realloc.
+	jlong memoryBlockSize(const jlong address){
+		if (!address) return 0;
+		#if defined(_WIN32)
+			return (jlong)_msize((void*)address);
+		#elif defined(__APPLE__)
+			return (jlong)malloc_size((void*)address);
+		#else
+			return (jlong)malloc_usable_size((void*)address);
+		#endif
+	}
+
+	//Anonymous private pages, zeroed lazily by the kernel on first touch.
+	jlong mapAnonymous(const jlong size){
+		#if defined(_WIN32)
+			return (jlong)VirtualAlloc(NULL, (SIZE_T)size, MEM_RESERVE | MEM_COMMIT, PAGE_READWRITE);
+		#else
+			void* address = mmap(NULL, (size_t)size, PROT_READ | PROT_WRITE, MAP_PRIVATE | MAP_ANONYMOUS, -1, 0);
+			return address == MAP_FAILED ? 0 : (jlong)address;
+		#endif
+	}
+	
+	//Anonymous pages aligned to the huge page size and backed by transparent huge pages (MADV_HUGEPAGE),
+	//or by hugetlbfs pages when hugetlb is set and the kernel has reserved them. Size must be a multiple of hugePageSize.
+	//Falls back to mapAnonymous on systems without huge page support.
+	jlong mapHugePages(const jlong size, const jlong hugePageSize, const jint hugetlb){
+		#if defined(__linux__)
+			#if defined(MAP_HUGETLB)
+				if (hugetlb){
+					void* address = mmap(NULL, (size_t)size, PROT_READ | PROT_WRITE, MAP_PRIVATE | MAP_ANONYMOUS | MAP_HUGETLB, -1, 0);
+					if (address != MAP_FAILED) return (jlong)address;
+				}
+			#endif
+			uint8_t* raw = (uint8_t*)mmap(NULL, (size_t)(size + hugePageSize), PROT_READ | PROT_WRITE, MAP_PRIVATE | MAP_ANONYMOUS, -1, 0);
+			if (raw == (uint8_t*)MAP_FAILED) return 0;
+			uint8_t* start = (uint8_t*)(((uintptr_t)raw + hugePageSize - 1) & ~((uintptr_t)hugePageSize - 1));
+			size_t head = (size_t)(start - raw);
+			size_t tail = (size_t)hugePageSize - head;
+			if (head) munmap(raw, head);
+			if (tail) munmap(start + size, tail);
+			#if defined(MADV_HUGEPAGE)
+				madvise(start, (size_t)size, MADV_HUGEPAGE);
+			#endif
+			return (jlong)start;
+		#else
+			return mapAnonymous(size);
+		#endif
+	}
+	
+	jint unmapMemory(const jlong address, const jlong size){
+		#if defined(_WIN32)
+			return VirtualFree((void*)address, 0, MEM_RELEASE) ? 0 : -1;
+		#else
+			return munmap((void*)address, (size_t)size);
+		#endif
+	}
+	
+	jlong pageSize(){
+		#if defined(_WIN32)
+			SYSTEM_INFO info;
+			GetSystemInfo(&info);
+			return (jlong)info.dwPageSize;
+		#else
+			return (jlong)sysconf(_SC_PAGESIZE);
+		#endif
+	}
+
 	uint8_t sizeofChar()		{		return sizeof(char);		}
 	uint8_t sizeofShort()		{		return sizeof(short);		}
 	uint8_t sizeofInt()			{		return sizeof(int);			}
@@ -10,5 +10,6 @@
  * 
  * 
  * */
+#define USE_INTRINSIC
 #include<memaccess/MemoryAccessor.h>
 void main(){}
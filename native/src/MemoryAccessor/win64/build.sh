@@ -0,0 +1,34 @@
+#!/bin/sh
+# Builds MemoryAccessor.dll (x86-64, Windows ABI) with the host gcc and GNU binutils, without a mingw toolchain.
+# Needs binutils with the pe-x86-64 target (ld -V must list i386pep), which Debian and Ubuntu ship by default.
+#
+# memory_accessor.c is compiled with -mabi=ms against include/windows.h, converted to COFF and linked by ld
+# directly against two name-only stub DLLs, from which ld generates the msvcrt.dll and KERNEL32.dll import tables.
+# Output: ../MemoryAccessor.dll and ../../../bin/windows/MemoryAccessor.dll
+set -e
+cd "$(dirname "$0")"
+OUT=$(mktemp -d)
+trap 'rm -rf "$OUT"' EXIT
+
+CFLAGS="-O2 -mabi=ms -mno-red-zone -fno-pic -fno-stack-protector -fno-stack-clash-protection -fno-asynchronous-unwind-tables -fcf-protection=none
+	-U_FORTIFY_SOURCE -D_WIN32 -D_WIN64 -U__linux__ -U__linux -Ulinux -U__gnu_linux__ -U__unix__ -U__unix -Uunix -Iinclude -I../include"
+
+gcc -c $CFLAGS -DsizeofLong=sizeofLong_lp64 -Dmain=unused_main ../main.c -o "$OUT/main.o"
+gcc -c $CFLAGS win64.c -o "$OUT/win64.o"
+printf 'void stub(void){}\n' > "$OUT/stub.c"
+gcc -c $CFLAGS "$OUT/stub.c" -o "$OUT/stub.o"
+for f in main win64 stub; do
+	objcopy -O pe-x86-64 -R .comment -R .note.GNU-stack "$OUT/$f.o" "$OUT/$f.obj"
+done
+
+stub_dll(){
+	name=$1; shift
+	{ echo "LIBRARY $name"; echo "EXPORTS"; for s in "$@"; do echo "	$s=stub"; done; } > "$OUT/$name.def"
+	ld -m i386pep --dll -e 0 -o "$OUT/$name" "$OUT/stub.obj" "$OUT/$name.def"
+}
+stub_dll msvcrt.dll 	_msize calloc free malloc memchr memcmp memcpy memmove memset realloc
+stub_dll KERNEL32.dll 	GetSystemInfo VirtualAlloc VirtualFree
+
+ld -m i386pep --dll --entry DllMain --dynamicbase --high-entropy-va --nxcompat --no-insert-timestamp -s \
+	-o ../MemoryAccessor.dll "$OUT/main.obj" "$OUT/win64.obj" exports.def "$OUT/msvcrt.dll" "$OUT/KERNEL32.dll"
+cp ../MemoryAccessor.dll ../../../bin/windows/MemoryAccessor.dll
@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2024, Miracle-Masterpiсe <mrmiraclemasterpiece@gmail.com or https://t.me/MiracleMasterpiece>. All rights reserved.
+ * Use is subject to license terms.
+ * 
+ * 
+ * 
+ * 
+ * 
+ * 
+ * 
+ * 
+ * */
+//Subset of <windows.h> used by memory_accessor.c, so that MemoryAccessor.dll can be built by build.sh without a mingw sysroot.
+#ifndef MEMACCESS_WIN64_WINDOWS_H
+#define MEMACCESS_WIN64_WINDOWS_H
+#include<stddef.h>
+
+typedef int 				BOOL;
+typedef unsigned short 		WORD;
+typedef unsigned int 		DWORD;
+typedef unsigned long long 	SIZE_T;
+typedef unsigned long long 	DWORD_PTR;
+typedef void* 				LPVOID;
+
+#define MEM_COMMIT 			0x00001000
+#define MEM_RESERVE 		0x00002000
+#define MEM_RELEASE 		0x00008000
+#define PAGE_READWRITE 		0x04
+
+typedef struct _SYSTEM_INFO {
+	union {
+		DWORD dwOemId;
+		struct {
+			WORD wProcessorArchitecture;
+			WORD wReserved;
+		};
+	};
+	DWORD 		dwPageSize;
+	LPVOID 		lpMinimumApplicationAddress;
+	LPVOID 		lpMaximumApplicationAddress;
+	DWORD_PTR 	dwActiveProcessorMask;
+	DWORD 		dwNumberOfProcessors;
+	DWORD 		dwProcessorType;
+	DWORD 		dwAllocationGranularity;
+	WORD 		wProcessorLevel;
+	WORD 		wProcessorRevision;
+} SYSTEM_INFO;
+
+//kernel32.dll
+LPVOID 	VirtualAlloc(	LPVOID address, SIZE_T size, DWORD allocationType, DWORD protect);
+BOOL 	VirtualFree(	LPVOID address, SIZE_T size, DWORD freeType);
+void 	GetSystemInfo(	SYSTEM_INFO* info);
+
+//msvcrt.dll
+size_t 	_msize(void* block);
+
+#endif
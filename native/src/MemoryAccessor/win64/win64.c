@@ -0,0 +1,23 @@
+/*
+ * Copyright (c) 2024, Miracle-Masterpiсe <mrmiraclemasterpiece@gmail.com or https://t.me/MiracleMasterpiece>. All rights reserved.
+ * Use is subject to license terms.
+ * 
+ * 
+ * 
+ * 
+ * 
+ * 
+ * 
+ * 
+ * */
+#include<inttypes.h>
+
+//Windows is LLP64: long is 32-bit there, while the LP64 compiler used by build.sh reports 8.
+//build.sh renames the sizeofLong of memory_accessor.c away and exports this one instead.
+uint8_t sizeofLong(){
+	return 4;
+}
+
+int DllMain(void* instance, uint32_t reason, void* reserved){
+	return 1;
+}
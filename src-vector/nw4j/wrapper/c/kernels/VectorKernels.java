@@ -0,0 +1,398 @@
+/*
+ * Copyright (c) 2024, Miracle-Masterpiсe <mrmiraclemasterpiece@gmail.com or https://t.me/MiracleMasterpiece>. All rights reserved.
+ * Use is subject to license terms.
+ * 
+ * 
+ * 
+ * 
+ * 
+ * 
+ * 
+ * 
+ * */
+package nw4j.wrapper.c.kernels;
+
+import java.lang.foreign.MemorySegment;
+import java.nio.ByteOrder;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+import nw4j.wrapper.c.allocators.MemoryAccessor;
+
+/**
+ * SIMD loops written with the incubating Vector API.
+ * <p>
+ * Vectors are loaded from {@link MemoryAccessor#globalSegment()} with raw addresses as offsets,
+ * so no segment is created per call. The elements that do not fill a whole vector are processed by scalar code.
+ * The class is loaded only by {@link NumericKernels} after it has checked that the jdk.incubator.vector module is present.
+ * It lives in the src-vector source root, which is the only part of the library compiled with <code>--add-modules jdk.incubator.vector</code>.
+ *
+ * @since 0.8
+ * @author miracle-masterpiece
+ * */
+final class VectorKernels implements INumericKernels{
+
+	private static final MemorySegment GLOBAL = MemoryAccessor.globalSegment();
+
+	private static final ByteOrder ORDER = ByteOrder.nativeOrder();
+
+	private static final VectorSpecies<Float> 	FLOATS 	= FloatVector.SPECIES_PREFERRED;
+	private static final VectorSpecies<Double> 	DOUBLES = DoubleVector.SPECIES_PREFERRED;
+	private static final VectorSpecies<Integer> INTS 	= IntVector.SPECIES_PREFERRED;
+
+	/**Longs in a vector of the same size as {@link VectorKernels#INTS}, used to widen int sums.*/
+	private static final VectorSpecies<Long> 	LONGS 	= VectorSpecies.of(long.class, INTS.vectorShape());
+
+	@Override
+	public float sumFloat(long address, long n) {
+		final int step = FLOATS.vectorByteSize();
+		final long vend = address + (n & -FLOATS.length()) * 4;
+		long a = address;
+		FloatVector acc = FloatVector.zero(FLOATS);
+		for (; a < vend; a += step) {
+			acc = acc.add(FloatVector.fromMemorySegment(FLOATS, GLOBAL, a, ORDER));
+		}
+		float sum = acc.reduceLanes(VectorOperators.ADD);
+		for (final long end = address + n * 4; a < end; a += 4) {
+			sum += MemoryAccessor.getFloat(a);
+		}
+		return sum;
+	}
+
+	@Override
+	public float dotFloat(long a, long b, long n) {
+		final int step = FLOATS.vectorByteSize();
+		final long vlen = (n & -FLOATS.length()) * 4;
+		long i = 0;
+		FloatVector acc = FloatVector.zero(FLOATS);
+		for (; i < vlen; i += step) {
+			acc = FloatVector.fromMemorySegment(FLOATS, GLOBAL, a + i, ORDER).fma(FloatVector.fromMemorySegment(FLOATS, GLOBAL, b + i, ORDER), acc);
+		}
+		float sum = acc.reduceLanes(VectorOperators.ADD);
+		for (final long len = n * 4; i < len; i += 4) {
+			sum += MemoryAccessor.getFloat(a + i) * MemoryAccessor.getFloat(b + i);
+		}
+		return sum;
+	}
+
+	@Override
+	public void axpyFloat(float alpha, long x, long y, long n) {
+		final int step = FLOATS.vectorByteSize();
+		final long vlen = (n & -FLOATS.length()) * 4;
+		final FloatVector va = FloatVector.broadcast(FLOATS, alpha);
+		long i = 0;
+		for (; i < vlen; i += step) {
+			//mul and add instead of fma: both are rounded like the scalar loop, so every implementation stores the same bits.
+			FloatVector.fromMemorySegment(FLOATS, GLOBAL, x + i, ORDER).mul(va).add(FloatVector.fromMemorySegment(FLOATS, GLOBAL, y + i, ORDER)).intoMemorySegment(GLOBAL, y + i, ORDER);
+		}
+		for (final long len = n * 4; i < len; i += 4) {
+			MemoryAccessor.setFloat(y + i, alpha * MemoryAccessor.getFloat(x + i) + MemoryAccessor.getFloat(y + i));
+		}
+	}
+
+	@Override
+	public float minFloat(long address, long n) {
+		final int step = FLOATS.vectorByteSize();
+		final long vend = address + (n & -FLOATS.length()) * 4;
+		long a = address;
+		FloatVector acc = FloatVector.broadcast(FLOATS, Float.POSITIVE_INFINITY);
+		for (; a < vend; a += step) {
+			acc = acc.min(FloatVector.fromMemorySegment(FLOATS, GLOBAL, a, ORDER));
+		}
+		float min = acc.reduceLanes(VectorOperators.MIN);
+		for (final long end = address + n * 4; a < end; a += 4) {
+			min = Math.min(min, MemoryAccessor.getFloat(a));
+		}
+		return min;
+	}
+
+	@Override
+	public float maxFloat(long address, long n) {
+		final int step = FLOATS.vectorByteSize();
+		final long vend = address + (n & -FLOATS.length()) * 4;
+		long a = address;
+		FloatVector acc = FloatVector.broadcast(FLOATS, Float.NEGATIVE_INFINITY);
+		for (; a < vend; a += step) {
+			acc = acc.max(FloatVector.fromMemorySegment(FLOATS, GLOBAL, a, ORDER));
+		}
+		float max = acc.reduceLanes(VectorOperators.MAX);
+		for (final long end = address + n * 4; a < end; a += 4) {
+			max = Math.max(max, MemoryAccessor.getFloat(a));
+		}
+		return max;
+	}
+
+	@Override
+	public void scaleFloat(long address, long n, float factor) {
+		final int step = FLOATS.vectorByteSize();
+		final long vend = address + (n & -FLOATS.length()) * 4;
+		long a = address;
+		for (; a < vend; a += step) {
+			FloatVector.fromMemorySegment(FLOATS, GLOBAL, a, ORDER).mul(factor).intoMemorySegment(GLOBAL, a, ORDER);
+		}
+		for (final long end = address + n * 4; a < end; a += 4) {
+			MemoryAccessor.setFloat(a, MemoryAccessor.getFloat(a) * factor);
+		}
+	}
+
+	@Override
+	public void clampFloat(long address, long n, float lo, float hi) {
+		final int step = FLOATS.vectorByteSize();
+		final long vend = address + (n & -FLOATS.length()) * 4;
+		long a = address;
+		for (; a < vend; a += step) {
+			FloatVector.fromMemorySegment(FLOATS, GLOBAL, a, ORDER).max(lo).min(hi).intoMemorySegment(GLOBAL, a, ORDER);
+		}
+		for (final long end = address + n * 4; a < end; a += 4) {
+			MemoryAccessor.setFloat(a, Math.min(Math.max(MemoryAccessor.getFloat(a), lo), hi));
+		}
+	}
+
+	/**
+	 * Each vector is scanned in log2(lanes) steps of adding itself shifted by 1, 2, 4... lanes, then the sum of the previous vectors is added.
+	 * */
+	@Override
+	public void prefixSumFloat(long src, long dst, long n) {
+		final int lanes = FLOATS.length();
+		final int step = FLOATS.vectorByteSize();
+		final long vlen = (n & -lanes) * 4;
+		final FloatVector zero = FloatVector.zero(FLOATS);
+		float carry = 0;
+		long i = 0;
+		for (; i < vlen; i += step) {
+			FloatVector v = FloatVector.fromMemorySegment(FLOATS, GLOBAL, src + i, ORDER);
+			for (int k = 1; k < lanes; k <<= 1) {
+				v = v.add(zero.slice(lanes - k, v));
+			}
+			v = v.add(carry);
+			v.intoMemorySegment(GLOBAL, dst + i, ORDER);
+			carry = v.lane(lanes - 1);
+		}
+		for (final long len = n * 4; i < len; i += 4) {
+			carry += MemoryAccessor.getFloat(src + i);
+			MemoryAccessor.setFloat(dst + i, carry);
+		}
+	}
+
+	@Override
+	public double sumDouble(long address, long n) {
+		final int step = DOUBLES.vectorByteSize();
+		final long vend = address + (n & -DOUBLES.length()) * 8;
+		long a = address;
+		DoubleVector acc = DoubleVector.zero(DOUBLES);
+		for (; a < vend; a += step) {
+			acc = acc.add(DoubleVector.fromMemorySegment(DOUBLES, GLOBAL, a, ORDER));
+		}
+		double sum = acc.reduceLanes(VectorOperators.ADD);
+		for (final long end = address + n * 8; a < end; a += 8) {
+			sum += MemoryAccessor.getDouble(a);
+		}
+		return sum;
+	}
+
+	@Override
+	public double dotDouble(long a, long b, long n) {
+		final int step = DOUBLES.vectorByteSize();
+		final long vlen = (n & -DOUBLES.length()) * 8;
+		long i = 0;
+		DoubleVector acc = DoubleVector.zero(DOUBLES);
+		for (; i < vlen; i += step) {
+			acc = DoubleVector.fromMemorySegment(DOUBLES, GLOBAL, a + i, ORDER).fma(DoubleVector.fromMemorySegment(DOUBLES, GLOBAL, b + i, ORDER), acc);
+		}
+		double sum = acc.reduceLanes(VectorOperators.ADD);
+		for (final long len = n * 8; i < len; i += 8) {
+			sum += MemoryAccessor.getDouble(a + i) * MemoryAccessor.getDouble(b + i);
+		}
+		return sum;
+	}
+
+	@Override
+	public void axpyDouble(double alpha, long x, long y, long n) {
+		final int step = DOUBLES.vectorByteSize();
+		final long vlen = (n & -DOUBLES.length()) * 8;
+		final DoubleVector va = DoubleVector.broadcast(DOUBLES, alpha);
+		long i = 0;
+		for (; i < vlen; i += step) {
+			DoubleVector.fromMemorySegment(DOUBLES, GLOBAL, x + i, ORDER).mul(va).add(DoubleVector.fromMemorySegment(DOUBLES, GLOBAL, y + i, ORDER)).intoMemorySegment(GLOBAL, y + i, ORDER);
+		}
+		for (final long len = n * 8; i < len; i += 8) {
+			MemoryAccessor.setDouble(y + i, alpha * MemoryAccessor.getDouble(x + i) + MemoryAccessor.getDouble(y + i));
+		}
+	}
+
+	@Override
+	public double minDouble(long address, long n) {
+		final int step = DOUBLES.vectorByteSize();
+		final long vend = address + (n & -DOUBLES.length()) * 8;
+		long a = address;
+		DoubleVector acc = DoubleVector.broadcast(DOUBLES, Double.POSITIVE_INFINITY);
+		for (; a < vend; a += step) {
+			acc = acc.min(DoubleVector.fromMemorySegment(DOUBLES, GLOBAL, a, ORDER));
+		}
+		double min = acc.reduceLanes(VectorOperators.MIN);
+		for (final long end = address + n * 8; a < end; a += 8) {
+			min = Math.min(min, MemoryAccessor.getDouble(a));
+		}
+		return min;
+	}
+
+	@Override
+	public double maxDouble(long address, long n) {
+		final int step = DOUBLES.vectorByteSize();
+		final long vend = address + (n & -DOUBLES.length()) * 8;
+		long a = address;
+		DoubleVector acc = DoubleVector.broadcast(DOUBLES, Double.NEGATIVE_INFINITY);
+		for (; a < vend; a += step) {
+			acc = acc.max(DoubleVector.fromMemorySegment(DOUBLES, GLOBAL, a, ORDER));
+		}
+		double max = acc.reduceLanes(VectorOperators.MAX);
+		for (final long end = address + n * 8; a < end; a += 8) {
+			max = Math.max(max, MemoryAccessor.getDouble(a));
+		}
+		return max;
+	}
+
+	@Override
+	public void scaleDouble(long address, long n, double factor) {
+		final int step = DOUBLES.vectorByteSize();
+		final long vend = address + (n & -DOUBLES.length()) * 8;
+		long a = address;
+		for (; a < vend; a += step) {
+			DoubleVector.fromMemorySegment(DOUBLES, GLOBAL, a, ORDER).mul(factor).intoMemorySegment(GLOBAL, a, ORDER);
+		}
+		for (final long end = address + n * 8; a < end; a += 8) {
+			MemoryAccessor.setDouble(a, MemoryAccessor.getDouble(a) * factor);
+		}
+	}
+
+	@Override
+	public void clampDouble(long address, long n, double lo, double hi) {
+		final int step = DOUBLES.vectorByteSize();
+		final long vend = address + (n & -DOUBLES.length()) * 8;
+		long a = address;
+		for (; a < vend; a += step) {
+			DoubleVector.fromMemorySegment(DOUBLES, GLOBAL, a, ORDER).max(lo).min(hi).intoMemorySegment(GLOBAL, a, ORDER);
+		}
+		for (final long end = address + n * 8; a < end; a += 8) {
+			MemoryAccessor.setDouble(a, Math.min(Math.max(MemoryAccessor.getDouble(a), lo), hi));
+		}
+	}
+
+	/**
+	 * Each vector is scanned in log2(lanes) steps of adding itself shifted by 1, 2, 4... lanes, then the sum of the previous vectors is added.
+	 * */
+	@Override
+	public void prefixSumDouble(long src, long dst, long n) {
+		final int lanes = DOUBLES.length();
+		final int step = DOUBLES.vectorByteSize();
+		final long vlen = (n & -lanes) * 8;
+		final DoubleVector zero = DoubleVector.zero(DOUBLES);
+		double carry = 0;
+		long i = 0;
+		for (; i < vlen; i += step) {
+			DoubleVector v = DoubleVector.fromMemorySegment(DOUBLES, GLOBAL, src + i, ORDER);
+			for (int k = 1; k < lanes; k <<= 1) {
+				v = v.add(zero.slice(lanes - k, v));
+			}
+			v = v.add(carry);
+			v.intoMemorySegment(GLOBAL, dst + i, ORDER);
+			carry = v.lane(lanes - 1);
+		}
+		for (final long len = n * 8; i < len; i += 8) {
+			carry += MemoryAccessor.getDouble(src + i);
+			MemoryAccessor.setDouble(dst + i, carry);
+		}
+	}
+
+	/**
+	 * Each int vector is widened to two long vectors before it is added, so the sum cannot overflow.
+	 * */
+	@Override
+	public long sumInt(long address, long n) {
+		final int step = INTS.vectorByteSize();
+		final long vend = address + (n & -INTS.length()) * 4;
+		long a = address;
+		LongVector acc = LongVector.zero(LONGS);
+		for (; a < vend; a += step) {
+			final IntVector v = IntVector.fromMemorySegment(INTS, GLOBAL, a, ORDER);
+			acc = acc.add((LongVector)v.convertShape(VectorOperators.I2L, LONGS, 0)).add((LongVector)v.convertShape(VectorOperators.I2L, LONGS, 1));
+		}
+		long sum = acc.reduceLanes(VectorOperators.ADD);
+		for (final long end = address + n * 4; a < end; a += 4) {
+			sum += MemoryAccessor.getInt(a);
+		}
+		return sum;
+	}
+
+	@Override
+	public int minInt(long address, long n) {
+		final int step = INTS.vectorByteSize();
+		final long vend = address + (n & -INTS.length()) * 4;
+		long a = address;
+		IntVector acc = IntVector.broadcast(INTS, Integer.MAX_VALUE);
+		for (; a < vend; a += step) {
+			acc = acc.min(IntVector.fromMemorySegment(INTS, GLOBAL, a, ORDER));
+		}
+		int min = acc.reduceLanes(VectorOperators.MIN);
+		for (final long end = address + n * 4; a < end; a += 4) {
+			min = Math.min(min, MemoryAccessor.getInt(a));
+		}
+		return min;
+	}
+
+	@Override
+	public int maxInt(long address, long n) {
+		final int step = INTS.vectorByteSize();
+		final long vend = address + (n & -INTS.length()) * 4;
+		long a = address;
+		IntVector acc = IntVector.broadcast(INTS, Integer.MIN_VALUE);
+		for (; a < vend; a += step) {
+			acc = acc.max(IntVector.fromMemorySegment(INTS, GLOBAL, a, ORDER));
+		}
+		int max = acc.reduceLanes(VectorOperators.MAX);
+		for (final long end = address + n * 4; a < end; a += 4) {
+			max = Math.max(max, MemoryAccessor.getInt(a));
+		}
+		return max;
+	}
+
+	@Override
+	public void clampInt(long address, long n, int lo, int hi) {
+		final int step = INTS.vectorByteSize();
+		final long vend = address + (n & -INTS.length()) * 4;
+		long a = address;
+		for (; a < vend; a += step) {
+			IntVector.fromMemorySegment(INTS, GLOBAL, a, ORDER).max(lo).min(hi).intoMemorySegment(GLOBAL, a, ORDER);
+		}
+		for (final long end = address + n * 4; a < end; a += 4) {
+			MemoryAccessor.setInt(a, Math.min(Math.max(MemoryAccessor.getInt(a), lo), hi));
+		}
+	}
+
+	@Override
+	public void prefixSumInt(long src, long dst, long n) {
+		final int lanes = INTS.length();
+		final int step = INTS.vectorByteSize();
+		final long vlen = (n & -lanes) * 4;
+		final IntVector zero = IntVector.zero(INTS);
+		int carry = 0;
+		long i = 0;
+		for (; i < vlen; i += step) {
+			IntVector v = IntVector.fromMemorySegment(INTS, GLOBAL, src + i, ORDER);
+			for (int k = 1; k < lanes; k <<= 1) {
+				v = v.add(zero.slice(lanes - k, v));
+			}
+			v = v.add(carry);
+			v.intoMemorySegment(GLOBAL, dst + i, ORDER);
+			carry = v.lane(lanes - 1);
+		}
+		for (final long len = n * 4; i < len; i += 4) {
+			carry += MemoryAccessor.getInt(src + i);
+			MemoryAccessor.setInt(dst + i, carry);
+		}
+	}
+}
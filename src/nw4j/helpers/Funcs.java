@@ -28,58 +28,27 @@ public final class Funcs {
 	
 	/**Changes the byte order of the passed variable and returns a new value.*/
 	public static short swap_order(short __) {
-		short result = 0;
-		final int b1 = __ 			& 0xff;
-		final int b2 = __ >> 8  	& 0xff;
-		result |= b2;
-		result |= b1 << 8;
-		return result;
+		return Short.reverseBytes(__);
 	}
 	
 	/**Changes the byte order of the passed variable and returns a new value.*/
 	public static int swap_order(int __) {
-		int result = 0;
-		final int b1 = __ 			& 0xff;
-		final int b2 = __ >> 8  	& 0xff;
-		final int b3 = __ >> 16 	& 0xff;
-		final int b4 = __ >> 24 	& 0xff;
-		result |= b4;
-		result |= b3 << 8;
-		result |= b2 << 16;
-		result |= b1 << 24;
-		return result;
+		return Integer.reverseBytes(__);
 	}
 	
 	/**Changes the byte order of the passed variable and returns a new value.*/
 	public static float swap_order(float __) {
-		return Float.intBitsToFloat(swap_order(Float.floatToIntBits(__)));
+		return Float.intBitsToFloat(Integer.reverseBytes(Float.floatToRawIntBits(__)));
 	}
 	
 	/**Changes the byte order of the passed variable and returns a new value.*/
 	public static long swap_order(long __) {
-		long result = 0;
-		final long b1 = __ 			& 0xff;
-		final long b2 = __ >> 8  	& 0xff;
-		final long b3 = __ >> 16  	& 0xff;
-		final long b4 = __ >> 24  	& 0xff;
-		final long b5 = __ >> 32  	& 0xff;
-		final long b6 = __ >> 40 	& 0xff;
-		final long b7 = __ >> 48  	& 0xff;
-		final long b8 = __ >> 56  	& 0xff;
-		result |= b1 << 56;
-		result |= b2 << 48;
-		result |= b3 << 40;
-		result |= b4 << 32;
-		result |= b5 << 24;
-		result |= b6 << 16;
-		result |= b7 << 8;
-		result |= b8;
-		return result;
+		return Long.reverseBytes(__);
 	}
 	
 	/**Changes the byte order of the passed variable and returns a new value.*/
 	public static double swap_order(double __) {
-		return Double.longBitsToDouble(swap_order(Double.doubleToLongBits(__)));
+		return Double.longBitsToDouble(Long.reverseBytes(Double.doubleToRawLongBits(__)));
 	}
 	
 	public static int utf8_encode2(char c) {
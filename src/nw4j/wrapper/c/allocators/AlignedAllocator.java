@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2024, Miracle-Masterpiсe <mrmiraclemasterpiece@gmail.com or https://t.me/MiracleMasterpiece>. All rights reserved.
+ * Use is subject to license terms.
+ * 
+ * 
+ * 
+ * 
+ * 
+ * 
+ * 
+ * 
+ * */
+package nw4j.wrapper.c.allocators;
+
+/**
+ * Allocator whose blocks are aligned to a fixed power of two.
+ *
+ * @see IAllocator#aligned(int)
+ * @see MemoryAccessor#mallocAligned(long, int)
+ * @see MemoryAccessor#callocAligned(long, int, int)
+ *
+ * @since 0.8
+ * @author miracle-masterpiece
+ * */
+final class AlignedAllocator implements IAllocator{
+
+	/**Shared instances for alignments up to 4096 bytes, indexed by log2 of the alignment.*/
+	private static final AlignedAllocator[] CACHE = new AlignedAllocator[13];
+
+	static {
+		for (int i = 0; i < CACHE.length; ++i) {
+			CACHE[i] = new AlignedAllocator(1 << i);
+		}
+	}
+
+	private final int alignment;
+
+	private AlignedAllocator(int alignment) {
+		this.alignment = alignment;
+	}
+
+	static AlignedAllocator of(int alignment) {
+		if (Integer.bitCount(alignment) != 1) {
+			throw new IllegalArgumentException("Alignment is not a power of two: " + alignment);
+		}
+		final int index = Integer.numberOfTrailingZeros(alignment);
+		return index < CACHE.length ? CACHE[index] : new AlignedAllocator(alignment);
+	}
+
+	@Override
+	public long malloc(long n) {
+		return MemoryAccessor.mallocAligned(n, alignment);
+	}
+
+	@Override
+	public long calloc(long count, int typeSize) {
+		return MemoryAccessor.callocAligned(count, typeSize, alignment);
+	}
+
+	@Override
+	public long realloc(long address, long newsize) {
+		return MemoryAccessor.reallocAligned(address, newsize, alignment);
+	}
+
+	@Override
+	public void free(long address) {
+		MemoryAccessor.freeAligned(address);
+	}
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2024, Miracle-Masterpiсe <mrmiraclemasterpiece@gmail.com or https://t.me/MiracleMasterpiece>. All rights reserved.
+ * Use is subject to license terms.
+ * 
+ * 
+ * 
+ * 
+ * 
+ * 
+ * 
+ * 
+ * */
+package nw4j.wrapper.c.allocators;
+
+/**
+ * Interface for implementations of native memory allocators.
+ * <p>
+ * Memory returned by an allocator must be released by the same allocator.
+ * Pointers created with an allocator (for example {@link nw4j.wrapper.c.pointers.IntPointer#alloc(long, IAllocator)})
+ * remember it and return their memory to it on {@link nw4j.wrapper.c.pointers.VoidPointer#close()}.
+ * Owners that only release memory implement {@link IMemoryOwner}.
+ *
+ * @see IAllocator#DEFAULT
+ * @see SlabAllocator
+ * 
+ * @since 0.8
+ * @author miracle-masterpiece
+ * */
+public interface IAllocator extends IMemoryOwner {
+
+	/**
+	 * Allocator that delegates to {@link MemoryAccessor#malloc(long)}, {@link MemoryAccessor#free(long)} and the rest of the C allocator functions.
+	 * */
+	public static final IAllocator DEFAULT = new IAllocator() {
+
+		@Override
+		public long malloc(long n) {
+			return MemoryAccessor.malloc(n);
+		}
+
+		@Override
+		public long calloc(long count, int typeSize) {
+			return MemoryAccessor.calloc(count, typeSize);
+		}
+
+		@Override
+		public long realloc(long address, long newsize) {
+			return MemoryAccessor.realloc(address, newsize);
+		}
+
+		@Override
+		public void free(long address) {
+			MemoryAccessor.free(address);
+		}
+	};
+
+	/**
+	 * Returns an allocator whose blocks are aligned to alignment bytes.
+	 * @param alignment Alignment in bytes, a power of two.
+	 * 
+	 * @see MemoryAccessor#mallocAligned(long, int)
+	 * */
+	public static IAllocator aligned(int alignment) {
+		return AlignedAllocator.of(alignment);
+	}
+
+	/**
+	 * Creates an allocator that delegates to the C allocator and counts all memory under the tag.
+	 * @param tag Allocation tag, for example "textures".
+	 * 
+	 * @see MemoryAccessor#malloc(long, String)
+	 * @see NativeMemoryMXBean#getTagLiveBytes()
+	 * */
+	public static IAllocator tagged(final String tag) {
+		return new IAllocator() {
+
+			@Override
+			public long malloc(long n) {
+				return MemoryAccessor.malloc(n, tag);
+			}
+
+			@Override
+			public long calloc(long count, int typeSize) {
+				return MemoryAccessor.calloc(count, typeSize, tag);
+			}
+
+			@Override
+			public long realloc(long address, long newsize) {
+				return MemoryAccessor.realloc(address, newsize);
+			}
+
+			@Override
+			public void free(long address) {
+				MemoryAccessor.free(address);
+			}
+		};
+	}
+
+	/**
+	 * Allocates n bytes.
+	 * @param n 	Number of bytes of requested memory.
+	 * @return memory address.
+	 * */
+	public long 	malloc(long n);
+
+	/**
+	 * Allocates storage space for an array of number elements, each of length size bytes. Each element is initialized to 0.
+	 * @param count		Number of elements.
+	 * @param typeSize	Length in bytes of each element.
+	 * */
+	public long 	calloc(long count, int typeSize);
+
+	/**
+	 * Changes the size of a block previously allocated by this allocator.
+	 * @param address	Pointer to previously allocated memory block.
+	 * @param newsize	New size in bytes.
+	 * @return Address of the (possibly moved) block or {@link nw4j.wrapper.c.pointers.VoidPointer#nullptr}.
+	 * */
+	public long 	realloc(long address, long newsize);
+
+	/**
+	 * Releases a block previously allocated by this allocator.
+	 * @param address The address to be released.
+	 * */
+	@Override
+	public void 	free(long address);
+}
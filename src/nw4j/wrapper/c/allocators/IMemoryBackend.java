@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2024, Miracle-Masterpiсe <mrmiraclemasterpiece@gmail.com or https://t.me/MiracleMasterpiece>. All rights reserved.
+ * Use is subject to license terms.
+ * 
+ * 
+ * 
+ * 
+ * 
+ * 
+ * 
+ * 
+ * */
+package nw4j.wrapper.c.allocators;
+
+/**
+ * Interface for implementations of raw memory access used by {@link MemoryAccessor}.
+ * <p>
+ * The backend is selected once, when the {@link MemoryAccessor} class is initialized, using the system property
+ * <code>-DnwMemoryBackend</code>:
+ * <ul>
+ * 	<li><code>segment</code> (default) - loads and stores are performed through a global {@link java.lang.foreign.MemorySegment} and can be intrinsified by the JIT.</li>
+ * 	<li><code>native</code> - each load and store is a downcall into the MemoryAccessor native library.</li>
+ * 	<li>The full name of a class implementing this interface with a public no-argument constructor.</li>
+ * </ul>
+ * Memory allocation is not part of the backend,
+ * so memory allocated by {@link MemoryAccessor#malloc(long)} is accessible through any backend.
+ *
+ * @see MemoryAccessor#getBackendName()
+ *
+ * @since 0.8
+ * @author miracle-masterpiece
+ * */
+public interface IMemoryBackend {
+
+	/**
+	 * @return Returns the name of the backend.
+	 * */
+	public String 	name();
+
+	/**
+	 * Sets all bytes in memory to the specified value.
+	 * @param address	Memory address.
+	 * @param value  	The value that all bytes will receive.
+	 * @param len 		The number of bytes that will be set by the value.
+	 * */
+	public void 	memset(long address, int value, long len);
+
+	/**
+	 * Copies memory values from one address to another.
+	 * @param srcAddress 	Source address.
+	 * @param dstAddress  	The address where the data will be copied.
+	 * @param len  			Length of copied bytes.
+	 * */
+	public void 	memcopy(long srcAddress, long dstAddress, long len);
+
+	public void 	setByte(long address, byte value);
+
+	public void 	setChar(long address, char value);
+
+	public void 	setShort(long address, short value);
+
+	public void 	setInt(long address, int value);
+
+	public void 	setFloat(long address, float value);
+
+	public void 	setLong(long address, long value);
+
+	public void 	setDouble(long address, double value);
+
+	public void 	setBoolean(long address, boolean value);
+
+	public byte 	getByte(long address);
+
+	public char 	getChar(long address);
+
+	public short 	getShort(long address);
+
+	public int 		getInt(long address);
+
+	public float 	getFloat(long address);
+
+	public long 	getLong(long address);
+
+	public double 	getDouble(long address);
+
+	public boolean 	getBoolean(long address);
+}
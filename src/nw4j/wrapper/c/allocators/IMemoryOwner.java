@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2024, Miracle-Masterpiсe <mrmiraclemasterpiece@gmail.com or https://t.me/MiracleMasterpiece>. All rights reserved.
+ * Use is subject to license terms.
+ * 
+ * 
+ * 
+ * 
+ * 
+ * 
+ * 
+ * 
+ * */
+package nw4j.wrapper.c.allocators;
+
+/**
+ * The owner of memory that a pointer returns its memory to on {@link nw4j.wrapper.c.pointers.VoidPointer#close()}.
+ * <p>
+ * Every {@link IAllocator} is an owner. Owners that do not allocate, such as {@link MappedFile}, implement only this interface.
+ *
+ * @see nw4j.wrapper.c.pointers.VoidPointer#allocator()
+ *
+ * @since 0.8
+ * @author miracle-masterpiece
+ * */
+@FunctionalInterface
+public interface IMemoryOwner {
+
+	/**
+	 * Owner of pointers that view memory owned by something else, such as a container.
+	 * Closing such a pointer does nothing.
+	 * 
+	 * @see nw4j.wrapper.c.pointers.VoidPointer#view(nw4j.wrapper.c.pointers.VoidPointer)
+	 * */
+	public static final IMemoryOwner NONE = address -> {};
+
+	/**
+	 * Releases memory owned by this owner.
+	 * @param address The address to be released.
+	 * */
+	public void free(long address);
+}
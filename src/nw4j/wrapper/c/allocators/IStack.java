@@ -14,6 +14,7 @@ package nw4j.wrapper.c.allocators;
 
 import java.io.Closeable;
 
+import nw4j.helpers.Helpers;
 import nw4j.helpers.NativeType;
 import nw4j.wrapper.c.pointers.BooleanPointer;
 import nw4j.wrapper.c.pointers.BytePointer;
@@ -145,6 +146,113 @@ public interface IStack extends AutoCloseable, Closeable{
 	 * */
 	public BooleanPointer 	pushBoolean(int n);
 
+	/*
+	 * Allocation-free variants of the push methods. They point a pointer supplied by the caller to the allocated memory
+	 * instead of creating a new one, so a hot loop can reuse a single pointer object.
+	 * The memory is released by pop() or close() as with the other push methods. dst becomes a view of it, so closing dst releases nothing.
+	 */
+
+	/**
+	 * Allocates memory for n elements of the size of dst and points dst to it.
+	 * The memory is aligned to the element size, or to its largest power of two divisor if the size is not a power of two.
+	 * Not an overload of push, which would make push(n, IntPointer::asAddress) ambiguous.
+	 *
+	 * @return Returns dst.
+	 * @since 0.8
+	 * */
+	public default <T extends VoidPointer> T pushInto(int n, T dst) {
+		final int size = (int)dst.sizeof();
+		return VoidPointer.bind(dst, rawAligned(n * size, Math.max(Integer.lowestOneBit(size), 1)), IMemoryOwner.NONE);
+	}
+
+	/**
+	 * @return Returns dst.
+	 * @since 0.8
+	 * */
+	public default BytePointer pushUTF8(CharSequence str, BytePointer dst) {
+		return VoidPointer.bind(dst, rawUTF8(str), IMemoryOwner.NONE);
+	}
+
+	/**
+	 * Allocates memory for n bytes and points dst to it.
+	 *
+	 * @return Returns dst.
+	 * @since 0.8
+	 * */
+	public default BytePointer pushByte(int n, BytePointer dst) {
+		return VoidPointer.bind(dst, rawByte(n), IMemoryOwner.NONE);
+	}
+
+	/**
+	 * Allocates memory for n chars and points dst to it.
+	 *
+	 * @return Returns dst.
+	 * @since 0.8
+	 * */
+	public default CharPointer pushChar(int n, CharPointer dst) {
+		return VoidPointer.bind(dst, rawChar(n), IMemoryOwner.NONE);
+	}
+
+	/**
+	 * Allocates memory for n shorts and points dst to it.
+	 *
+	 * @return Returns dst.
+	 * @since 0.8
+	 * */
+	public default ShortPointer pushShort(int n, ShortPointer dst) {
+		return VoidPointer.bind(dst, rawShort(n), IMemoryOwner.NONE);
+	}
+
+	/**
+	 * Allocates memory for n ints and points dst to it.
+	 *
+	 * @return Returns dst.
+	 * @since 0.8
+	 * */
+	public default IntPointer pushInt(int n, IntPointer dst) {
+		return VoidPointer.bind(dst, rawInt(n), IMemoryOwner.NONE);
+	}
+
+	/**
+	 * Allocates memory for n floats and points dst to it.
+	 *
+	 * @return Returns dst.
+	 * @since 0.8
+	 * */
+	public default FloatPointer pushFloat(int n, FloatPointer dst) {
+		return VoidPointer.bind(dst, rawFloat(n), IMemoryOwner.NONE);
+	}
+
+	/**
+	 * Allocates memory for n longs and points dst to it.
+	 *
+	 * @return Returns dst.
+	 * @since 0.8
+	 * */
+	public default LongPointer pushLong(int n, LongPointer dst) {
+		return VoidPointer.bind(dst, rawLong(n), IMemoryOwner.NONE);
+	}
+
+	/**
+	 * Allocates memory for n doubles and points dst to it.
+	 *
+	 * @return Returns dst.
+	 * @since 0.8
+	 * */
+	public default DoublePointer pushDouble(int n, DoublePointer dst) {
+		return VoidPointer.bind(dst, rawDouble(n), IMemoryOwner.NONE);
+	}
+
+	/**
+	 * Allocates memory for n booleans and points dst to it.
+	 *
+	 * @return Returns dst.
+	 * @since 0.8
+	 * */
+	public default BooleanPointer pushBoolean(int n, BooleanPointer dst) {
+		return VoidPointer.bind(dst, rawBoolean(n), IMemoryOwner.NONE);
+	}
+
 	/**
 	 * Sets the new stack size.
 	 * If the operation is successful, it returns true, otherwise false.
@@ -236,6 +344,29 @@ public interface IStack extends AutoCloseable, Closeable{
 	 * */
 	public @NativeType("boolean*") long rawBoolean(int n);
 
+	/**
+	 * Allocates n bytes aligned to alignment and returns a raw pointer.
+	 * Use it for SIMD operands (16 bytes) or per-thread structures padded to a cache line.
+	 *
+	 * @param n - Number of bytes to allocate.
+	 * @param alignment - Alignment in bytes, a power of two.
+	 *
+	 * The default implementation takes n + alignment - 1 bytes from {@link IStack#rawByte(int)} and rounds the address up,
+	 * so a single pop() releases the padding too.
+	 *
+	 * @return Address to byte(s).
+	 * @since 0.8
+	 * */
+	public default @NativeType("void*") long rawAligned(int n, int alignment) {
+		if (Helpers.ENABLE_CHECKS) {
+			if (Integer.bitCount(alignment) != 1) {
+				throw new IllegalArgumentException("Alignment is not a power of two: " + alignment);
+			}
+		}
+		final long address = rawByte(n + alignment - 1);
+		return (address + alignment - 1) & -alignment;
+	}
+
 	/**
 	 * Advances the stack pointer back by the size of the previously called push method.
 	 * */
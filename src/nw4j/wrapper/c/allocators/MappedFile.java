@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2024, Miracle-Masterpiсe <mrmiraclemasterpiece@gmail.com or https://t.me/MiracleMasterpiece>. All rights reserved.
+ * Use is subject to license terms.
+ * 
+ * 
+ * 
+ * 
+ * 
+ * 
+ * 
+ * 
+ * */
+package nw4j.wrapper.c.allocators;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import nw4j.helpers.Helpers;
+import nw4j.helpers.NativeType;
+import nw4j.wrapper.c.pointers.VoidPointer;
+
+/**
+ * A region of a file mapped into memory.
+ * <p>
+ * Pages are loaded lazily from the OS page cache, so nothing is copied onto the java heap,
+ * and processes mapping the same file share one physical copy.
+ * The mode is one of {@link MapMode#READ_ONLY}, {@link MapMode#READ_WRITE} (changes are written to the file)
+ * or {@link MapMode#PRIVATE} (copy-on-write, changes stay in this process).
+ * <p>
+ * The mapping is the {@link IMemoryOwner} of pointers created over it, so {@link VoidPointer#close()} on such a pointer unmaps the file.
+ *
+ * try(FloatPointer weights = FloatPointer.map(path, 0, count, MapMode.READ_ONLY)){
+ * 		float w = weights.get(42);
+ * }//the file is unmapped.
+ *
+ * @since 0.8
+ * @author miracle-masterpiece
+ * */
+public final class MappedFile implements IMemoryOwner, AutoCloseable, Closeable{
+
+	private final Arena arena;
+
+	private final MemorySegment segment;
+
+	private final MapMode mode;
+
+	private volatile boolean closed;
+
+	private MappedFile(Arena arena, MemorySegment segment, MapMode mode) {
+		this.arena 		= arena;
+		this.segment 	= segment;
+		this.mode 		= mode;
+	}
+
+	/**
+	 * Maps length bytes of the file starting at offset.
+	 * In {@link MapMode#READ_WRITE} mode the file is created if necessary and grows to offset + length.
+	 *
+	 * @param path 		File to map.
+	 * @param offset 	Position in the file in bytes.
+	 * @param length 	Number of mapped bytes.
+	 * @param mode 		Map mode.
+	 * */
+	public static MappedFile map(Path path, long offset, long length, MapMode mode) throws IOException {
+		final FileChannel channel;
+		if (mode == MapMode.READ_ONLY) {
+			channel = FileChannel.open(path, StandardOpenOption.READ);
+		}else if (mode == MapMode.READ_WRITE) {
+			channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.CREATE);
+		}else {
+			channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+		}
+		return map(channel, offset, length, mode);
+	}
+
+	/**
+	 * Maps a region of an open channel and closes the channel, the mapping stays valid after that.
+	 * */
+	static MappedFile map(FileChannel channel, long offset, long length, MapMode mode) throws IOException {
+		try (channel) {
+			final Arena arena = Arena.ofShared();
+			try {
+				return new MappedFile(arena, channel.map(mode, offset, length, arena), mode);
+			}catch(IOException | RuntimeException e) {
+				arena.close();
+				throw e;
+			}
+		}
+	}
+
+	/**
+	 * @return Returns the address of the first mapped byte.
+	 * */
+	public @NativeType("void*") long address() {
+		return segment.address();
+	}
+
+	/**
+	 * @return Returns the number of mapped bytes.
+	 * */
+	public long size() {
+		return segment.byteSize();
+	}
+
+	public MapMode mode() {
+		return mode;
+	}
+
+	public boolean isClosed() {
+		return closed;
+	}
+
+	/**
+	 * Writes changes made in {@link MapMode#READ_WRITE} mode to the storage device. Does nothing in other modes.
+	 * */
+	public void force() {
+		if (Helpers.ENABLE_CHECKS && closed) {
+			throw new IllegalStateException("MappedFile is closed!");
+		}
+		if (mode == MapMode.READ_WRITE) {
+			segment.force();
+		}
+	}
+
+	/**
+	 * Asks the OS to start reading the mapped pages into memory.
+	 * */
+	public void load() {
+		if (Helpers.ENABLE_CHECKS && closed) {
+			throw new IllegalStateException("MappedFile is closed!");
+		}
+		segment.load();
+	}
+
+	/**
+	 * Unmaps the file. Pointers over the mapping become invalid.
+	 * */
+	@Override
+	public synchronized void close() {
+		if (!closed) {
+			closed = true;
+			arena.close();
+		}
+	}
+
+	/**
+	 * Unmaps the file when a pointer over the mapping is closed.
+	 * */
+	@Override
+	public void free(long address) {
+		if (Helpers.ENABLE_CHECKS) {
+			if (address < segment.address() || address >= segment.address() + segment.byteSize()) {
+				throw new IllegalArgumentException("Address 0x" + Long.toHexString(address) + " does not belong to this mapping!");
+			}
+		}
+		close();
+	}
+}
@@ -12,22 +12,19 @@
  * */
 package nw4j.wrapper.c.allocators;
 
-import static java.lang.foreign.ValueLayout.JAVA_BOOLEAN;
-import static java.lang.foreign.ValueLayout.JAVA_BYTE;
-import static java.lang.foreign.ValueLayout.JAVA_CHAR;
-import static java.lang.foreign.ValueLayout.JAVA_DOUBLE;
-import static java.lang.foreign.ValueLayout.JAVA_FLOAT;
 import static java.lang.foreign.ValueLayout.JAVA_INT;
 import static java.lang.foreign.ValueLayout.JAVA_LONG;
-import static java.lang.foreign.ValueLayout.JAVA_SHORT;
 import static nw4j.helpers.Helpers.getCriticalMethodHandle;
 import java.lang.foreign.FunctionDescriptor;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.SymbolLookup;
 import java.lang.foreign.ValueLayout;
 import java.lang.invoke.MethodHandle;
-import java.util.HashMap;
+import java.lang.invoke.VarHandle;
+import java.util.Collections;
 import java.util.Map;
-import java.util.Map.Entry;
-import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import nw4j.helpers.Funcs;
 import nw4j.helpers.Helpers;
 
 /**
@@ -47,62 +44,68 @@ public final class MemoryAccessor{
 
 	/**
 	 * If the value is set to true, then each allocation and reallocation of memory will be recorded in the log. 
-	 * The address of the allocated memory and the full stack of method calls are stored in the log. Also, all allocations, reallocations and deallocations become synchronized. 
+	 * The address of the allocated memory and the stack of method calls are stored in the log.
+	 * The log is a concurrent table, so allocations from different threads are not serialized.
+	 * The number of captured stack frames is set by -DnwNativeTrackingDepth (32 by default).
 	 * To get a log of unused memory addresses with their stack trace, call the get method.
 	 * 
 	 *
 	 * @see MemoryAccessor#getLog()
-	 * @see MemoryAccessor#activeAllocates
+	 * @see MemoryAccessor#TRACKER
 	 * 
 	 * @since 0.4	 
 	 * * */
 	private static final boolean ENABLE_NATIVE_TRACKING;
 	
 	/**
-	 * A hash card that stores the key, which is the address to the allocated memory, 
-	 * as well as an object that stores the size of the allocated memory in bytes 
-	 * and the stack of methods by which the memory was allocated
+	 * Table of live allocations, or null if tracking is disabled.
 	 * 
 	 * @see MemoryAccessor#getLog()
-	 * @since 0.4	
+	 * @since 0.8	
 	 * */
-	private static final HashMap<Long, AllocateInfoStorage> activeAllocates;
+	private static final NativeAllocationTracker TRACKER;
 
-	private static final class AllocateInfoStorage{
-		final StackTraceElement[] stackTrace;
-		final long allocSize;
+	/**
+	 * If the value is set to true, counters of allocated and freed native memory are updated on each allocation.
+	 * Enabled by default, disabled with -DnwDisableNativeMemoryStatistics=true.
+	 * 
+	 * @see MemoryAccessor#getStatistics()
+	 * @since 0.8
+	 * */
+	private static final boolean ENABLE_STATISTICS;
 
-		public AllocateInfoStorage(StackTraceElement[] stackTrace, long allocSize) {
-			this.stackTrace = stackTrace;
-			this.allocSize = allocSize;
-		}
+	private static final NativeMemoryStatistics STATISTICS = new NativeMemoryStatistics();
+
+	/**
+	 * If the value is set to true, the allocation site is captured for roughly one in -DnwNativeSamplingInterval bytes.
+	 * Disabled by default, the interval 0 disables sampling.
+	 * 
+	 * @see MemoryAccessor#getSamplingReport()
+	 * @since 0.8
+	 * */
+	private static final boolean ENABLE_SAMPLING;
+
+	private static final NativeAllocationSampler SAMPLER;
 
-		@Override
-		public String toString() {
-			StringBuilder sb = new StringBuilder();
-			for (int i = 0; i < stackTrace.length; ++i) {
-				StackTraceElement e = stackTrace[i];
-				sb.append(e).append("\n");
-			}
-			return sb.toString();
-		}
-	}
-	
 	static {
 		
 		String prop = System.getProperty("enableNativeTracking");
 		
-		if (prop != null) {
-			if (prop.equals("true")) {
-				ENABLE_NATIVE_TRACKING = true;
-				activeAllocates = new HashMap<>();
-			}else {
-				ENABLE_NATIVE_TRACKING = false;
-				activeAllocates = null;
-			}
+		if (prop != null && prop.equals("true")) {
+			ENABLE_NATIVE_TRACKING = true;
+			TRACKER = new NativeAllocationTracker(Integer.getInteger("nwNativeTrackingDepth", 32));
 		}else {
 			ENABLE_NATIVE_TRACKING = false;
-			activeAllocates = null;
+			TRACKER = null;
+		}
+
+		final long samplingInterval = Long.getLong("nwNativeSamplingInterval", 0);
+		if (samplingInterval > 0) {
+			ENABLE_SAMPLING = true;
+			SAMPLER = new NativeAllocationSampler(samplingInterval, Integer.getInteger("nwNativeTrackingDepth", 32));
+		}else {
+			ENABLE_SAMPLING = false;
+			SAMPLER = null;
 		}
 	}
 
@@ -117,62 +120,121 @@ public final class MemoryAccessor{
 	/**@see {@link MemoryAccessor#realloc(long, long)}*/
 	private static final MethodHandle reallocateMemory;
 
-	/**@see {@link MemoryAccessor#memset(long, int, long)}*/
-	private static final MethodHandle setMemory;
-
 	/**@see {@link MemoryAccessor#calloc(long)}*/
 	private static final MethodHandle callocateMemory;
 
-	/**@see {@link MemoryAccessor#memcopy(long, long, long)}*/
-	private static final MethodHandle copyMemory;
+	/**@see {@link MemoryAccessor#blockSize(long)}*/
+	private static final MethodHandle memoryBlockSize;
 
-	/**@see {@link MemoryAccessor#setByte}*/
-	private static final MethodHandle setByte;
+	/**@see {@link MemoryAccessor#calloc(long, int)}*/
+	private static final MethodHandle mapAnonymous;
 
-	/**@see {@link MemoryAccessor#setChar(long, char)}*/
-	private static final MethodHandle setChar;
+	/**@see {@link MemoryAccessor#malloc(long)}*/
+	private static final MethodHandle mapHugePages;
 
-	/**@see {@link MemoryAccessor#setShort(long, short)}*/
-	private static final MethodHandle setShort;
+	/**@see {@link MemoryAccessor#memmove(long, long, long)}*/
+	private static final MethodHandle moveMemory;
 
-	/**@see {@link MemoryAccessor#setInt(long, int)}*/
-	private static final MethodHandle setInt;
+	/**@see {@link MemoryAccessor#memcmp(long, long, long)}*/
+	private static final MethodHandle compareMemory;
 
-	/**@see {@link MemoryAccessor#setFloat(long, float)}*/
-	private static final MethodHandle setFloat;
+	/**@see {@link MemoryAccessor#mismatch(long, long, long)}*/
+	private static final MethodHandle mismatchMemory;
 
-	/**@see {@link MemoryAccessor#setLong(long, long)}*/
-	private static final MethodHandle setLong;
+	/**@see {@link MemoryAccessor#indexOf(long, long, byte)}*/
+	private static final MethodHandle indexOfByte;
 
-	/**@see {@link MemoryAccessor#setDouble(long, double)}*/
-	private static final MethodHandle setDouble;
+	/**@see {@link MemoryAccessor#fillShort(long, long, short)}*/
+	private static final MethodHandle fillShort;
 
-	/**@see {@link MemoryAccessor#setBoolean}*/
-	private static final MethodHandle setBoolean;
+	/**@see {@link MemoryAccessor#fillInt(long, long, int)}*/
+	private static final MethodHandle fillInt;
 
-	/**@see {@link MemoryAccessor#getByte(long)}*/
-	private static final MethodHandle getByte;
+	/**@see {@link MemoryAccessor#fillLong(long, long, long)}*/
+	private static final MethodHandle fillLong;
 
-	/**@see {@link MemoryAccessor#getChar(long)}*/
-	private static final MethodHandle getChar;
+	/**@see {@link MemoryAccessor#swapOrder16(long, long, long)}*/
+	private static final MethodHandle swapOrder16;
 
-	/**@see {@link MemoryAccessor#getShort(long)}*/
-	private static final MethodHandle getShort;
+	/**@see {@link MemoryAccessor#swapOrder32(long, long, long)}*/
+	private static final MethodHandle swapOrder32;
 
-	/**@see {@link MemoryAccessor#getInt(long)}*/
-	private static final MethodHandle getInt;
+	/**@see {@link MemoryAccessor#swapOrder64(long, long, long)}*/
+	private static final MethodHandle swapOrder64;
 
-	/**@see {@link MemoryAccessor#getFloat(long)}*/
-	private static final MethodHandle getFloat;
+	/**@see {@link MemoryAccessor#memcopyNonTemporal(long, long, long)}*/
+	private static final MethodHandle copyMemoryNonTemporal;
 
-	/**@see {@link MemoryAccessor#getLong(long)}*/
-	private static final MethodHandle getLong;
+	/**@see {@link MemoryAccessor#free(long)}*/
+	private static final MethodHandle unmapMemory;
+
+	/**
+	 * Size of a virtual memory page in bytes.
+	 * @since 0.8
+	 * */
+	public static final long PAGE_SIZE;
 
-	/**@see {@link MemoryAccessor#getDouble(long)}*/
-	private static final MethodHandle getDouble;
+	/**
+	 * Zeroed requests of at least this many bytes are served by anonymous pages mapped directly from the OS,
+	 * which the kernel zeroes lazily on first touch. Set by -DnwCallocMmapThreshold, 0 disables the mapping.
+	 * 
+	 * @see MemoryAccessor#calloc(long, int)
+	 * @since 0.8
+	 * */
+	private static final long CALLOC_MMAP_THRESHOLD;
 
-	/**@see {@link MemoryAccessor#getBoolean(long)}*/
-	private static final MethodHandle getBoolean;
+	/**
+	 * Size of a huge page. 2 MiB on x86-64 and on aarch64 with 4 KiB base pages.
+	 * @since 0.8
+	 * */
+	public static final long HUGE_PAGE_SIZE = Long.getLong("nwHugePageSize", 2 * 1024 * 1024);
+
+	/**
+	 * Requests of at least this many bytes are mapped aligned to {@link MemoryAccessor#HUGE_PAGE_SIZE} and advised to use transparent huge pages,
+	 * which reduces TLB misses when large buffers are scanned. Set by -DnwHugePageThreshold, 0 (the default) disables huge pages.
+	 * With -DnwUseHugeTLB=true pages reserved in hugetlbfs are tried first.
+	 * 
+	 * @see NativeMemoryMXBean#getHugePageBytes()
+	 * @since 0.8
+	 * */
+	private static final long HUGE_PAGE_THRESHOLD;
+
+	private static final boolean USE_HUGE_TLB = Boolean.getBoolean("nwUseHugeTLB");
+
+	/**
+	 * Key is the address of a block mapped directly from the OS, by {@link MemoryAccessor#calloc(long, int)} or the huge page path.
+	 * Such blocks must be released with munmap instead of free.
+	 * */
+	private static final ConcurrentHashMap<Long, Mapping> MAPPED_BLOCKS = new ConcurrentHashMap<>();
+
+	private static final class Mapping{
+		/**Mapped length in bytes.*/
+		final long length;
+		final boolean huge;
+
+		Mapping(long length, boolean huge) {
+			this.length = length;
+			this.huge 	= huge;
+		}
+	}
+
+	/**
+	 * Implementation of loads, stores and block operations.
+	 * 
+	 * @see IMemoryBackend
+	 * @since 0.8
+	 * */
+	private static final IMemoryBackend BACKEND;
+
+	/**
+	 * Var handles of aligned int and long values with coordinates (MemorySegment, long offset), used on {@link SegmentMemoryBackend#GLOBAL}.
+	 * Atomic access modes require the address to be aligned to the size of the value.
+	 * 
+	 * @see MemoryAccessor#compareAndSetInt(long, int, int)
+	 * @since 0.8
+	 * */
+	private static final VarHandle INT_HANDLE 	= ValueLayout.JAVA_INT.varHandle();
+	private static final VarHandle LONG_HANDLE 	= ValueLayout.JAVA_LONG.varHandle();
 
 	/**
 	 * Stores the length in bytes of native primitive types.
@@ -195,27 +257,33 @@ public final class MemoryAccessor{
 		allocateMemory 		= getCriticalMethodHandle(new String(new char[]{'a','l','l','o','c','a','t','e','M','e','m','o','r','y'}), FunctionDescriptor.of(JAVA_LONG, JAVA_LONG));
 		freeMemory 			= getCriticalMethodHandle(new String(new char[]{'f','r','e','e','M','e','m','o','r','y'}), FunctionDescriptor.ofVoid(JAVA_LONG));
 		reallocateMemory 	= getCriticalMethodHandle(new String(new char[]{'r','e','a','l','l','o','c','a','t','e','M','e','m','o','r','y'}), FunctionDescriptor.of(JAVA_LONG, JAVA_LONG, JAVA_LONG));
-		setMemory 			= getCriticalMethodHandle(new String(new char[]{'s','e','t','M','e','m','o','r','y'}), FunctionDescriptor.ofVoid(JAVA_LONG, JAVA_INT, JAVA_LONG));
 		callocateMemory 	= getCriticalMethodHandle(new String(new char[]{'c','a','l','l','o','c','a','t','e','M','e','m','o','r','y'}), FunctionDescriptor.of(JAVA_LONG, JAVA_LONG, JAVA_INT));
-		copyMemory 			= getCriticalMethodHandle(new String(new char[]{'c','o','p','y','M','e','m','o','r','y'}), FunctionDescriptor.ofVoid(JAVA_LONG, JAVA_LONG, JAVA_LONG));
-
-		setByte				= getCriticalMethodHandle(new String(new char[]{'s','e','t','B','y','t','e'}), 	FunctionDescriptor.ofVoid(JAVA_LONG, JAVA_BYTE));
-		setChar				= getCriticalMethodHandle(new String(new char[]{'s','e','t','C','h','a','r'}), 	FunctionDescriptor.ofVoid(JAVA_LONG, JAVA_CHAR));
-		setShort			= getCriticalMethodHandle(new String(new char[]{'s','e','t','S','h','o','r','t'}), 	FunctionDescriptor.ofVoid(JAVA_LONG, JAVA_SHORT));
-		setInt				= getCriticalMethodHandle(new String(new char[]{'s','e','t','I','n','t'}), 	FunctionDescriptor.ofVoid(JAVA_LONG, JAVA_INT));
-		setFloat			= getCriticalMethodHandle(new String(new char[]{'s','e','t','F','l','o','a','t'}), 	FunctionDescriptor.ofVoid(JAVA_LONG, JAVA_FLOAT));
-		setLong				= getCriticalMethodHandle(new String(new char[]{'s','e','t','L','o','n','g'}), 	FunctionDescriptor.ofVoid(JAVA_LONG, JAVA_LONG));
-		setDouble			= getCriticalMethodHandle(new String(new char[]{'s','e','t','D','o','u','b','l','e'}), 	FunctionDescriptor.ofVoid(JAVA_LONG, JAVA_DOUBLE));
-		setBoolean			= getCriticalMethodHandle(new String(new char[]{'s','e','t','B','o','o','l','e','a','n'}), FunctionDescriptor.ofVoid(JAVA_LONG, JAVA_BOOLEAN));
-
-		getByte				= getCriticalMethodHandle(new String(new char[]{'g','e','t','B','y','t','e'}), 	FunctionDescriptor.of(JAVA_BYTE, JAVA_LONG));
-		getChar				= getCriticalMethodHandle(new String(new char[]{'g','e','t','C','h','a','r'}), 	FunctionDescriptor.of(JAVA_CHAR, JAVA_LONG));
-		getShort			= getCriticalMethodHandle(new String(new char[]{'g','e','t','S','h','o','r','t'}), 	FunctionDescriptor.of(JAVA_SHORT, JAVA_LONG));
-		getInt				= getCriticalMethodHandle(new String(new char[]{'g','e','t','I','n','t'}), 	FunctionDescriptor.of(JAVA_INT, JAVA_LONG));
-		getFloat			= getCriticalMethodHandle(new String(new char[]{'g','e','t','F','l','o','a','t'}), 	FunctionDescriptor.of(JAVA_FLOAT, JAVA_LONG));
-		getLong				= getCriticalMethodHandle(new String(new char[]{'g','e','t','L','o','n','g'}), 	FunctionDescriptor.of(JAVA_LONG, JAVA_LONG));
-		getDouble			= getCriticalMethodHandle(new String(new char[]{'g','e','t','D','o','u','b','l','e'}), 	FunctionDescriptor.of(JAVA_DOUBLE, JAVA_LONG));
-		getBoolean			= getCriticalMethodHandle(new String(new char[]{'g','e','t','B','o','o','l','e','a','n'}), FunctionDescriptor.of(JAVA_BOOLEAN, JAVA_LONG));
+		memoryBlockSize 	= getOptionalMethodHandle(new String(new char[]{'m','e','m','o','r','y','B','l','o','c','k','S','i','z','e'}), FunctionDescriptor.of(JAVA_LONG, JAVA_LONG));
+		mapAnonymous 		= getOptionalMethodHandle(new String(new char[]{'m','a','p','A','n','o','n','y','m','o','u','s'}), FunctionDescriptor.of(JAVA_LONG, JAVA_LONG));
+		mapHugePages 		= getOptionalMethodHandle(new String(new char[]{'m','a','p','H','u','g','e','P','a','g','e','s'}), FunctionDescriptor.of(JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_INT));
+		moveMemory 			= getOptionalMethodHandle(new String(new char[]{'m','o','v','e','M','e','m','o','r','y'}), FunctionDescriptor.ofVoid(JAVA_LONG, JAVA_LONG, JAVA_LONG));
+		compareMemory 		= getOptionalMethodHandle(new String(new char[]{'c','o','m','p','a','r','e','M','e','m','o','r','y'}), FunctionDescriptor.of(JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_LONG));
+		mismatchMemory 		= getOptionalMethodHandle(new String(new char[]{'m','i','s','m','a','t','c','h','M','e','m','o','r','y'}), FunctionDescriptor.of(JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG));
+		indexOfByte 		= getOptionalMethodHandle(new String(new char[]{'i','n','d','e','x','O','f','B','y','t','e'}), FunctionDescriptor.of(JAVA_LONG, JAVA_LONG, JAVA_LONG, ValueLayout.JAVA_BYTE));
+		fillShort 			= getOptionalMethodHandle(new String(new char[]{'f','i','l','l','S','h','o','r','t'}), FunctionDescriptor.ofVoid(JAVA_LONG, JAVA_LONG, ValueLayout.JAVA_SHORT));
+		fillInt 			= getOptionalMethodHandle(new String(new char[]{'f','i','l','l','I','n','t'}), FunctionDescriptor.ofVoid(JAVA_LONG, JAVA_LONG, JAVA_INT));
+		fillLong 			= getOptionalMethodHandle(new String(new char[]{'f','i','l','l','L','o','n','g'}), FunctionDescriptor.ofVoid(JAVA_LONG, JAVA_LONG, JAVA_LONG));
+		swapOrder16 		= getOptionalMethodHandle(new String(new char[]{'s','w','a','p','O','r','d','e','r','1','6'}), FunctionDescriptor.ofVoid(JAVA_LONG, JAVA_LONG, JAVA_LONG));
+		swapOrder32 		= getOptionalMethodHandle(new String(new char[]{'s','w','a','p','O','r','d','e','r','3','2'}), FunctionDescriptor.ofVoid(JAVA_LONG, JAVA_LONG, JAVA_LONG));
+		swapOrder64 		= getOptionalMethodHandle(new String(new char[]{'s','w','a','p','O','r','d','e','r','6','4'}), FunctionDescriptor.ofVoid(JAVA_LONG, JAVA_LONG, JAVA_LONG));
+		copyMemoryNonTemporal = getOptionalMethodHandle(new String(new char[]{'c','o','p','y','M','e','m','o','r','y','N','o','n','T','e','m','p','o','r','a','l'}), FunctionDescriptor.ofVoid(JAVA_LONG, JAVA_LONG, JAVA_LONG));
+		unmapMemory 		= getOptionalMethodHandle(new String(new char[]{'u','n','m','a','p','M','e','m','o','r','y'}), FunctionDescriptor.of(JAVA_INT, JAVA_LONG, JAVA_LONG));
+
+		ENABLE_STATISTICS 		= !"true".equals(System.getProperty("nwDisableNativeMemoryStatistics"));
+		CALLOC_MMAP_THRESHOLD 	= mapAnonymous != null ? Long.getLong("nwCallocMmapThreshold", 2 * 1024 * 1024) : 0;
+		HUGE_PAGE_THRESHOLD 	= mapHugePages != null ? Long.getLong("nwHugePageThreshold", 0) : 0;
+
+		BACKEND = createBackend(System.getProperty("nwMemoryBackend"));
+
+		//Off by default: registering starts the platform MBean server, which is too slow for class initialization.
+		if (ENABLE_STATISTICS && "true".equals(System.getProperty("nwNativeMemoryMBean"))) {
+			STATISTICS.register();
+		}
 
 		try {			
 			NATIVE_SIZEOF_CHAR 			= (byte)getCriticalMethodHandle("sizeofChar", 		FunctionDescriptor.of(ValueLayout.JAVA_BYTE)).invoke();
@@ -227,56 +295,109 @@ public final class MemoryAccessor{
 			NATIVE_SIZEOF_POINTER 		= (byte)getCriticalMethodHandle("sizeofPointer", 	FunctionDescriptor.of(ValueLayout.JAVA_BYTE)).invoke();
 			NATIVE_SIZEOF_LONG_DOUBLE 	= (byte)getCriticalMethodHandle("sizeofLongDouble", FunctionDescriptor.of(ValueLayout.JAVA_BYTE)).invoke();
 			NATIVE_SIZEOF_LONG_LONG		= (byte)getCriticalMethodHandle("sizeofLongLong", 	FunctionDescriptor.of(ValueLayout.JAVA_BYTE)).invoke();
+			final MethodHandle pageSize = getOptionalMethodHandle("pageSize", FunctionDescriptor.of(JAVA_LONG));
+			PAGE_SIZE 					= pageSize != null ? (long)pageSize.invoke() : Long.getLong("nwPageSize", 4096);
 			System.gc();
 		}catch(Throwable t) {
 			throw new RuntimeException(t);
 		}
 	}
 
+	/**
+	 * Binds a function added in 0.8. A library built from older sources does not export it,
+	 * then null is returned and the caller falls back to a java implementation or disables the feature.
+	 * */
+	private static MethodHandle getOptionalMethodHandle(String name, FunctionDescriptor desc) {
+		return SymbolLookup.loaderLookup().find(name).isPresent() ? getCriticalMethodHandle(name, desc) : null;
+	}
+
+	//-DnwMemoryBackend=segment|native|<class name>
+	private static IMemoryBackend createBackend(String name) {
+		if (name == null || name.equals("segment")) {
+			return new SegmentMemoryBackend();
+		}else if (name.equals("native")) {
+			return new NativeMemoryBackend();
+		}
+		try {
+			return (IMemoryBackend)Class.forName(name).getDeclaredConstructor().newInstance();
+		}catch(ReflectiveOperationException | ClassCastException e) {
+			throw new RuntimeException("Unknown memory backend: " + name, e);
+		}
+	}
+
 	/**
 	 * Allocates memory outside the java heap of size n.
 	 * @param n 	Number of bytes of requested memory.
 	 * @return memory address.
 	 * */
 	public static long malloc(long n) {
+		return malloc(n, null);
+	}
+
+	/**
+	 * Allocates memory outside the java heap of size n and counts it under the tag.
+	 * @param n 	Number of bytes of requested memory.
+	 * @param tag 	Allocation tag, for example "textures", or null.
+	 * @return memory address.
+	 * 
+	 * @see NativeMemoryMXBean#getTagLiveBytes()
+	 * @since 0.8
+	 * */
+	public static long malloc(long n, String tag) {
 		try {
-			
-			
-			if (ENABLE_NATIVE_TRACKING) {
-				synchronized (MemoryAccessor.class) {
-					StackTraceElement[] stack = Thread.currentThread().getStackTrace();
-					@NativeType(" void* ") final long pointer = (long)allocateMemory.invoke(n); 
-					if (pointer != VoidPointer.nullptr)  
-						activeAllocates.put(pointer, new AllocateInfoStorage(stack, n));
-					return pointer;
-				}
-			}else {			
-				return (long)allocateMemory.invoke(n);
+			if (HUGE_PAGE_THRESHOLD > 0 && n >= HUGE_PAGE_THRESHOLD) {
+				return allocated(mapHuge(n), n, tag);
 			}
-		
-		
-		
+			return allocated((long)allocateMemory.invoke(n), n, tag);
 		} catch (Throwable e) {throw new RuntimeException(e);}
 	}
+
+	/**
+	 * Registers a new block in the tracking log, the sampler and the statistics.
+	 * @return The transmitted address.
+	 * */
+	private static long allocated(@NativeType(" void* ") long pointer, long size, String tag) {
+		if (pointer != VoidPointer.nullptr) {
+			if (ENABLE_NATIVE_TRACKING) {
+				TRACKER.onAllocate(pointer, size);
+			}
+			if (ENABLE_SAMPLING) {
+				SAMPLER.onAllocate(pointer, size);
+			}
+			if (ENABLE_STATISTICS) {
+				STATISTICS.onAllocate(pointer, size, tag);
+			}
+		}
+		return pointer;
+	}
 	
 	/**
 	 * Frees memory allocated outside the java heap.
 	 * @param addres The address to be released.
 	 * */
 	public static void free(long address) {
-		if (ENABLE_NATIVE_TRACKING) {
-			synchronized (MemoryAccessor.class) {
-				try {
-					activeAllocates.remove(address);
-					freeMemory.invoke(address);
-				} catch (Throwable e) {throw new RuntimeException(e);}			
+		if (address != VoidPointer.nullptr) {
+			//Must happen before the memory is released, otherwise another thread may receive the same address and register it first.
+			if (ENABLE_NATIVE_TRACKING) {
+				TRACKER.onFree(address);
+			}
+			if (ENABLE_SAMPLING) {
+				SAMPLER.onFree(address);
+			}
+			if (ENABLE_STATISTICS) {
+				STATISTICS.onFree(address);
 			}
-		}else {
-			try {
-				freeMemory.invoke(address);
-			} catch (Throwable e) {throw new RuntimeException(e);}			
 		}
-
+		try {
+			if (!MAPPED_BLOCKS.isEmpty()) {
+				final Mapping mapping = MAPPED_BLOCKS.remove(address);
+				if (mapping != null) {
+					unmap(address, mapping);
+					return;
+				}
+			}
+			freeMemory.invoke(address);
+		} catch (Throwable e) {throw new RuntimeException(e);}			
 	}
 
 	/**
@@ -292,17 +413,236 @@ public final class MemoryAccessor{
 	 * */
 	public static long realloc(long address, long newsize) {
 		try {
-			
-			if (ENABLE_NATIVE_TRACKING) {
-				long newAddress = (long) reallocateMemory.invoke(address, newsize);
-				if (newAddress != VoidPointer.nullptr && newAddress != address) {
-					activeAllocates.remove(address);
-					activeAllocates.put(newAddress, new AllocateInfoStorage(Thread.currentThread().getStackTrace(), newsize));
+			if ((!ENABLE_NATIVE_TRACKING && !ENABLE_SAMPLING && !ENABLE_STATISTICS) || address == VoidPointer.nullptr) {
+				return allocated(reallocate(address, newsize), newsize, null);
+			}
+
+			//The old block is unregistered first: once realloc moves the block, another thread may be given the old address.
+			final NativeAllocationTracker.AllocateInfoStorage info = ENABLE_NATIVE_TRACKING ? TRACKER.onFree(address) : null;
+			final NativeAllocationSampler.Sample sample = ENABLE_SAMPLING ? SAMPLER.onFree(address) : null;
+			final NativeMemoryStatistics.Block block = ENABLE_STATISTICS ? STATISTICS.onFree(address) : null;
+
+			final long newAddress = reallocate(address, newsize);
+			if (newAddress != VoidPointer.nullptr) {
+				allocated(newAddress, newsize, block == null ? null : block.tag());
+			}else if (newsize != 0) {
+				//The original block is left unchanged.
+				if (ENABLE_NATIVE_TRACKING) {
+					TRACKER.restore(address, info);
+				}
+				if (ENABLE_SAMPLING) {
+					SAMPLER.restore(address, sample);
+				}
+				if (block != null) {
+					STATISTICS.restore(address, block);
 				}
-				return newAddress;
-			}else {				
-				return (long)reallocateMemory.invoke(address, newsize);
 			}
+			return newAddress;
+		} catch (Throwable e) {throw new RuntimeException(e);}
+	}
+
+	/**
+	 * Length in bytes of a cache line. Structures written by different threads should be aligned and padded to this size to avoid false sharing.
+	 * @since 0.8
+	 * */
+	public static final int CACHE_LINE_SIZE = 64;
+
+	/**
+	 * Size of the header written by {@link MemoryAccessor#mallocAligned(long, int)} before the aligned address.
+	 * */
+	private static final int ALIGNED_HEADER_SIZE = VoidPointer.LONG_SIZE * 2;
+
+	/**
+	 * Allocates n bytes aligned to alignment, for example 16 for SSE loads or {@link MemoryAccessor#CACHE_LINE_SIZE}.
+	 * <p>
+	 * The block is taken from {@link MemoryAccessor#malloc(long)} with alignment + 15 spare bytes.
+	 * The 16 bytes right before the returned address hold the requested size and the original address, in that order.
+	 * The block must be released by {@link MemoryAccessor#freeAligned(long)}.
+	 * 
+	 * @param n 		Number of bytes of requested memory.
+	 * @param alignment	Alignment in bytes, a power of two.
+	 * @return memory address, or NULL.
+	 * @since 0.8
+	 * */
+	public static long mallocAligned(long n, int alignment) {
+		if (Helpers.ENABLE_CHECKS) {
+			if (Integer.bitCount(alignment) != 1) {
+				throw new IllegalArgumentException("Alignment is not a power of two: " + alignment);
+			}
+		}
+		alignment = Math.max(alignment, VoidPointer.LONG_SIZE);
+		@NativeType(" void* ") final long block = malloc(n + alignment + ALIGNED_HEADER_SIZE - 1);
+		if (block == VoidPointer.nullptr) {
+			return VoidPointer.nullptr;
+		}
+		final long address = (block + ALIGNED_HEADER_SIZE + alignment - 1) & -alignment;
+		setLong(address - ALIGNED_HEADER_SIZE, n);
+		setLong(address - VoidPointer.LONG_SIZE, block);
+		return address;
+	}
+
+	/**
+	 * Allocates count * typeSize zeroed bytes aligned to alignment. The block must be released by {@link MemoryAccessor#freeAligned(long)}.
+	 * <p>
+	 * Requests that {@link MemoryAccessor#calloc(long, int)} maps from the OS are passed to it if alignment is at most {@link MemoryAccessor#PAGE_SIZE}:
+	 * the pages are already aligned and zeroed lazily, so they are neither over-allocated nor touched by a memset.
+	 * 
+	 * @param count		Number of elements.
+	 * @param typeSize	Length in bytes of each element.
+	 * @param alignment	Alignment in bytes, a power of two.
+	 * @return memory address, or NULL.
+	 * @since 0.8
+	 * */
+	public static long callocAligned(long count, int typeSize, int alignment) {
+		if (Helpers.ENABLE_CHECKS) {
+			if (Integer.bitCount(alignment) != 1) {
+				throw new IllegalArgumentException("Alignment is not a power of two: " + alignment);
+			}
+		}
+		final long n = count * typeSize;
+		if (alignment <= PAGE_SIZE && ((HUGE_PAGE_THRESHOLD > 0 && n >= HUGE_PAGE_THRESHOLD) || (CALLOC_MMAP_THRESHOLD > 0 && n >= CALLOC_MMAP_THRESHOLD))) {
+			return calloc(count, typeSize);
+		}
+		final long address = mallocAligned(n, alignment);
+		if (address != VoidPointer.nullptr) {
+			memset(address, 0, n);
+		}
+		return address;
+	}
+
+	/**
+	 * Changes the size of a block allocated by {@link MemoryAccessor#mallocAligned(long, int)}, keeping the alignment.
+	 * If there isn't enough available memory, the original block is left unchanged, and NULL is returned.
+	 * If newsize is zero, the block is freed and NULL is returned.
+	 * 
+	 * @param address	Address returned by {@link MemoryAccessor#mallocAligned(long, int)} or {@link MemoryAccessor#callocAligned(long, int, int)}, or NULL.
+	 * @param newsize	New size in bytes.
+	 * @param alignment	Alignment in bytes, a power of two.
+	 * @since 0.8
+	 * */
+	public static long reallocAligned(long address, long newsize, int alignment) {
+		if (address == VoidPointer.nullptr) {
+			return mallocAligned(newsize, alignment);
+		}
+		if (newsize == 0) {
+			freeAligned(address);
+			return VoidPointer.nullptr;
+		}
+		final long newAddress = mallocAligned(newsize, alignment);
+		if (newAddress == VoidPointer.nullptr) {
+			return VoidPointer.nullptr;
+		}
+		try {
+			final Mapping mapping = MAPPED_BLOCKS.isEmpty() ? null : MAPPED_BLOCKS.get(address);
+			final long oldSize = mapping != null ? mapping.length : getLong(address - ALIGNED_HEADER_SIZE);
+			BACKEND.memcopy(address, newAddress, Math.min(oldSize, newsize));
+		}catch(Throwable e) {
+			freeAligned(newAddress);
+			throw e;
+		}
+		freeAligned(address);
+		return newAddress;
+	}
+
+	/**
+	 * Frees a block allocated by {@link MemoryAccessor#mallocAligned(long, int)} or {@link MemoryAccessor#callocAligned(long, int, int)}.
+	 * @param address The address to be released, or NULL.
+	 * @since 0.8
+	 * */
+	public static void freeAligned(long address) {
+		if (address != VoidPointer.nullptr) {
+			//Pages mapped by callocAligned have no header. The address of a block with a header lies inside its malloc block, so it is never a mapping.
+			free(!MAPPED_BLOCKS.isEmpty() && MAPPED_BLOCKS.containsKey(address) ? address : getLong(address - VoidPointer.LONG_SIZE));
+		}
+	}
+
+	/**
+	 * Reallocates a block, moving blocks mapped from the OS into the C heap or a new mapping.
+	 * */
+	private static long reallocate(long address, long newsize) throws Throwable {
+		final Mapping mapping = MAPPED_BLOCKS.isEmpty() || address == VoidPointer.nullptr ? null : MAPPED_BLOCKS.get(address);
+		if (mapping == null) {
+			return (long)reallocateMemory.invoke(address, newsize);
+		}
+		if (newsize == 0) {
+			MAPPED_BLOCKS.remove(address);
+			unmap(address, mapping);
+			return VoidPointer.nullptr;
+		}
+		if (newsize <= mapping.length && newsize >= (mapping.huge ? HUGE_PAGE_THRESHOLD : CALLOC_MMAP_THRESHOLD)) {
+			return address;
+		}
+		final long newAddress;
+		if (HUGE_PAGE_THRESHOLD > 0 && newsize >= HUGE_PAGE_THRESHOLD) {
+			newAddress = mapHuge(newsize);
+		}else if (CALLOC_MMAP_THRESHOLD > 0 && newsize >= CALLOC_MMAP_THRESHOLD) {
+			newAddress = map(newsize);
+		}else {
+			newAddress = (long)allocateMemory.invoke(newsize);
+		}
+		if (newAddress == VoidPointer.nullptr) {
+			return VoidPointer.nullptr;
+		}
+		BACKEND.memcopy(address, newAddress, Math.min(mapping.length, newsize));
+		MAPPED_BLOCKS.remove(address);
+		unmap(address, mapping);
+		return newAddress;
+	}
+
+	/**
+	 * Maps zeroed anonymous pages and remembers the block so that free and realloc can release it.
+	 * */
+	private static long map(long n) throws Throwable {
+		final long length = (n + PAGE_SIZE - 1) & -PAGE_SIZE;
+		final long address = (long)mapAnonymous.invoke(length);
+		if (address != VoidPointer.nullptr) {
+			MAPPED_BLOCKS.put(address, new Mapping(length, false));
+		}
+		return address;
+	}
+
+	/**
+	 * Maps zeroed pages aligned to {@link MemoryAccessor#HUGE_PAGE_SIZE} that the kernel is advised to back with huge pages.
+	 * */
+	private static long mapHuge(long n) throws Throwable {
+		final long length = (n + HUGE_PAGE_SIZE - 1) & -HUGE_PAGE_SIZE;
+		final long address = (long)mapHugePages.invoke(length, HUGE_PAGE_SIZE, USE_HUGE_TLB ? 1 : 0);
+		if (address != VoidPointer.nullptr) {
+			MAPPED_BLOCKS.put(address, new Mapping(length, true));
+			if (ENABLE_STATISTICS) {
+				STATISTICS.onHugeMap(length);
+			}
+		}
+		return address;
+	}
+
+	private static void unmap(long address, Mapping mapping) throws Throwable {
+		if (mapping.huge && ENABLE_STATISTICS) {
+			STATISTICS.onHugeUnmap(mapping.length);
+		}
+		unmapMemory.invoke(address, mapping.length);
+	}
+
+	/**
+	 * Returns the usable size of a block allocated by {@link MemoryAccessor#malloc(long)}, {@link MemoryAccessor#calloc(long, int)} or {@link MemoryAccessor#realloc(long, long)}.
+	 * The usable size can be larger than the requested size.
+	 * @param address	Address of the block.
+	 * @return Size in bytes.
+	 * @throws UnsupportedOperationException if the native library does not export memoryBlockSize.
+	 * @since 0.8
+	 * */
+	public static long blockSize(long address) {
+		if (!MAPPED_BLOCKS.isEmpty()) {
+			final Mapping mapping = MAPPED_BLOCKS.get(address);
+			if (mapping != null) {
+				return mapping.length;
+			}
+		}
+		if (memoryBlockSize == null) {
+			throw new UnsupportedOperationException("The MemoryAccessor library is out of date and does not export memoryBlockSize");
+		}
+		try {
+			return (long)memoryBlockSize.invoke(address);
 		} catch (Throwable e) {throw new RuntimeException(e);}
 	}
 
@@ -313,25 +653,38 @@ public final class MemoryAccessor{
 	 * @param len 		The number of bytes that will be set by the value.
 	 * */
 	public static void memset(long address, int value, long len) {
-		try {
-			setMemory.invoke(address, value, len);
-		} catch (Throwable e) {throw new RuntimeException(e);}
+		BACKEND.memset(address, value, len);
 	}
 
 	/**
 	 * Allocates storage space for an array of number elements, each of length size bytes. Each element is initialized to 0.
+	 * <p>
+	 * Requests of at least -DnwCallocMmapThreshold bytes (2 MiB by default) are mapped directly from the OS,
+	 * so their pages cost nothing until they are touched. Do not memset the result to zero.
 	 * @param count		Number of elements.
 	 * @param typeSize	Length in bytes of each element.
 	 * */
 	public static long calloc(long count, int typeSize) {
+		return calloc(count, typeSize, null);
+	}
+
+	/**
+	 * Allocates storage space for an array of number elements, each of length size bytes, and counts it under the tag. Each element is initialized to 0.
+	 * @param count		Number of elements.
+	 * @param typeSize	Length in bytes of each element.
+	 * @param tag 		Allocation tag, for example "textures", or null.
+	 * @since 0.8
+	 * */
+	public static long calloc(long count, int typeSize, String tag) {
 		try {
-			if (ENABLE_NATIVE_TRACKING) {
-				@NativeType(" void* ") long pointer = (long)callocateMemory.invoke(count, typeSize);
-				if (pointer != VoidPointer.nullptr) activeAllocates.put(pointer, new AllocateInfoStorage(Thread.currentThread().getStackTrace(), typeSize * count));
-				return pointer;
-			}else {				
-				return (long)callocateMemory.invoke(count, typeSize);
+			final long n = count * typeSize;
+			if (HUGE_PAGE_THRESHOLD > 0 && n >= HUGE_PAGE_THRESHOLD) {
+				return allocated(mapHuge(n), n, tag);
 			}
+			if (CALLOC_MMAP_THRESHOLD > 0 && n >= CALLOC_MMAP_THRESHOLD) {
+				return allocated(map(n), n, tag);
+			}
+			return allocated((long)callocateMemory.invoke(count, typeSize), n, tag);
 		} catch (Throwable e) {throw new RuntimeException(e);}
 	}
 
@@ -342,20 +695,388 @@ public final class MemoryAccessor{
 	 * @param len  			Length of copied bytes.
 	 * */
 	public static void memcopy(long srcAddress, long dstAddress, long len) {
+		BACKEND.memcopy(srcAddress, dstAddress, len);
+	}
+
+	/**
+	 * Copies memory values from one address to another. Unlike {@link MemoryAccessor#memcopy(long, long, long)} the blocks may overlap.
+	 * @param srcAddress 	Source address.
+	 * @param dstAddress  	The address where the data will be copied.
+	 * @param len  			Length of copied bytes.
+	 * @since 0.8
+	 * */
+	public static void memmove(long srcAddress, long dstAddress, long len) {
+		if (moveMemory == null) {
+			MemorySegment.copy(SegmentMemoryBackend.GLOBAL, srcAddress, SegmentMemoryBackend.GLOBAL, dstAddress, len);
+			return;
+		}
+		try {
+			moveMemory.invoke(srcAddress, dstAddress, len);
+		} catch (Throwable e) {throw new RuntimeException(e);}
+	}
+
+	/**
+	 * Copies memory with streaming stores that bypass the CPU cache.
+	 * Faster than {@link MemoryAccessor#memcopy(long, long, long)} for blocks much larger than the last level cache
+	 * that are not read again soon, and it does not evict the working set of other code. The blocks must not overlap.
+	 * @param srcAddress 	Source address.
+	 * @param dstAddress  	The address where the data will be copied.
+	 * @param len  			Length of copied bytes.
+	 * @since 0.8
+	 * */
+	public static void memcopyNonTemporal(long srcAddress, long dstAddress, long len) {
+		if (copyMemoryNonTemporal == null) {
+			BACKEND.memcopy(srcAddress, dstAddress, len);
+			return;
+		}
 		try {
-			copyMemory.invoke(srcAddress, dstAddress, len);
+			copyMemoryNonTemporal.invoke(srcAddress, dstAddress, len);
 		} catch (Throwable e) {throw new RuntimeException(e);}
 	}
 
+	/**
+	 * Compares len bytes as unsigned values.
+	 * @return Returns -1, 0 or 1 if the first block is less than, equal to or greater than the second.
+	 * @since 0.8
+	 * */
+	public static int memcmp(long address1, long address2, long len) {
+		if (compareMemory == null) {
+			final long i = mismatch(address1, address2, len);
+			return i < 0 ? 0 : Integer.signum(Byte.compareUnsigned(getByte(address1 + i), getByte(address2 + i)));
+		}
+		try {
+			return (int)compareMemory.invoke(address1, address2, len);
+		} catch (Throwable e) {throw new RuntimeException(e);}
+	}
+
+	/**
+	 * @return Returns the offset of the first different byte of two blocks of len bytes, or -1 if the blocks are equal.
+	 * @since 0.8
+	 * */
+	public static long mismatch(long address1, long address2, long len) {
+		if (mismatchMemory == null) {
+			return SegmentMemoryBackend.GLOBAL.asSlice(address1, len).mismatch(SegmentMemoryBackend.GLOBAL.asSlice(address2, len));
+		}
+		try {
+			return (long)mismatchMemory.invoke(address1, address2, len);
+		} catch (Throwable e) {throw new RuntimeException(e);}
+	}
+
+	/**
+	 * @return Returns the offset of the first byte equal to value in a block of len bytes, or -1.
+	 * @since 0.8
+	 * */
+	public static long indexOf(long address, long len, byte value) {
+		if (indexOfByte == null) {
+			for (long i = 0; i < len; ++i) {
+				if (getByte(address + i) == value) return i;
+			}
+			return -1;
+		}
+		try {
+			return (long)indexOfByte.invoke(address, len, value);
+		} catch (Throwable e) {throw new RuntimeException(e);}
+	}
+
+	/**
+	 * Reverses the byte order of count 16-bit elements (short, char) copied from srcAddress to dstAddress.
+	 * The addresses may be equal to convert in place.
+	 * @see Funcs#swap_order(short)
+	 * @since 0.8
+	 * */
+	public static void swapOrder16(long srcAddress, long dstAddress, long count) {
+		if (swapOrder16 == null) {
+			for (long i = 0; i < count << 1; i += 2) setShort(dstAddress + i, Short.reverseBytes(getShort(srcAddress + i)));
+			return;
+		}
+		try {
+			swapOrder16.invoke(srcAddress, dstAddress, count);
+		} catch (Throwable e) {throw new RuntimeException(e);}
+	}
+
+	/**
+	 * Reverses the byte order of count 32-bit elements (int, float) copied from srcAddress to dstAddress.
+	 * The addresses may be equal to convert in place.
+	 * @see Funcs#swap_order(int)
+	 * @since 0.8
+	 * */
+	public static void swapOrder32(long srcAddress, long dstAddress, long count) {
+		if (swapOrder32 == null) {
+			for (long i = 0; i < count << 2; i += 4) setInt(dstAddress + i, Integer.reverseBytes(getInt(srcAddress + i)));
+			return;
+		}
+		try {
+			swapOrder32.invoke(srcAddress, dstAddress, count);
+		} catch (Throwable e) {throw new RuntimeException(e);}
+	}
+
+	/**
+	 * Reverses the byte order of count 64-bit elements (long, double) copied from srcAddress to dstAddress.
+	 * The addresses may be equal to convert in place.
+	 * @see Funcs#swap_order(long)
+	 * @since 0.8
+	 * */
+	public static void swapOrder64(long srcAddress, long dstAddress, long count) {
+		if (swapOrder64 == null) {
+			for (long i = 0; i < count << 3; i += 8) setLong(dstAddress + i, Long.reverseBytes(getLong(srcAddress + i)));
+			return;
+		}
+		try {
+			swapOrder64.invoke(srcAddress, dstAddress, count);
+		} catch (Throwable e) {throw new RuntimeException(e);}
+	}
+
+	/**
+	 * Sets count short values starting at address.
+	 * @since 0.8
+	 * */
+	public static void fillShort(long address, long count, short value) {
+		if (fillShort == null) {
+			for (long i = 0; i < count << 1; i += 2) setShort(address + i, value);
+			return;
+		}
+		try {
+			fillShort.invoke(address, count, value);
+		} catch (Throwable e) {throw new RuntimeException(e);}
+	}
+
+	/**
+	 * Sets count char values starting at address.
+	 * @since 0.8
+	 * */
+	public static void fillChar(long address, long count, char value) {
+		fillShort(address, count, (short)value);
+	}
+
+	/**
+	 * Sets count int values starting at address.
+	 * @since 0.8
+	 * */
+	public static void fillInt(long address, long count, int value) {
+		if (fillInt == null) {
+			for (long i = 0; i < count << 2; i += 4) setInt(address + i, value);
+			return;
+		}
+		try {
+			fillInt.invoke(address, count, value);
+		} catch (Throwable e) {throw new RuntimeException(e);}
+	}
+
+	/**
+	 * Sets count float values starting at address.
+	 * @since 0.8
+	 * */
+	public static void fillFloat(long address, long count, float value) {
+		fillInt(address, count, Float.floatToRawIntBits(value));
+	}
+
+	/**
+	 * Sets count long values starting at address.
+	 * @since 0.8
+	 * */
+	public static void fillLong(long address, long count, long value) {
+		if (fillLong == null) {
+			for (long i = 0; i < count << 3; i += 8) setLong(address + i, value);
+			return;
+		}
+		try {
+			fillLong.invoke(address, count, value);
+		} catch (Throwable e) {throw new RuntimeException(e);}
+	}
+
+	/**
+	 * Sets count double values starting at address.
+	 * @since 0.8
+	 * */
+	public static void fillDouble(long address, long count, double value) {
+		fillLong(address, count, Double.doubleToRawLongBits(value));
+	}
+
+	/**
+	 * Returns the segment that starts at address 0 and covers all memory, so offsets in it are raw addresses.
+	 * Lets segment based code, such as Vector API loads and stores, access memory returned by this class without creating a segment per call.
+	 * No bounds or liveness checks are done on it.
+	 * @since 0.8
+	 * */
+	public static MemorySegment globalSegment() {
+		return SegmentMemoryBackend.GLOBAL;
+	}
+
+	/**
+	 * Copies len byte values from a java array into memory with a single block copy.
+	 * @param address	Destination address.
+	 * @param src		Source array.
+	 * @param srcOffset	Index of the first copied element in the array.
+	 * @param len		Number of copied elements.
+	 * @since 0.8
+	 * */
+	public static void copyFrom(long address, byte[] src, int srcOffset, int len) {
+		MemorySegment.copy(src, srcOffset, SegmentMemoryBackend.GLOBAL, ValueLayout.JAVA_BYTE, address, len);
+	}
+
+	/**
+	 * Copies len byte values from memory into a java array with a single block copy.
+	 * @param address	Source address.
+	 * @param dst		Destination array.
+	 * @param dstOffset	Index in the array of the first element to be written.
+	 * @param len		Number of copied elements.
+	 * @since 0.8
+	 * */
+	public static void copyTo(long address, byte[] dst, int dstOffset, int len) {
+		MemorySegment.copy(SegmentMemoryBackend.GLOBAL, ValueLayout.JAVA_BYTE, address, dst, dstOffset, len);
+	}
+
+	/**
+	 * Copies len char values from a java array into memory with a single block copy.
+	 * @param address	Destination address.
+	 * @param src		Source array.
+	 * @param srcOffset	Index of the first copied element in the array.
+	 * @param len		Number of copied elements.
+	 * @since 0.8
+	 * */
+	public static void copyFrom(long address, char[] src, int srcOffset, int len) {
+		MemorySegment.copy(src, srcOffset, SegmentMemoryBackend.GLOBAL, ValueLayout.JAVA_CHAR_UNALIGNED, address, len);
+	}
+
+	/**
+	 * Copies len char values from memory into a java array with a single block copy.
+	 * @param address	Source address.
+	 * @param dst		Destination array.
+	 * @param dstOffset	Index in the array of the first element to be written.
+	 * @param len		Number of copied elements.
+	 * @since 0.8
+	 * */
+	public static void copyTo(long address, char[] dst, int dstOffset, int len) {
+		MemorySegment.copy(SegmentMemoryBackend.GLOBAL, ValueLayout.JAVA_CHAR_UNALIGNED, address, dst, dstOffset, len);
+	}
+
+	/**
+	 * Copies len short values from a java array into memory with a single block copy.
+	 * @param address	Destination address.
+	 * @param src		Source array.
+	 * @param srcOffset	Index of the first copied element in the array.
+	 * @param len		Number of copied elements.
+	 * @since 0.8
+	 * */
+	public static void copyFrom(long address, short[] src, int srcOffset, int len) {
+		MemorySegment.copy(src, srcOffset, SegmentMemoryBackend.GLOBAL, ValueLayout.JAVA_SHORT_UNALIGNED, address, len);
+	}
+
+	/**
+	 * Copies len short values from memory into a java array with a single block copy.
+	 * @param address	Source address.
+	 * @param dst		Destination array.
+	 * @param dstOffset	Index in the array of the first element to be written.
+	 * @param len		Number of copied elements.
+	 * @since 0.8
+	 * */
+	public static void copyTo(long address, short[] dst, int dstOffset, int len) {
+		MemorySegment.copy(SegmentMemoryBackend.GLOBAL, ValueLayout.JAVA_SHORT_UNALIGNED, address, dst, dstOffset, len);
+	}
+
+	/**
+	 * Copies len int values from a java array into memory with a single block copy.
+	 * @param address	Destination address.
+	 * @param src		Source array.
+	 * @param srcOffset	Index of the first copied element in the array.
+	 * @param len		Number of copied elements.
+	 * @since 0.8
+	 * */
+	public static void copyFrom(long address, int[] src, int srcOffset, int len) {
+		MemorySegment.copy(src, srcOffset, SegmentMemoryBackend.GLOBAL, ValueLayout.JAVA_INT_UNALIGNED, address, len);
+	}
+
+	/**
+	 * Copies len int values from memory into a java array with a single block copy.
+	 * @param address	Source address.
+	 * @param dst		Destination array.
+	 * @param dstOffset	Index in the array of the first element to be written.
+	 * @param len		Number of copied elements.
+	 * @since 0.8
+	 * */
+	public static void copyTo(long address, int[] dst, int dstOffset, int len) {
+		MemorySegment.copy(SegmentMemoryBackend.GLOBAL, ValueLayout.JAVA_INT_UNALIGNED, address, dst, dstOffset, len);
+	}
+
+	/**
+	 * Copies len float values from a java array into memory with a single block copy.
+	 * @param address	Destination address.
+	 * @param src		Source array.
+	 * @param srcOffset	Index of the first copied element in the array.
+	 * @param len		Number of copied elements.
+	 * @since 0.8
+	 * */
+	public static void copyFrom(long address, float[] src, int srcOffset, int len) {
+		MemorySegment.copy(src, srcOffset, SegmentMemoryBackend.GLOBAL, ValueLayout.JAVA_FLOAT_UNALIGNED, address, len);
+	}
+
+	/**
+	 * Copies len float values from memory into a java array with a single block copy.
+	 * @param address	Source address.
+	 * @param dst		Destination array.
+	 * @param dstOffset	Index in the array of the first element to be written.
+	 * @param len		Number of copied elements.
+	 * @since 0.8
+	 * */
+	public static void copyTo(long address, float[] dst, int dstOffset, int len) {
+		MemorySegment.copy(SegmentMemoryBackend.GLOBAL, ValueLayout.JAVA_FLOAT_UNALIGNED, address, dst, dstOffset, len);
+	}
+
+	/**
+	 * Copies len long values from a java array into memory with a single block copy.
+	 * @param address	Destination address.
+	 * @param src		Source array.
+	 * @param srcOffset	Index of the first copied element in the array.
+	 * @param len		Number of copied elements.
+	 * @since 0.8
+	 * */
+	public static void copyFrom(long address, long[] src, int srcOffset, int len) {
+		MemorySegment.copy(src, srcOffset, SegmentMemoryBackend.GLOBAL, ValueLayout.JAVA_LONG_UNALIGNED, address, len);
+	}
+
+	/**
+	 * Copies len long values from memory into a java array with a single block copy.
+	 * @param address	Source address.
+	 * @param dst		Destination array.
+	 * @param dstOffset	Index in the array of the first element to be written.
+	 * @param len		Number of copied elements.
+	 * @since 0.8
+	 * */
+	public static void copyTo(long address, long[] dst, int dstOffset, int len) {
+		MemorySegment.copy(SegmentMemoryBackend.GLOBAL, ValueLayout.JAVA_LONG_UNALIGNED, address, dst, dstOffset, len);
+	}
+
+	/**
+	 * Copies len double values from a java array into memory with a single block copy.
+	 * @param address	Destination address.
+	 * @param src		Source array.
+	 * @param srcOffset	Index of the first copied element in the array.
+	 * @param len		Number of copied elements.
+	 * @since 0.8
+	 * */
+	public static void copyFrom(long address, double[] src, int srcOffset, int len) {
+		MemorySegment.copy(src, srcOffset, SegmentMemoryBackend.GLOBAL, ValueLayout.JAVA_DOUBLE_UNALIGNED, address, len);
+	}
+
+	/**
+	 * Copies len double values from memory into a java array with a single block copy.
+	 * @param address	Source address.
+	 * @param dst		Destination array.
+	 * @param dstOffset	Index in the array of the first element to be written.
+	 * @param len		Number of copied elements.
+	 * @since 0.8
+	 * */
+	public static void copyTo(long address, double[] dst, int dstOffset, int len) {
+		MemorySegment.copy(SegmentMemoryBackend.GLOBAL, ValueLayout.JAVA_DOUBLE_UNALIGNED, address, dst, dstOffset, len);
+	}
+
 	/**
 	 * Sets the byte value to a memory address.
 	 * @param address	Address(Raw pointer).
 	 * @param value 	Value.
 	 * */
 	public static void setByte(long address, byte value) {
-		try {
-			setByte.invoke(address, value);
-		} catch (Throwable e) {throw new RuntimeException(e);}
+		BACKEND.setByte(address, value);
 	}
 
 	/**
@@ -364,9 +1085,7 @@ public final class MemoryAccessor{
 	 * @param value 	Value.
 	 * */
 	public static void setChar(long address, char value) {
-		try {
-			setChar.invoke(address, value);
-		} catch (Throwable e) {throw new RuntimeException(e);}
+		BACKEND.setChar(address, value);
 	}
 
 	/**
@@ -375,9 +1094,7 @@ public final class MemoryAccessor{
 	 * @param value 	Value.
 	 * */
 	public static void setShort(long address, short value) {
-		try {
-			setShort.invoke(address, value);
-		} catch (Throwable e) {throw new RuntimeException(e);}
+		BACKEND.setShort(address, value);
 	}
 
 	/**
@@ -386,9 +1103,7 @@ public final class MemoryAccessor{
 	 * @param value 	Value.
 	 * */
 	public static void setInt(long address, int value) {
-		try {
-			setInt.invoke(address, value);
-		} catch (Throwable e) {throw new RuntimeException(e);}
+		BACKEND.setInt(address, value);
 	}
 
 	/**
@@ -397,9 +1112,7 @@ public final class MemoryAccessor{
 	 * @param value 	Value.
 	 * */
 	public static void setFloat(long address, float value) {
-		try {
-			setFloat.invoke(address, value);
-		} catch (Throwable e) {throw new RuntimeException(e);}
+		BACKEND.setFloat(address, value);
 	}
 
 	/**
@@ -408,9 +1121,7 @@ public final class MemoryAccessor{
 	 * @param value 	Value.
 	 * */
 	public static void setLong(long address, long value) {
-		try {
-			setLong.invoke(address, value);
-		} catch (Throwable e) {throw new RuntimeException(e);}
+		BACKEND.setLong(address, value);
 	}
 
 	/**
@@ -419,9 +1130,7 @@ public final class MemoryAccessor{
 	 * @param value 	Value.
 	 * */
 	public static void setDouble(long address, double value) {
-		try {
-			setDouble.invoke(address, value);
-		} catch (Throwable e) {throw new RuntimeException(e);}
+		BACKEND.setDouble(address, value);
 	}
 
 	/**
@@ -430,9 +1139,7 @@ public final class MemoryAccessor{
 	 * @param value 	Value.
 	 * */
 	public static void setBoolean(long address, boolean value) {
-		try {
-			setBoolean.invoke(address, value);
-		} catch (Throwable e) {throw new RuntimeException(e);}
+		BACKEND.setBoolean(address, value);
 	}
 
 	/**
@@ -441,9 +1148,7 @@ public final class MemoryAccessor{
 	 * @return Readed value.
 	 * */
 	public static byte getByte(long address) {
-		try {
-			return (byte)getByte.invoke(address);
-		} catch (Throwable e) {throw new RuntimeException(e);}
+		return BACKEND.getByte(address);
 	}
 
 	/**
@@ -452,9 +1157,7 @@ public final class MemoryAccessor{
 	 * @return Readed value.
 	 * */
 	public static char getChar(long address) {
-		try {
-			return (char)getChar.invoke(address);
-		} catch (Throwable e) {throw new RuntimeException(e);}
+		return BACKEND.getChar(address);
 	}
 
 	/**
@@ -463,9 +1166,7 @@ public final class MemoryAccessor{
 	 * @return Readed value.
 	 * */
 	public static short getShort(long address) {
-		try {
-			return (short)getShort.invoke(address);
-		} catch (Throwable e) {throw new RuntimeException(e);}
+		return BACKEND.getShort(address);
 	}
 
 	/**
@@ -474,9 +1175,7 @@ public final class MemoryAccessor{
 	 * @return Readed value.
 	 * */
 	public static int getInt(long address) {
-		try {
-			return (int)getInt.invoke(address);
-		} catch (Throwable e) {throw new RuntimeException(e);}
+		return BACKEND.getInt(address);
 	}
 
 	/**
@@ -485,9 +1184,7 @@ public final class MemoryAccessor{
 	 * @return Readed value.
 	 * */
 	public static float getFloat(long address) {
-		try {
-			return (float)getFloat.invoke(address);
-		} catch (Throwable e) {throw new RuntimeException(e);}
+		return BACKEND.getFloat(address);
 	}
 
 	/**
@@ -496,9 +1193,7 @@ public final class MemoryAccessor{
 	 * @return Readed value.
 	 * */
 	public static long getLong(long address) {
-		try {
-			return (long)getLong.invoke(address);
-		} catch (Throwable e) {throw new RuntimeException(e);}
+		return BACKEND.getLong(address);
 	}
 
 	/**
@@ -507,9 +1202,7 @@ public final class MemoryAccessor{
 	 * @return Readed value.
 	 * */
 	public static double getDouble(long address) {
-		try {
-			return (double)getDouble.invoke(address);
-		} catch (Throwable e) {throw new RuntimeException(e);}
+		return BACKEND.getDouble(address);
 	}
 
 	/**
@@ -518,25 +1211,207 @@ public final class MemoryAccessor{
 	 * @return Readed value.
 	 * */
 	public static boolean getBoolean(long address) {
-		try {
-			return (boolean)getBoolean.invoke(address);
-		} catch (Throwable e) {throw new RuntimeException(e);}
+		return BACKEND.getBoolean(address);
 	}
 	
+	/**
+	 * Atomically sets the int at address to value if it currently equals expected.
+	 * The address must be aligned to 4 bytes.
+	 * @return Returns true if successful.
+	 * @since 0.8
+	 * */
+	public static boolean compareAndSetInt(long address, int expected, int value) {
+		return INT_HANDLE.compareAndSet(SegmentMemoryBackend.GLOBAL, address, expected, value);
+	}
+
+	/**
+	 * Atomically sets the int at address to value if it currently equals expected.
+	 * The address must be aligned to 4 bytes.
+	 * @return Returns the witness value, which is equal to expected if successful.
+	 * @since 0.8
+	 * */
+	public static int compareAndExchangeInt(long address, int expected, int value) {
+		return (int)INT_HANDLE.compareAndExchange(SegmentMemoryBackend.GLOBAL, address, expected, value);
+	}
+
+	/**
+	 * Atomically adds delta to the int at address. The address must be aligned to 4 bytes.
+	 * @return Returns the previous value.
+	 * @since 0.8
+	 * */
+	public static int getAndAddInt(long address, int delta) {
+		return (int)INT_HANDLE.getAndAdd(SegmentMemoryBackend.GLOBAL, address, delta);
+	}
+
+	/**
+	 * Atomically sets the int at address to value. The address must be aligned to 4 bytes.
+	 * @return Returns the previous value.
+	 * @since 0.8
+	 * */
+	public static int getAndSetInt(long address, int value) {
+		return (int)INT_HANDLE.getAndSet(SegmentMemoryBackend.GLOBAL, address, value);
+	}
+
+	/**
+	 * Reads the int at address with volatile semantics. The address must be aligned to 4 bytes.
+	 * @since 0.8
+	 * */
+	public static int getIntVolatile(long address) {
+		return (int)INT_HANDLE.getVolatile(SegmentMemoryBackend.GLOBAL, address);
+	}
+
+	/**
+	 * Writes the int at address with volatile semantics. The address must be aligned to 4 bytes.
+	 * @since 0.8
+	 * */
+	public static void setIntVolatile(long address, int value) {
+		INT_HANDLE.setVolatile(SegmentMemoryBackend.GLOBAL, address, value);
+	}
+
+	/**
+	 * Reads the int at address with acquire semantics: later loads and stores are not reordered before it.
+	 * The address must be aligned to 4 bytes.
+	 * @since 0.8
+	 * */
+	public static int getIntAcquire(long address) {
+		return (int)INT_HANDLE.getAcquire(SegmentMemoryBackend.GLOBAL, address);
+	}
+
+	/**
+	 * Writes the int at address with release semantics: earlier loads and stores are not reordered after it.
+	 * The address must be aligned to 4 bytes.
+	 * @since 0.8
+	 * */
+	public static void setIntRelease(long address, int value) {
+		INT_HANDLE.setRelease(SegmentMemoryBackend.GLOBAL, address, value);
+	}
+
+	/**
+	 * Atomically sets the long at address to value if it currently equals expected.
+	 * The address must be aligned to 8 bytes.
+	 * @return Returns true if successful.
+	 * @since 0.8
+	 * */
+	public static boolean compareAndSetLong(long address, long expected, long value) {
+		return LONG_HANDLE.compareAndSet(SegmentMemoryBackend.GLOBAL, address, expected, value);
+	}
+
+	/**
+	 * Atomically sets the long at address to value if it currently equals expected.
+	 * The address must be aligned to 8 bytes.
+	 * @return Returns the witness value, which is equal to expected if successful.
+	 * @since 0.8
+	 * */
+	public static long compareAndExchangeLong(long address, long expected, long value) {
+		return (long)LONG_HANDLE.compareAndExchange(SegmentMemoryBackend.GLOBAL, address, expected, value);
+	}
+
+	/**
+	 * Atomically adds delta to the long at address. The address must be aligned to 8 bytes.
+	 * @return Returns the previous value.
+	 * @since 0.8
+	 * */
+	public static long getAndAddLong(long address, long delta) {
+		return (long)LONG_HANDLE.getAndAdd(SegmentMemoryBackend.GLOBAL, address, delta);
+	}
+
+	/**
+	 * Atomically sets the long at address to value. The address must be aligned to 8 bytes.
+	 * @return Returns the previous value.
+	 * @since 0.8
+	 * */
+	public static long getAndSetLong(long address, long value) {
+		return (long)LONG_HANDLE.getAndSet(SegmentMemoryBackend.GLOBAL, address, value);
+	}
+
+	/**
+	 * Reads the long at address with volatile semantics. The address must be aligned to 8 bytes.
+	 * @since 0.8
+	 * */
+	public static long getLongVolatile(long address) {
+		return (long)LONG_HANDLE.getVolatile(SegmentMemoryBackend.GLOBAL, address);
+	}
+
+	/**
+	 * Writes the long at address with volatile semantics. The address must be aligned to 8 bytes.
+	 * @since 0.8
+	 * */
+	public static void setLongVolatile(long address, long value) {
+		LONG_HANDLE.setVolatile(SegmentMemoryBackend.GLOBAL, address, value);
+	}
+
+	/**
+	 * Reads the long at address with acquire semantics: later loads and stores are not reordered before it.
+	 * The address must be aligned to 8 bytes.
+	 * @since 0.8
+	 * */
+	public static long getLongAcquire(long address) {
+		return (long)LONG_HANDLE.getAcquire(SegmentMemoryBackend.GLOBAL, address);
+	}
+
+	/**
+	 * Writes the long at address with release semantics: earlier loads and stores are not reordered after it.
+	 * The address must be aligned to 8 bytes.
+	 * @since 0.8
+	 * */
+	public static void setLongRelease(long address, long value) {
+		LONG_HANDLE.setRelease(SegmentMemoryBackend.GLOBAL, address, value);
+	}
+
 	/**
 	 * @return Returns the log of the current allocated memory for which the free method was not called.
 	 * */
 	public static String getLog() {
 		if (!ENABLE_NATIVE_TRACKING) return "Native tracking is disable";
-		StringBuilder sb = new StringBuilder();
-		Set<Map.Entry<Long, AllocateInfoStorage>> set = activeAllocates.entrySet();
-		for (Entry<Long, AllocateInfoStorage> entry : set) {
-			sb.append("\n======================================= Address: 0x").append(Integer.toHexString(entry.getKey().intValue())).append(" | Size: ").append(entry.getValue().allocSize).append(" =======================================\n").append(entry.getValue()); 
-		}
-		return sb.toString();
+		return TRACKER.getLog();
 	}
 	
 	public static boolean isEnableNativeTracking() {
 		return ENABLE_NATIVE_TRACKING;
 	}
+
+	/**
+	 * @return Returns the sampled live allocations aggregated by call site, sorted by estimated live bytes.
+	 * @see MemoryAccessor#ENABLE_SAMPLING
+	 * @since 0.8
+	 * */
+	public static String getSamplingReport() {
+		if (!ENABLE_SAMPLING) return "Native sampling is disable";
+		return SAMPLER.getReport();
+	}
+
+	/**
+	 * @return Returns the estimated live bytes of each sampled call site, or an empty map if sampling is disabled.
+	 * @since 0.8
+	 * */
+	public static Map<String, Long> getSampledLiveBytes() {
+		if (!ENABLE_SAMPLING) return Collections.emptyMap();
+		return SAMPLER.getLiveBytesBySite();
+	}
+
+	public static boolean isEnableSampling() {
+		return ENABLE_SAMPLING;
+	}
+
+	/**
+	 * @return Returns the counters of native memory allocated through this class.
+	 * @see NativeMemoryMXBean
+	 * @since 0.8
+	 * */
+	public static NativeMemoryMXBean getStatistics() {
+		return STATISTICS;
+	}
+
+	public static boolean isEnableStatistics() {
+		return ENABLE_STATISTICS;
+	}
+
+	/**
+	 * @return Returns the name of the backend used for memory access.
+	 * @see IMemoryBackend
+	 * @since 0.8
+	 * */
+	public static String getBackendName() {
+		return BACKEND.name();
+	}
 }
\ No newline at end of file
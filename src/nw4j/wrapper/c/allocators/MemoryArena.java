@@ -0,0 +1,317 @@
+/*
+ * Copyright (c) 2024, Miracle-Masterpiсe <mrmiraclemasterpiece@gmail.com or https://t.me/MiracleMasterpiece>. All rights reserved.
+ * Use is subject to license terms.
+ * 
+ * 
+ * 
+ * 
+ * 
+ * 
+ * 
+ * 
+ * */
+package nw4j.wrapper.c.allocators;
+
+import java.io.Closeable;
+
+import nw4j.helpers.Helpers;
+import nw4j.helpers.NativeType;
+import nw4j.wrapper.c.pointers.BooleanPointer;
+import nw4j.wrapper.c.pointers.BytePointer;
+import nw4j.wrapper.c.pointers.CharPointer;
+import nw4j.wrapper.c.pointers.DoublePointer;
+import nw4j.wrapper.c.pointers.FloatPointer;
+import nw4j.wrapper.c.pointers.IntPointer;
+import nw4j.wrapper.c.pointers.LongPointer;
+import nw4j.wrapper.c.pointers.ShortPointer;
+import nw4j.wrapper.c.pointers.VoidPointer;
+import nw4j.wrapper.c.pointers.VoidPointer.IInstanceFabric;
+
+/**
+ * A region allocator that hands out memory by bumping a pointer inside large chunks
+ * and releases all of it at once.
+ * <p>
+ * Unlike {@link ThreadLocalStack}, allocations do not have to be released in LIFO order:
+ * individual blocks are never freed, {@link MemoryArena#close()} returns every chunk to the underlying allocator.
+ * Pointers returned by the typed push methods use the arena as their {@link IAllocator}, so calling
+ * {@link VoidPointer#close()} on them is a harmless no-op.
+ * <p>
+ * The arena is not thread-safe.
+ *
+ * try(MemoryArena arena = new MemoryArena()){
+ * 		BytePointer name 	= arena.pushUTF8("texture.png");
+ * 		IntPointer ids 		= arena.pushInt(128);
+ * 		...
+ * }//all memory of the arena is freed.
+ *
+ * @see IStack
+ *
+ * @since 0.8
+ * @author miracle-masterpiece
+ * */
+public final class MemoryArena implements IAllocator, AutoCloseable, Closeable{
+
+	/**Alignment of blocks returned by {@link MemoryArena#malloc(long)}.*/
+	private static final int DEFAULT_ALIGNMENT = 8;
+
+	private final IAllocator allocator;
+
+	private final long chunkSize;
+
+	/**Chunk start addresses and their ends (exclusive).*/
+	private long[] chunks 		= new long[8];
+	private long[] chunkEnds 	= new long[8];
+	private int chunkCount;
+
+	/**Index of the chunk from which memory is currently allocated.*/
+	private int current;
+
+	/**Next free address in the current chunk and its end.*/
+	private long top, end;
+
+	/**Address of the last allocation, which can be grown in place by {@link MemoryArena#realloc(long, long)}.*/
+	private long last;
+
+	public MemoryArena() {
+		this(64 * 1024);
+	}
+
+	public MemoryArena(long chunkSize) {
+		this(chunkSize, IAllocator.DEFAULT);
+	}
+
+	/**
+	 * @param chunkSize Size in bytes of the chunks requested from the allocator.
+	 * @param allocator The allocator from which chunks are taken.
+	 * */
+	public MemoryArena(long chunkSize, IAllocator allocator) {
+		if (chunkSize <= 0) {
+			throw new IllegalArgumentException("chunkSize <= 0");
+		}
+		this.chunkSize 	= chunkSize;
+		this.allocator 	= allocator;
+		this.current 	= -1;
+	}
+
+	/**
+	 * Allocates n bytes aligned to alignment, which must be a power of two.
+	 *
+	 * @return Address of the allocated memory.
+	 * */
+	public long allocate(long n, int alignment) {
+		if (Helpers.ENABLE_CHECKS) {
+			if (n < 0) {
+				throw new IllegalArgumentException("n < 0");
+			}
+			if (Integer.bitCount(alignment) != 1) {
+				throw new IllegalArgumentException("Alignment is not a power of two: " + alignment);
+			}
+		}
+		long address = (top + alignment - 1) & -alignment;
+		if (current < 0 || address + n > end) {
+			nextChunk(n + alignment - 1);
+			address = (top + alignment - 1) & -alignment;
+		}
+		top 	= address + n;
+		last 	= address;
+		return address;
+	}
+
+	/**
+	 * Moves to the next chunk that can hold n bytes, reusing chunks kept by {@link MemoryArena#reset()}.
+	 * */
+	private void nextChunk(long n) {
+		while (++current < chunkCount) {
+			if (chunkEnds[current] - chunks[current] >= n) {
+				top = chunks[current];
+				end = chunkEnds[current];
+				return;
+			}
+		}
+
+		final long size = Math.max(n, chunkSize);
+		@NativeType("void*") final long chunk = Helpers.addressNonNull(allocator.malloc(size));
+		if (chunkCount == chunks.length) {
+			final long[] _chunks 	= new long[chunkCount << 1];
+			final long[] _ends 		= new long[chunkCount << 1];
+			System.arraycopy(chunks, 0, _chunks, 0, chunkCount);
+			System.arraycopy(chunkEnds, 0, _ends, 0, chunkCount);
+			chunks 		= _chunks;
+			chunkEnds 	= _ends;
+		}
+		chunks[chunkCount] 		= chunk;
+		chunkEnds[chunkCount] 	= chunk + size;
+		current = chunkCount++;
+		top 	= chunk;
+		end 	= chunk + size;
+	}
+
+	@Override
+	public long malloc(long n) {
+		return allocate(n, DEFAULT_ALIGNMENT);
+	}
+
+	@Override
+	public long calloc(long count, int typeSize) {
+		final long n = count * typeSize;
+		final long address = malloc(n);
+		MemoryAccessor.memset(address, 0, n);
+		return address;
+	}
+
+	/**
+	 * Grows or shrinks the last allocation in place when possible, otherwise allocates a new block and copies the data.
+	 * The old block is not released until the arena is reset or closed.
+	 * The content of the new block beyond the old size is unspecified.
+	 * */
+	@Override
+	public long realloc(long address, long newsize) {
+		if (address == VoidPointer.nullptr) {
+			return malloc(newsize);
+		}
+		if (address == last && address + newsize <= end) {
+			top = address + newsize;
+			return address;
+		}
+		final long newAddress = malloc(newsize);
+		MemoryAccessor.memcopy(address, newAddress, Math.min(newsize, chunkEnd(address) - address));
+		return newAddress;
+	}
+
+	private long chunkEnd(long address) {
+		for (int i = 0; i < chunkCount; ++i) {
+			if (address >= chunks[i] && address < chunkEnds[i]) {
+				return chunkEnds[i];
+			}
+		}
+		throw new IllegalArgumentException("Address 0x" + Long.toHexString(address) + " does not belong to this arena!");
+	}
+
+	/**
+	 * Individual blocks are not freed, the memory is released by {@link MemoryArena#reset()} or {@link MemoryArena#close()}.
+	 * */
+	@Override
+	public void free(long address) {}
+
+	/**
+	 * Invalidates all allocations and keeps only the first chunk for reuse.
+	 * */
+	public void reset() {
+		for (int i = 1; i < chunkCount; ++i) {
+			allocator.free(chunks[i]);
+		}
+		chunkCount 	= Math.min(chunkCount, 1);
+		current 	= -1;
+		top = end = last = VoidPointer.nullptr;
+	}
+
+	/**
+	 * Frees all memory of the arena. The arena can be used again after that.
+	 * */
+	@Override
+	public void close() {
+		for (int i = 0; i < chunkCount; ++i) {
+			allocator.free(chunks[i]);
+		}
+		chunkCount 	= 0;
+		current 	= -1;
+		top = end = last = VoidPointer.nullptr;
+	}
+
+	/**
+	 * @return Returns the number of bytes in chunks held by the arena.
+	 * */
+	public long reserved() {
+		long n = 0;
+		for (int i = 0; i < chunkCount; ++i) {
+			n += chunkEnds[i] - chunks[i];
+		}
+		return n;
+	}
+
+	/**
+	 * Allocates memory for a custom pointer that inherits from VoidPointer.
+	 * The pointer uses the arena as its allocator, like the pointers of the typed push methods.
+	 * */
+	public <T extends VoidPointer> T push(int n, IInstanceFabric<T> instance_fabric) {
+		final T _ptr = instance_fabric._new(0);
+		return VoidPointer.bind(_ptr, allocate(_ptr.sizeof() * n, DEFAULT_ALIGNMENT), this);
+	}
+
+	public BytePointer pushUTF8(CharSequence str) {
+		final BytePointer string = BytePointer.alloc(BytePointer.strlen(str) + 1, this);
+		BytePointer.putUTF8(string.address(), str);
+		return string;
+	}
+
+	public BytePointer pushByte(int n) {
+		return BytePointer.alloc(n, this);
+	}
+
+	public CharPointer pushChar(int n) {
+		return CharPointer.alloc(n, this);
+	}
+
+	public ShortPointer pushShort(int n) {
+		return ShortPointer.alloc(n, this);
+	}
+
+	public IntPointer pushInt(int n) {
+		return IntPointer.alloc(n, this);
+	}
+
+	public FloatPointer pushFloat(int n) {
+		return FloatPointer.alloc(n, this);
+	}
+
+	public LongPointer pushLong(int n) {
+		return LongPointer.alloc(n, this);
+	}
+
+	public DoublePointer pushDouble(int n) {
+		return DoublePointer.alloc(n, this);
+	}
+
+	public BooleanPointer pushBoolean(int n) {
+		return BooleanPointer.malloc(n, this);
+	}
+
+	public @NativeType("char*") long rawUTF8(CharSequence string) {
+		@NativeType("char*")
+		long address = rawByte((int)BytePointer.strlen(string) + 1);
+		BytePointer.putUTF8(address, string);
+		return address;
+	}
+
+	public @NativeType("char*") long rawByte(int n) {
+		return allocate(n, VoidPointer.BYTE_SIZE);
+	}
+
+	public @NativeType("uint16_t*") long rawChar(int n) {
+		return allocate((long)n << 1, VoidPointer.CHAR_SIZE);
+	}
+
+	public @NativeType("short*") long rawShort(int n) {
+		return allocate((long)n << 1, VoidPointer.SHORT_SIZE);
+	}
+
+	public @NativeType("int*") long rawInt(int n) {
+		return allocate((long)n << 2, VoidPointer.INT_SIZE);
+	}
+
+	public @NativeType("float*") long rawFloat(int n) {
+		return allocate((long)n << 2, VoidPointer.FLOAT_SIZE);
+	}
+
+	public @NativeType("long*") long rawLong(int n) {
+		return allocate((long)n << 3, VoidPointer.LONG_SIZE);
+	}
+
+	public @NativeType("double*") long rawDouble(int n) {
+		return allocate((long)n << 3, VoidPointer.DOUBLE_SIZE);
+	}
+
+	public @NativeType("boolean*") long rawBoolean(int n) {
+		return allocate(n, VoidPointer.BOOLEAN_SIZE);
+	}
+}
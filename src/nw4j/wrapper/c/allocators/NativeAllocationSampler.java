@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2024, Miracle-Masterpiсe <mrmiraclemasterpiece@gmail.com or https://t.me/MiracleMasterpiece>. All rights reserved.
+ * Use is subject to license terms.
+ * 
+ * 
+ * 
+ * 
+ * 
+ * 
+ * 
+ * 
+ * */
+package nw4j.wrapper.c.allocators;
+
+import java.lang.StackWalker.StackFrame;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Sampling allocation profiler used when <code>-DnwNativeSamplingInterval=N</code> is set to a positive number of bytes.
+ * <p>
+ * Each thread counts down the bytes it allocates and captures the allocation site once the counter crosses zero,
+ * so on average one sample is taken per N allocated bytes. The distance to the next sample is drawn from an exponential
+ * distribution with mean N (as JFR does for ObjectAllocationSample), which avoids bias towards allocations of a particular size.
+ * <p>
+ * Sampled blocks are remembered until they are freed. Each one stands for <code>size / (1 - exp(-size / N))</code> bytes,
+ * the expected number of bytes allocated at its site per sample, so the report estimates live native memory per call site.
+ *
+ * @see MemoryAccessor#getSamplingReport()
+ *
+ * @since 0.8
+ * @author miracle-masterpiece
+ * */
+final class NativeAllocationSampler {
+
+	/**Mean number of bytes between samples.*/
+	private final long interval;
+
+	private final int depth;
+
+	/**Bytes left until the next sample of each thread.*/
+	private final ThreadLocal<long[]> countdown = ThreadLocal.withInitial(() -> new long[] {nextInterval()});
+
+	/**Sampled blocks that are still live.*/
+	private final ConcurrentHashMap<Long, Sample> liveSamples = new ConcurrentHashMap<>();
+
+	NativeAllocationSampler(long interval, int depth) {
+		if (interval <= 0) {
+			throw new IllegalArgumentException("interval <= 0");
+		}
+		this.interval 	= interval;
+		this.depth 		= depth;
+	}
+
+	static final class Sample{
+		final StackFrame[] stackTrace;
+		final long size;
+		/**Estimated number of bytes represented by the sample.*/
+		final long weight;
+
+		Sample(StackFrame[] stackTrace, long size, long weight) {
+			this.stackTrace = stackTrace;
+			this.size 		= size;
+			this.weight 	= weight;
+		}
+	}
+
+	private long nextInterval() {
+		final double u = ThreadLocalRandom.current().nextDouble();
+		return 1 + (long)(-Math.log(1.0 - u) * interval);
+	}
+
+	void onAllocate(long address, long size) {
+		final long[] bytesLeft = countdown.get();
+		if ((bytesLeft[0] -= size) > 0) {
+			return;
+		}
+		bytesLeft[0] = nextInterval();
+		final double p = -Math.expm1(-(double)size / interval);
+		final long weight = p > 0 ? Math.round(size / p) : interval;
+		liveSamples.put(address, new Sample(NativeAllocationTracker.captureStack(depth), size, weight));
+	}
+
+	/**
+	 * Must be called before the memory is returned to the C allocator.
+	 * @return Returns the removed sample, or null if the block was not sampled.
+	 * */
+	Sample onFree(long address) {
+		return liveSamples.isEmpty() ? null : liveSamples.remove(address);
+	}
+
+	/**
+	 * Restores a sample removed by {@link NativeAllocationSampler#onFree(long)} when the memory was not actually released.
+	 * */
+	void restore(long address, Sample sample) {
+		if (sample != null) {
+			liveSamples.put(address, sample);
+		}
+	}
+
+	/**
+	 * @return Returns the estimated live bytes of each call site. The call site is the first frame outside the library.
+	 * */
+	Map<String, Long> getLiveBytesBySite() {
+		final HashMap<String, Long> result = new HashMap<>();
+		for (Sample sample : liveSamples.values()) {
+			result.merge(site(sample), sample.weight, Long::sum);
+		}
+		return result;
+	}
+
+	/**
+	 * Frames of pointers, containers and structs that allocate on behalf of the user are skipped,
+	 * otherwise all allocations of a pointer type would be reported as one site.
+	 * If the captured frames are all library frames, the last one is used.
+	 * */
+	private static String site(Sample sample) {
+		final StackFrame[] stack = sample.stackTrace;
+		if (stack.length == 0) {
+			return "<unknown>";
+		}
+		int i = 0;
+		while (i < stack.length - 1 && stack[i].getClassName().startsWith("nw4j.wrapper.")) {
+			++i;
+		}
+		return stack[i].toStackTraceElement().toString();
+	}
+
+	String getReport() {
+		final HashMap<String, long[]> sites 		= new HashMap<>();
+		final HashMap<String, Sample> examples 	= new HashMap<>();
+		for (Sample sample : liveSamples.values()) {
+			final String site = site(sample);
+			final long[] counters = sites.computeIfAbsent(site, k -> new long[2]);
+			counters[0] += sample.weight;
+			counters[1]++;
+			examples.putIfAbsent(site, sample);
+		}
+
+		final ArrayList<Map.Entry<String, long[]>> entries = new ArrayList<>(sites.entrySet());
+		entries.sort((a, b) -> Long.compare(b.getValue()[0], a.getValue()[0]));
+
+		final StringBuilder sb = new StringBuilder();
+		sb.append("Sampling interval: ").append(interval).append(" bytes\n");
+		for (Map.Entry<String, long[]> entry : entries) {
+			sb.append("\n======================================= Estimated live bytes: ").append(entry.getValue()[0]).append(" | Samples: ").append(entry.getValue()[1]).append(" =======================================\n");
+			final StackFrame[] stackTrace = examples.get(entry.getKey()).stackTrace;
+			for (int i = 0; i < stackTrace.length; ++i) {
+				sb.append(stackTrace[i].toStackTraceElement()).append("\n");
+			}
+		}
+		return sb.toString();
+	}
+}
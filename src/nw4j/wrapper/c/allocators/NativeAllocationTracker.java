@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2024, Miracle-Masterpiсe <mrmiraclemasterpiece@gmail.com or https://t.me/MiracleMasterpiece>. All rights reserved.
+ * Use is subject to license terms.
+ * 
+ * 
+ * 
+ * 
+ * 
+ * 
+ * 
+ * 
+ * */
+package nw4j.wrapper.c.allocators;
+
+import java.lang.StackWalker.StackFrame;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Table of live native allocations used when <code>-DenableNativeTracking=true</code>.
+ * <p>
+ * The table is a {@link ConcurrentHashMap}, so allocations from different threads do not serialize on a global lock.
+ * The allocation site is captured with a {@link StackWalker} limited to <code>-DnwNativeTrackingDepth</code> frames (32 by default),
+ * and stack frames are converted to text only when the log is requested.
+ *
+ * @see MemoryAccessor#getLog()
+ *
+ * @since 0.8
+ * @author miracle-masterpiece
+ * */
+final class NativeAllocationTracker {
+
+	private static final StackWalker WALKER = StackWalker.getInstance();
+
+	/**
+	 * Key is the address of the allocated memory,
+	 * value stores the size of the allocated memory in bytes and the frames by which the memory was allocated.
+	 * */
+	private final ConcurrentHashMap<Long, AllocateInfoStorage> activeAllocates = new ConcurrentHashMap<>();
+
+	private final int depth;
+
+	NativeAllocationTracker(int depth) {
+		this.depth = depth;
+	}
+
+	static final class AllocateInfoStorage{
+		final StackFrame[] stackTrace;
+		final long allocSize;
+
+		AllocateInfoStorage(StackFrame[] stackTrace, long allocSize) {
+			this.stackTrace = stackTrace;
+			this.allocSize = allocSize;
+		}
+
+		@Override
+		public String toString() {
+			StringBuilder sb = new StringBuilder();
+			for (int i = 0; i < stackTrace.length; ++i) {
+				StackTraceElement e = stackTrace[i].toStackTraceElement();
+				sb.append(e).append("\n");
+			}
+			return sb.toString();
+		}
+	}
+
+	/**
+	 * Captures at most depth frames of the caller, skipping the frames of the allocators package.
+	 * */
+	static StackFrame[] captureStack(int depth) {
+		return WALKER.walk(frames -> frames
+				.dropWhile(f -> f.getClassName().startsWith("nw4j.wrapper.c.allocators."))
+				.limit(depth)
+				.toArray(StackFrame[]::new));
+	}
+
+	void onAllocate(long address, long size) {
+		activeAllocates.put(address, new AllocateInfoStorage(captureStack(depth), size));
+	}
+
+	/**
+	 * Must be called before the memory is returned to the C allocator,
+	 * otherwise another thread may receive the same address and register it first.
+	 * */
+	AllocateInfoStorage onFree(long address) {
+		return activeAllocates.remove(address);
+	}
+
+	/**
+	 * Restores an entry removed by {@link NativeAllocationTracker#onFree(long)} when the memory was not actually released.
+	 * */
+	void restore(long address, AllocateInfoStorage info) {
+		if (info != null) {
+			activeAllocates.put(address, info);
+		}
+	}
+
+	String getLog() {
+		StringBuilder sb = new StringBuilder();
+		for (Map.Entry<Long, AllocateInfoStorage> entry : activeAllocates.entrySet()) {
+			sb.append("\n======================================= Address: 0x").append(Long.toHexString(entry.getKey())).append(" | Size: ").append(entry.getValue().allocSize).append(" =======================================\n").append(entry.getValue());
+		}
+		return sb.toString();
+	}
+}
@@ -0,0 +1,247 @@
+/*
+ * Copyright (c) 2024, Miracle-Masterpiсe <mrmiraclemasterpiece@gmail.com or https://t.me/MiracleMasterpiece>. All rights reserved.
+ * Use is subject to license terms.
+ * 
+ * 
+ * 
+ * 
+ * 
+ * 
+ * 
+ * 
+ * */
+package nw4j.wrapper.c.allocators;
+
+import static java.lang.foreign.ValueLayout.JAVA_BOOLEAN;
+import static java.lang.foreign.ValueLayout.JAVA_BYTE;
+import static java.lang.foreign.ValueLayout.JAVA_CHAR;
+import static java.lang.foreign.ValueLayout.JAVA_DOUBLE;
+import static java.lang.foreign.ValueLayout.JAVA_FLOAT;
+import static java.lang.foreign.ValueLayout.JAVA_INT;
+import static java.lang.foreign.ValueLayout.JAVA_LONG;
+import static java.lang.foreign.ValueLayout.JAVA_SHORT;
+import static nw4j.helpers.Helpers.getCriticalMethodHandle;
+import java.lang.foreign.FunctionDescriptor;
+import java.lang.invoke.MethodHandle;
+
+/**
+ * A backend in which each memory access is a downcall into the MemoryAccessor native library.
+ * <p>
+ * Selected with <code>-DnwMemoryBackend=native</code>.
+ *
+ * @see IMemoryBackend
+ *
+ * @since 0.8
+ * @author miracle-masterpiece
+ * */
+final class NativeMemoryBackend implements IMemoryBackend{
+
+	/**@see {@link NativeMemoryBackend#memset(long, int, long)}*/
+	private static final MethodHandle setMemory;
+
+	/**@see {@link NativeMemoryBackend#memcopy(long, long, long)}*/
+	private static final MethodHandle copyMemory;
+
+	/**@see {@link NativeMemoryBackend#setByte}*/
+	private static final MethodHandle setByte;
+
+	/**@see {@link NativeMemoryBackend#setChar(long, char)}*/
+	private static final MethodHandle setChar;
+
+	/**@see {@link NativeMemoryBackend#setShort(long, short)}*/
+	private static final MethodHandle setShort;
+
+	/**@see {@link NativeMemoryBackend#setInt(long, int)}*/
+	private static final MethodHandle setInt;
+
+	/**@see {@link NativeMemoryBackend#setFloat(long, float)}*/
+	private static final MethodHandle setFloat;
+
+	/**@see {@link NativeMemoryBackend#setLong(long, long)}*/
+	private static final MethodHandle setLong;
+
+	/**@see {@link NativeMemoryBackend#setDouble(long, double)}*/
+	private static final MethodHandle setDouble;
+
+	/**@see {@link NativeMemoryBackend#setBoolean}*/
+	private static final MethodHandle setBoolean;
+
+	/**@see {@link NativeMemoryBackend#getByte(long)}*/
+	private static final MethodHandle getByte;
+
+	/**@see {@link NativeMemoryBackend#getChar(long)}*/
+	private static final MethodHandle getChar;
+
+	/**@see {@link NativeMemoryBackend#getShort(long)}*/
+	private static final MethodHandle getShort;
+
+	/**@see {@link NativeMemoryBackend#getInt(long)}*/
+	private static final MethodHandle getInt;
+
+	/**@see {@link NativeMemoryBackend#getFloat(long)}*/
+	private static final MethodHandle getFloat;
+
+	/**@see {@link NativeMemoryBackend#getLong(long)}*/
+	private static final MethodHandle getLong;
+
+	/**@see {@link NativeMemoryBackend#getDouble(long)}*/
+	private static final MethodHandle getDouble;
+
+	/**@see {@link NativeMemoryBackend#getBoolean(long)}*/
+	private static final MethodHandle getBoolean;
+
+	static {
+		//The MemoryAccessor library is loaded by MemoryAccessor before the backend is created.
+		setMemory 			= getCriticalMethodHandle(new String(new char[]{'s','e','t','M','e','m','o','r','y'}), FunctionDescriptor.ofVoid(JAVA_LONG, JAVA_INT, JAVA_LONG));
+		copyMemory 			= getCriticalMethodHandle(new String(new char[]{'c','o','p','y','M','e','m','o','r','y'}), FunctionDescriptor.ofVoid(JAVA_LONG, JAVA_LONG, JAVA_LONG));
+
+		setByte				= getCriticalMethodHandle(new String(new char[]{'s','e','t','B','y','t','e'}), 	FunctionDescriptor.ofVoid(JAVA_LONG, JAVA_BYTE));
+		setChar				= getCriticalMethodHandle(new String(new char[]{'s','e','t','C','h','a','r'}), 	FunctionDescriptor.ofVoid(JAVA_LONG, JAVA_CHAR));
+		setShort			= getCriticalMethodHandle(new String(new char[]{'s','e','t','S','h','o','r','t'}), 	FunctionDescriptor.ofVoid(JAVA_LONG, JAVA_SHORT));
+		setInt				= getCriticalMethodHandle(new String(new char[]{'s','e','t','I','n','t'}), 	FunctionDescriptor.ofVoid(JAVA_LONG, JAVA_INT));
+		setFloat			= getCriticalMethodHandle(new String(new char[]{'s','e','t','F','l','o','a','t'}), 	FunctionDescriptor.ofVoid(JAVA_LONG, JAVA_FLOAT));
+		setLong				= getCriticalMethodHandle(new String(new char[]{'s','e','t','L','o','n','g'}), 	FunctionDescriptor.ofVoid(JAVA_LONG, JAVA_LONG));
+		setDouble			= getCriticalMethodHandle(new String(new char[]{'s','e','t','D','o','u','b','l','e'}), 	FunctionDescriptor.ofVoid(JAVA_LONG, JAVA_DOUBLE));
+		setBoolean			= getCriticalMethodHandle(new String(new char[]{'s','e','t','B','o','o','l','e','a','n'}), FunctionDescriptor.ofVoid(JAVA_LONG, JAVA_BOOLEAN));
+
+		getByte				= getCriticalMethodHandle(new String(new char[]{'g','e','t','B','y','t','e'}), 	FunctionDescriptor.of(JAVA_BYTE, JAVA_LONG));
+		getChar				= getCriticalMethodHandle(new String(new char[]{'g','e','t','C','h','a','r'}), 	FunctionDescriptor.of(JAVA_CHAR, JAVA_LONG));
+		getShort			= getCriticalMethodHandle(new String(new char[]{'g','e','t','S','h','o','r','t'}), 	FunctionDescriptor.of(JAVA_SHORT, JAVA_LONG));
+		getInt				= getCriticalMethodHandle(new String(new char[]{'g','e','t','I','n','t'}), 	FunctionDescriptor.of(JAVA_INT, JAVA_LONG));
+		getFloat			= getCriticalMethodHandle(new String(new char[]{'g','e','t','F','l','o','a','t'}), 	FunctionDescriptor.of(JAVA_FLOAT, JAVA_LONG));
+		getLong				= getCriticalMethodHandle(new String(new char[]{'g','e','t','L','o','n','g'}), 	FunctionDescriptor.of(JAVA_LONG, JAVA_LONG));
+		getDouble			= getCriticalMethodHandle(new String(new char[]{'g','e','t','D','o','u','b','l','e'}), 	FunctionDescriptor.of(JAVA_DOUBLE, JAVA_LONG));
+		getBoolean			= getCriticalMethodHandle(new String(new char[]{'g','e','t','B','o','o','l','e','a','n'}), FunctionDescriptor.of(JAVA_BOOLEAN, JAVA_LONG));
+	}
+
+	@Override
+	public String name() {
+		return "native";
+	}
+
+	@Override
+	public void memset(long address, int value, long len) {
+		try {
+			setMemory.invoke(address, value, len);
+		} catch (Throwable e) {throw new RuntimeException(e);}
+	}
+
+	@Override
+	public void memcopy(long srcAddress, long dstAddress, long len) {
+		try {
+			copyMemory.invoke(srcAddress, dstAddress, len);
+		} catch (Throwable e) {throw new RuntimeException(e);}
+	}
+
+	@Override
+	public void setByte(long address, byte value) {
+		try {
+			setByte.invoke(address, value);
+		} catch (Throwable e) {throw new RuntimeException(e);}
+	}
+
+	@Override
+	public void setChar(long address, char value) {
+		try {
+			setChar.invoke(address, value);
+		} catch (Throwable e) {throw new RuntimeException(e);}
+	}
+
+	@Override
+	public void setShort(long address, short value) {
+		try {
+			setShort.invoke(address, value);
+		} catch (Throwable e) {throw new RuntimeException(e);}
+	}
+
+	@Override
+	public void setInt(long address, int value) {
+		try {
+			setInt.invoke(address, value);
+		} catch (Throwable e) {throw new RuntimeException(e);}
+	}
+
+	@Override
+	public void setFloat(long address, float value) {
+		try {
+			setFloat.invoke(address, value);
+		} catch (Throwable e) {throw new RuntimeException(e);}
+	}
+
+	@Override
+	public void setLong(long address, long value) {
+		try {
+			setLong.invoke(address, value);
+		} catch (Throwable e) {throw new RuntimeException(e);}
+	}
+
+	@Override
+	public void setDouble(long address, double value) {
+		try {
+			setDouble.invoke(address, value);
+		} catch (Throwable e) {throw new RuntimeException(e);}
+	}
+
+	@Override
+	public void setBoolean(long address, boolean value) {
+		try {
+			setBoolean.invoke(address, value);
+		} catch (Throwable e) {throw new RuntimeException(e);}
+	}
+
+	@Override
+	public byte getByte(long address) {
+		try {
+			return (byte)getByte.invoke(address);
+		} catch (Throwable e) {throw new RuntimeException(e);}
+	}
+
+	@Override
+	public char getChar(long address) {
+		try {
+			return (char)getChar.invoke(address);
+		} catch (Throwable e) {throw new RuntimeException(e);}
+	}
+
+	@Override
+	public short getShort(long address) {
+		try {
+			return (short)getShort.invoke(address);
+		} catch (Throwable e) {throw new RuntimeException(e);}
+	}
+
+	@Override
+	public int getInt(long address) {
+		try {
+			return (int)getInt.invoke(address);
+		} catch (Throwable e) {throw new RuntimeException(e);}
+	}
+
+	@Override
+	public float getFloat(long address) {
+		try {
+			return (float)getFloat.invoke(address);
+		} catch (Throwable e) {throw new RuntimeException(e);}
+	}
+
+	@Override
+	public long getLong(long address) {
+		try {
+			return (long)getLong.invoke(address);
+		} catch (Throwable e) {throw new RuntimeException(e);}
+	}
+
+	@Override
+	public double getDouble(long address) {
+		try {
+			return (double)getDouble.invoke(address);
+		} catch (Throwable e) {throw new RuntimeException(e);}
+	}
+
+	@Override
+	public boolean getBoolean(long address) {
+		try {
+			return (boolean)getBoolean.invoke(address);
+		} catch (Throwable e) {throw new RuntimeException(e);}
+	}
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2024, Miracle-Masterpiсe <mrmiraclemasterpiece@gmail.com or https://t.me/MiracleMasterpiece>. All rights reserved.
+ * Use is subject to license terms.
+ * 
+ * 
+ * 
+ * 
+ * 
+ * 
+ * 
+ * 
+ * */
+package nw4j.wrapper.c.allocators;
+
+import java.util.Map;
+
+/**
+ * Management interface for native memory held through {@link MemoryAccessor}.
+ * <p>
+ * Registered on the platform MBean server as {@value NativeMemoryMXBean#OBJECT_NAME} when -DnwNativeMemoryMBean=true is set.
+ * Sizes are the requested sizes of blocks, without the rounding of the C allocator.
+ *
+ * @see MemoryAccessor#getStatistics()
+ * 
+ * @since 0.8
+ * @author miracle-masterpiece
+ * */
+public interface NativeMemoryMXBean {
+
+	public static final String OBJECT_NAME = "nw4j:type=NativeMemory";
+
+	/**
+	 * @return Returns the total number of bytes allocated since start.
+	 * */
+	public long getBytesAllocated();
+
+	/**
+	 * @return Returns the total number of bytes freed since start.
+	 * */
+	public long getBytesFreed();
+
+	/**
+	 * @return Returns the number of bytes currently allocated.
+	 * */
+	public long getLiveBytes();
+
+	/**
+	 * @return Returns the number of blocks currently allocated.
+	 * */
+	public long getLiveBlocks();
+
+	/**
+	 * @return Returns the total number of allocations since start.
+	 * */
+	public long getAllocationCount();
+
+	/**
+	 * @return Returns the total number of frees since start.
+	 * */
+	public long getFreeCount();
+
+	/**
+	 * Element i is the number of allocations with a size in the range [2^(i-1), 2^i), element 0 counts empty blocks.
+	 * The last element also counts all larger blocks.
+	 * 
+	 * @return Returns the histogram of allocation sizes.
+	 * */
+	public long[] getSizeHistogram();
+
+	/**
+	 * @return Returns the number of currently allocated bytes per allocation tag.
+	 * */
+	public Map<String, Long> getTagLiveBytes();
+
+	/**
+	 * @return Returns the total number of bytes allocated per allocation tag since start.
+	 * */
+	public Map<String, Long> getTagBytesAllocated();
+
+	/**
+	 * @return Returns the number of bytes currently mapped through the huge page path.
+	 * @see MemoryAccessor#HUGE_PAGE_SIZE
+	 * */
+	public long getHugePageBytes();
+
+	/**
+	 * Reads AnonHugePages of the process from /proc/self/smaps_rollup, that is the memory actually backed by transparent huge pages.
+	 * 
+	 * @return Returns the number of bytes backed by transparent huge pages, or -1 if the value is not available on this system.
+	 * */
+	public long getAnonHugePagesBytes();
+}
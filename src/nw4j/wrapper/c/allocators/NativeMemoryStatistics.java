@@ -0,0 +1,220 @@
+/*
+ * Copyright (c) 2024, Miracle-Masterpiсe <mrmiraclemasterpiece@gmail.com or https://t.me/MiracleMasterpiece>. All rights reserved.
+ * Use is subject to license terms.
+ * 
+ * 
+ * 
+ * 
+ * 
+ * 
+ * 
+ * 
+ * */
+package nw4j.wrapper.c.allocators;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.management.ObjectName;
+
+/**
+ * Always-on counters of native memory allocated through {@link MemoryAccessor}.
+ * <p>
+ * Counters are {@link LongAdder}s, so updates from different threads do not contend.
+ * Sizes are the requested ones: the size and the tag of a live block are remembered until it is freed,
+ * so no call into the C heap is needed to learn how much a free releases.
+ * Allocations made with a tag ({@link MemoryAccessor#malloc(long, String)}) are also counted per tag.
+ * Can be disabled with -DnwDisableNativeMemoryStatistics=true.
+ * The MXBean is registered on the platform MBean server only with -DnwNativeMemoryMBean=true,
+ * {@link MemoryAccessor#getStatistics()} works without it.
+ *
+ * @see NativeMemoryMXBean
+ *
+ * @since 0.8
+ * @author miracle-masterpiece
+ * */
+final class NativeMemoryStatistics implements NativeMemoryMXBean{
+
+	private static final int HISTOGRAM_SIZE = 48;
+
+	private final LongAdder bytesAllocated 	= new LongAdder();
+	private final LongAdder bytesFreed 		= new LongAdder();
+	private final LongAdder allocations 	= new LongAdder();
+	private final LongAdder frees 			= new LongAdder();
+	private final LongAdder[] histogram 	= new LongAdder[HISTOGRAM_SIZE];
+	private final LongAdder hugePageBytes 	= new LongAdder();
+
+	/**Counters of each tag.*/
+	private final ConcurrentHashMap<String, TagCounters> tags 		= new ConcurrentHashMap<>();
+
+	/**Sizes and tags of live blocks.*/
+	private final ConcurrentHashMap<Long, Block> blocks 			= new ConcurrentHashMap<>();
+
+	private static final class TagCounters{
+		final String tag;
+		final LongAdder bytesAllocated 	= new LongAdder();
+		final LongAdder bytesFreed 		= new LongAdder();
+
+		TagCounters(String tag) {
+			this.tag = tag;
+		}
+	}
+
+	/**
+	 * Requested size and tag counters of a live block.
+	 * */
+	static final class Block{
+		final long size;
+		final TagCounters counters;
+
+		Block(long size, TagCounters counters) {
+			this.size 		= size;
+			this.counters 	= counters;
+		}
+
+		String tag() {
+			return counters == null ? null : counters.tag;
+		}
+	}
+
+	NativeMemoryStatistics() {
+		for (int i = 0; i < HISTOGRAM_SIZE; ++i) {
+			histogram[i] = new LongAdder();
+		}
+	}
+
+	/**
+	 * Registers the statistics on the platform MBean server. Errors are ignored, for example when another class loader has already registered it.
+	 * */
+	void register() {
+		try {
+			ManagementFactory.getPlatformMBeanServer().registerMBean(this, new ObjectName(OBJECT_NAME));
+		}catch(Exception | LinkageError ignore) {}
+	}
+
+	void onAllocate(long address, long size, String tag) {
+		restore(address, new Block(size, tag == null ? null : tags.computeIfAbsent(tag, TagCounters::new)));
+	}
+
+	/**
+	 * Counts a block again after {@link NativeMemoryStatistics#onFree(long)}, for example when realloc fails.
+	 * */
+	void restore(long address, Block block) {
+		bytesAllocated.add(block.size);
+		allocations.increment();
+		histogram[Math.min(64 - Long.numberOfLeadingZeros(block.size), HISTOGRAM_SIZE - 1)].increment();
+		if (block.counters != null) {
+			block.counters.bytesAllocated.add(block.size);
+		}
+		blocks.put(address, block);
+	}
+
+	/**
+	 * @return Returns the freed block, or null if the block was not allocated through {@link MemoryAccessor}, in which case nothing is counted.
+	 * */
+	Block onFree(long address) {
+		final Block block = blocks.remove(address);
+		if (block != null) {
+			bytesFreed.add(block.size);
+			frees.increment();
+			if (block.counters != null) {
+				block.counters.bytesFreed.add(block.size);
+			}
+		}
+		return block;
+	}
+
+	void onHugeMap(long length) {
+		hugePageBytes.add(length);
+	}
+
+	void onHugeUnmap(long length) {
+		hugePageBytes.add(-length);
+	}
+
+	@Override
+	public long getBytesAllocated() {
+		return bytesAllocated.sum();
+	}
+
+	@Override
+	public long getBytesFreed() {
+		return bytesFreed.sum();
+	}
+
+	@Override
+	public long getLiveBytes() {
+		return bytesAllocated.sum() - bytesFreed.sum();
+	}
+
+	@Override
+	public long getLiveBlocks() {
+		return allocations.sum() - frees.sum();
+	}
+
+	@Override
+	public long getAllocationCount() {
+		return allocations.sum();
+	}
+
+	@Override
+	public long getFreeCount() {
+		return frees.sum();
+	}
+
+	@Override
+	public long[] getSizeHistogram() {
+		final long[] result = new long[HISTOGRAM_SIZE];
+		for (int i = 0; i < HISTOGRAM_SIZE; ++i) {
+			result[i] = histogram[i].sum();
+		}
+		return result;
+	}
+
+	@Override
+	public Map<String, Long> getTagLiveBytes() {
+		final TreeMap<String, Long> result = new TreeMap<>();
+		for (Map.Entry<String, TagCounters> entry : tags.entrySet()) {
+			result.put(entry.getKey(), entry.getValue().bytesAllocated.sum() - entry.getValue().bytesFreed.sum());
+		}
+		return result;
+	}
+
+	@Override
+	public Map<String, Long> getTagBytesAllocated() {
+		final TreeMap<String, Long> result = new TreeMap<>();
+		for (Map.Entry<String, TagCounters> entry : tags.entrySet()) {
+			result.put(entry.getKey(), entry.getValue().bytesAllocated.sum());
+		}
+		return result;
+	}
+
+	@Override
+	public long getHugePageBytes() {
+		return hugePageBytes.sum();
+	}
+
+	@Override
+	public long getAnonHugePagesBytes() {
+		final Path rollup = Paths.get("/proc/self/smaps_rollup");
+		if (!Files.isReadable(rollup)) {
+			return -1;
+		}
+		try {
+			for (String line : Files.readAllLines(rollup)) {
+				if (line.startsWith("AnonHugePages:")) {
+					//AnonHugePages:      4096 kB
+					return Long.parseLong(line.substring("AnonHugePages:".length()).replace("kB", "").trim()) * 1024;
+				}
+			}
+		}catch(IOException | NumberFormatException ignore) {}
+		return -1;
+	}
+}
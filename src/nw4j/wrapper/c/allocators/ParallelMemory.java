@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2024, Miracle-Masterpiсe <mrmiraclemasterpiece@gmail.com or https://t.me/MiracleMasterpiece>. All rights reserved.
+ * Use is subject to license terms.
+ * 
+ * 
+ * 
+ * 
+ * 
+ * 
+ * 
+ * 
+ * */
+package nw4j.wrapper.c.allocators;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Copies and fills of large blocks split between the threads of a {@link ForkJoinPool}.
+ * <p>
+ * One core cannot saturate the memory bandwidth of a large machine, so blocks of at least {@link ParallelMemory#THRESHOLD} bytes
+ * are divided in halves until the pieces are at most {@link ParallelMemory#CHUNK_SIZE} bytes, and the pieces are processed in parallel.
+ * Split points lie on page boundaries of the destination, so two threads never write to the same page.
+ * Smaller blocks are processed by the calling thread with {@link MemoryAccessor#memcopy(long, long, long)} or {@link MemoryAccessor#memset(long, int, long)}.
+ * Splitting also keeps each native call short, so a thread does not stay in a critical downcall, where it cannot reach a safepoint, for long.
+ * <p>
+ * The threshold is set by -DnwParallelMemoryThreshold (64 MiB by default), the largest piece by -DnwParallelMemoryChunk (8 MiB by default).
+ * Methods without a pool argument use {@link ForkJoinPool#commonPool()}.
+ *
+ * long src = MemoryAccessor.malloc(size), dst = MemoryAccessor.malloc(size);
+ * ParallelMemory.memcopy(src, dst, size);
+ * CompletableFuture<Void> cleared = ParallelMemory.memsetAsync(src, 0, size);
+ *
+ * @since 0.8
+ * @author miracle-masterpiece
+ * */
+public final class ParallelMemory {
+
+	/**Blocks of at least this many bytes are processed in parallel.*/
+	public static final long THRESHOLD 	= Long.getLong("nwParallelMemoryThreshold", 64L * 1024 * 1024);
+
+	/**The largest piece processed by one task.*/
+	public static final long CHUNK_SIZE = Math.max(Long.getLong("nwParallelMemoryChunk", 8L * 1024 * 1024), MemoryAccessor.PAGE_SIZE);
+
+	private ParallelMemory() {}
+
+	/**
+	 * Copies len bytes from srcAddress to dstAddress. The blocks must not overlap.
+	 * */
+	public static void memcopy(long srcAddress, long dstAddress, long len) {
+		memcopy(srcAddress, dstAddress, len, ForkJoinPool.commonPool());
+	}
+
+	public static void memcopy(long srcAddress, long dstAddress, long len, ForkJoinPool pool) {
+		if (len < THRESHOLD) {
+			MemoryAccessor.memcopy(srcAddress, dstAddress, len);
+			return;
+		}
+		pool.invoke(new Copy(srcAddress, dstAddress, len));
+	}
+
+	/**
+	 * Sets len bytes starting at address to value.
+	 * */
+	public static void memset(long address, int value, long len) {
+		memset(address, value, len, ForkJoinPool.commonPool());
+	}
+
+	public static void memset(long address, int value, long len, ForkJoinPool pool) {
+		if (len < THRESHOLD) {
+			MemoryAccessor.memset(address, value, len);
+			return;
+		}
+		pool.invoke(new Fill(address, value, len));
+	}
+
+	/**
+	 * Starts the copy in the common pool.
+	 *
+	 * @return Returns a future completed when all bytes are copied.
+	 * */
+	public static CompletableFuture<Void> memcopyAsync(long srcAddress, long dstAddress, long len) {
+		return memcopyAsync(srcAddress, dstAddress, len, ForkJoinPool.commonPool());
+	}
+
+	public static CompletableFuture<Void> memcopyAsync(long srcAddress, long dstAddress, long len, ForkJoinPool pool) {
+		return CompletableFuture.runAsync(() -> memcopy(srcAddress, dstAddress, len, pool), pool);
+	}
+
+	/**
+	 * Starts the fill in the common pool.
+	 *
+	 * @return Returns a future completed when all bytes are set.
+	 * */
+	public static CompletableFuture<Void> memsetAsync(long address, int value, long len) {
+		return memsetAsync(address, value, len, ForkJoinPool.commonPool());
+	}
+
+	public static CompletableFuture<Void> memsetAsync(long address, int value, long len, ForkJoinPool pool) {
+		return CompletableFuture.runAsync(() -> memset(address, value, len, pool), pool);
+	}
+
+	/**
+	 * @return Returns the number of bytes of the first half of a block of len bytes at address, ending on a page boundary when possible.
+	 * */
+	private static long split(long address, long len) {
+		final long page = MemoryAccessor.PAGE_SIZE;
+		final long half = ((address + (len >>> 1) + page - 1) & -page) - address;
+		return half > 0 && half < len ? half : len >>> 1;
+	}
+
+	private static final class Copy extends RecursiveAction{
+		private static final long serialVersionUID = 1L;
+
+		private final long src, dst, len;
+
+		Copy(long src, long dst, long len) {
+			this.src = src;
+			this.dst = dst;
+			this.len = len;
+		}
+
+		@Override
+		protected void compute() {
+			if (len <= CHUNK_SIZE) {
+				MemoryAccessor.memcopy(src, dst, len);
+				return;
+			}
+			final long half = split(dst, len);
+			invokeAll(new Copy(src, dst, half), new Copy(src + half, dst + half, len - half));
+		}
+	}
+
+	private static final class Fill extends RecursiveAction{
+		private static final long serialVersionUID = 1L;
+
+		private final long address, len;
+		private final int value;
+
+		Fill(long address, int value, long len) {
+			this.address 	= address;
+			this.value 		= value;
+			this.len 		= len;
+		}
+
+		@Override
+		protected void compute() {
+			if (len <= CHUNK_SIZE) {
+				MemoryAccessor.memset(address, value, len);
+				return;
+			}
+			final long half = split(address, len);
+			invokeAll(new Fill(address, value, half), new Fill(address + half, value, len - half));
+		}
+	}
+}
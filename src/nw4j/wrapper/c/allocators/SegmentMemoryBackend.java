@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2024, Miracle-Masterpiсe <mrmiraclemasterpiece@gmail.com or https://t.me/MiracleMasterpiece>. All rights reserved.
+ * Use is subject to license terms.
+ * 
+ * 
+ * 
+ * 
+ * 
+ * 
+ * 
+ * 
+ * */
+package nw4j.wrapper.c.allocators;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+/**
+ * A backend that accesses memory through a single {@link MemorySegment} covering the whole address space.
+ * Loads and stores are {@link ValueLayout} var handle accesses with constant layouts,
+ * so the JIT compiles them into plain machine loads and stores instead of downcalls.
+ * <p>
+ * Selected by default or with <code>-DnwMemoryBackend=segment</code>.
+ *
+ * @see IMemoryBackend
+ *
+ * @since 0.8
+ * @author miracle-masterpiece
+ * */
+final class SegmentMemoryBackend implements IMemoryBackend{
+
+	/**
+	 * Segment starting at address 0 and covering all memory.
+	 * Offsets in this segment are raw addresses.
+	 * */
+	static final MemorySegment GLOBAL = MemorySegment.NULL.reinterpret(Long.MAX_VALUE);
+
+	//Pointers returned by MemoryAccessor can have any alignment (for example, inside a ThreadLocalStack).
+	private static final ValueLayout.OfByte 	BYTE 	= ValueLayout.JAVA_BYTE;
+	private static final ValueLayout.OfChar 	CHAR 	= ValueLayout.JAVA_CHAR_UNALIGNED;
+	private static final ValueLayout.OfShort 	SHORT 	= ValueLayout.JAVA_SHORT_UNALIGNED;
+	private static final ValueLayout.OfInt 		INT 	= ValueLayout.JAVA_INT_UNALIGNED;
+	private static final ValueLayout.OfFloat 	FLOAT 	= ValueLayout.JAVA_FLOAT_UNALIGNED;
+	private static final ValueLayout.OfLong 	LONG 	= ValueLayout.JAVA_LONG_UNALIGNED;
+	private static final ValueLayout.OfDouble 	DOUBLE 	= ValueLayout.JAVA_DOUBLE_UNALIGNED;
+	private static final ValueLayout.OfBoolean 	BOOLEAN = ValueLayout.JAVA_BOOLEAN;
+
+	@Override
+	public String name() {
+		return "segment";
+	}
+
+	@Override
+	public void memset(long address, int value, long len) {
+		GLOBAL.asSlice(address, len).fill((byte)value);
+	}
+
+	@Override
+	public void memcopy(long srcAddress, long dstAddress, long len) {
+		MemorySegment.copy(GLOBAL, srcAddress, GLOBAL, dstAddress, len);
+	}
+
+	@Override
+	public void setByte(long address, byte value) {
+		GLOBAL.set(BYTE, address, value);
+	}
+
+	@Override
+	public void setChar(long address, char value) {
+		GLOBAL.set(CHAR, address, value);
+	}
+
+	@Override
+	public void setShort(long address, short value) {
+		GLOBAL.set(SHORT, address, value);
+	}
+
+	@Override
+	public void setInt(long address, int value) {
+		GLOBAL.set(INT, address, value);
+	}
+
+	@Override
+	public void setFloat(long address, float value) {
+		GLOBAL.set(FLOAT, address, value);
+	}
+
+	@Override
+	public void setLong(long address, long value) {
+		GLOBAL.set(LONG, address, value);
+	}
+
+	@Override
+	public void setDouble(long address, double value) {
+		GLOBAL.set(DOUBLE, address, value);
+	}
+
+	@Override
+	public void setBoolean(long address, boolean value) {
+		GLOBAL.set(BOOLEAN, address, value);
+	}
+
+	@Override
+	public byte getByte(long address) {
+		return GLOBAL.get(BYTE, address);
+	}
+
+	@Override
+	public char getChar(long address) {
+		return GLOBAL.get(CHAR, address);
+	}
+
+	@Override
+	public short getShort(long address) {
+		return GLOBAL.get(SHORT, address);
+	}
+
+	@Override
+	public int getInt(long address) {
+		return GLOBAL.get(INT, address);
+	}
+
+	@Override
+	public float getFloat(long address) {
+		return GLOBAL.get(FLOAT, address);
+	}
+
+	@Override
+	public long getLong(long address) {
+		return GLOBAL.get(LONG, address);
+	}
+
+	@Override
+	public double getDouble(long address) {
+		return GLOBAL.get(DOUBLE, address);
+	}
+
+	@Override
+	public boolean getBoolean(long address) {
+		return GLOBAL.get(BOOLEAN, address);
+	}
+}
@@ -0,0 +1,228 @@
+/*
+ * Copyright (c) 2024, Miracle-Masterpiсe <mrmiraclemasterpiece@gmail.com or https://t.me/MiracleMasterpiece>. All rights reserved.
+ * Use is subject to license terms.
+ * 
+ * 
+ * 
+ * 
+ * 
+ * 
+ * 
+ * 
+ * */
+package nw4j.wrapper.c.allocators;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+import nw4j.helpers.NativeType;
+import nw4j.wrapper.c.pointers.VoidPointer;
+import nw4j.wrapper.c.pointers.VoidPointer.IInstanceFabric;
+
+/**
+ * A named block of memory shared between processes.
+ * <p>
+ * The block is a file in /dev/shm (a tmpfs, so the memory is never written to disk),
+ * or in the directory set by -DnwSharedMemoryDir, or in java.io.tmpdir when /dev/shm does not exist.
+ * Every process maps the file with {@link MapMode#READ_WRITE}, so all of them see the same physical pages.
+ * <p>
+ * The block starts with a {@link SharedMemory#HEADER_SIZE}-byte header with a magic number, a version and the data size.
+ * The creator publishes the magic number last with a release store, so a process that attaches
+ * either sees a fully initialized header or fails with an {@link IOException}.
+ * Synchronization of the data itself is up to the processes, for example with the atomic methods of {@link MemoryAccessor}.
+ *
+ * //process 1
+ * SharedMemory frames = SharedMemory.create("frames", 64 * 1024 * 1024, 1);
+ * FloatPointer data = frames.pointer(FloatPointer::asAddress);
+ * 
+ * //process 2
+ * SharedMemory frames = SharedMemory.attach("frames", 1);
+ *
+ * @since 0.8
+ * @author miracle-masterpiece
+ * */
+public final class SharedMemory implements AutoCloseable, Closeable{
+
+	/**Length of the header in bytes. The data is aligned to it.*/
+	public static final int HEADER_SIZE = 64;
+
+	/**"NW4S"*/
+	private static final int MAGIC = 0x4E573453;
+
+	private static final int MAGIC_OFFSET 	= 0;
+	private static final int VERSION_OFFSET = 4;
+	private static final int SIZE_OFFSET 	= 8;
+
+	private final String name;
+
+	private final Path path;
+
+	private final MappedFile file;
+
+	private SharedMemory(String name, Path path, MappedFile file) {
+		this.name = name;
+		this.path = path;
+		this.file = file;
+	}
+
+	private static Path directory() {
+		final String dir = System.getProperty("nwSharedMemoryDir");
+		if (dir != null) {
+			return Paths.get(dir);
+		}
+		final Path shm = Paths.get("/dev/shm");
+		if (Files.isDirectory(shm) && Files.isWritable(shm)) {
+			return shm;
+		}
+		return Paths.get(System.getProperty("java.io.tmpdir"));
+	}
+
+	private static Path path(String name) {
+		if (name.isEmpty() || name.indexOf('/') >= 0 || name.indexOf('\\') >= 0) {
+			throw new IllegalArgumentException("Invalid shared memory name: " + name);
+		}
+		return directory().resolve("nw4j." + name);
+	}
+
+	/**
+	 * Creates a new shared block. Fails with {@link java.nio.file.FileAlreadyExistsException} if a block with the name exists.
+	 *
+	 * @param name 		Name of the block, used by other processes to attach.
+	 * @param size 		Size of the data in bytes.
+	 * @param version 	Version of the data layout, checked by {@link SharedMemory#attach(String, int)}.
+	 * */
+	public static SharedMemory create(String name, long size, int version) throws IOException {
+		if (size < 0) {
+			throw new IllegalArgumentException("size < 0");
+		}
+		final Path path = path(name);
+		//Opened outside the try: if the name is taken, the file belongs to another process and must not be deleted.
+		final FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+		final MappedFile file;
+		try {
+			file = MappedFile.map(channel, 0, HEADER_SIZE + size, MapMode.READ_WRITE);
+		}catch(IOException | RuntimeException e) {
+			channel.close();
+			Files.deleteIfExists(path);
+			throw e;
+		}
+		final long header = file.address();
+		MemoryAccessor.setInt(header + VERSION_OFFSET, version);
+		MemoryAccessor.setLong(header + SIZE_OFFSET, size);
+		//Published last: a process that sees the magic number also sees the rest of the header.
+		MemoryAccessor.setIntRelease(header + MAGIC_OFFSET, MAGIC);
+		return new SharedMemory(name, path, file);
+	}
+
+	/**
+	 * Attaches to a block created by another process.
+	 *
+	 * @param name 		Name of the block.
+	 * @param version 	Expected version of the data layout.
+	 * @throws IOException if the block does not exist, is not initialized yet or has another version.
+	 * */
+	public static SharedMemory attach(String name, int version) throws IOException {
+		final Path path = path(name);
+		final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+		final long length = channel.size();
+		if (length < HEADER_SIZE) {
+			channel.close();
+			throw new IOException("Shared memory " + name + " is not initialized");
+		}
+		final MappedFile file = MappedFile.map(channel, 0, length, MapMode.READ_WRITE);
+		final long header = file.address();
+		try {
+			if (MemoryAccessor.getIntAcquire(header + MAGIC_OFFSET) != MAGIC) {
+				throw new IOException("Shared memory " + name + " is not initialized");
+			}
+			final int actualVersion = MemoryAccessor.getInt(header + VERSION_OFFSET);
+			if (actualVersion != version) {
+				throw new IOException("Shared memory " + name + " has version " + actualVersion + ", expected " + version);
+			}
+			if (MemoryAccessor.getLong(header + SIZE_OFFSET) + HEADER_SIZE > length) {
+				throw new IOException("Shared memory " + name + " is truncated");
+			}
+		}catch(IOException e) {
+			file.close();
+			throw e;
+		}
+		return new SharedMemory(name, path, file);
+	}
+
+	/**
+	 * Removes the block with the name. Processes that are attached keep their mapping until they detach.
+	 * @return Returns true if the block existed.
+	 * */
+	public static boolean unlink(String name) throws IOException {
+		return Files.deleteIfExists(path(name));
+	}
+
+	/**
+	 * Removes this block. Processes that are attached keep their mapping until they detach.
+	 * */
+	public void unlink() throws IOException {
+		Files.deleteIfExists(path);
+	}
+
+	/**
+	 * @return Returns the address of the data, aligned to {@link SharedMemory#HEADER_SIZE} bytes.
+	 * */
+	public @NativeType("void*") long address() {
+		return file.address() + HEADER_SIZE;
+	}
+
+	/**
+	 * @return Returns the size of the data in bytes.
+	 * */
+	public long size() {
+		return MemoryAccessor.getLong(file.address() + SIZE_OFFSET);
+	}
+
+	public int version() {
+		return MemoryAccessor.getInt(file.address() + VERSION_OFFSET);
+	}
+
+	public String name() {
+		return name;
+	}
+
+	/**
+	 * Creates a pointer to the data. The pointer does not own the memory, closing it does nothing.
+	 * The memory is released by {@link SharedMemory#detach()}.
+	 * */
+	public <T extends VoidPointer> T pointer(IInstanceFabric<T> instance_fabric) {
+		return VoidPointer.bind(instance_fabric._new(0), address(), IMemoryOwner.NONE);
+	}
+
+	/**
+	 * Writes the content to the backing file. Only needed when the directory is not a tmpfs.
+	 * */
+	public void force() {
+		file.force();
+	}
+
+	/**
+	 * Unmaps the block from this process. The block itself stays until {@link SharedMemory#unlink()}.
+	 * */
+	public void detach() {
+		file.close();
+	}
+
+	public boolean isDetached() {
+		return file.isClosed();
+	}
+
+	/**
+	 * @see SharedMemory#detach()
+	 * */
+	@Override
+	public void close() {
+		detach();
+	}
+}
@@ -0,0 +1,340 @@
+/*
+ * Copyright (c) 2024, Miracle-Masterpiсe <mrmiraclemasterpiece@gmail.com or https://t.me/MiracleMasterpiece>. All rights reserved.
+ * Use is subject to license terms.
+ * 
+ * 
+ * 
+ * 
+ * 
+ * 
+ * 
+ * 
+ * */
+package nw4j.wrapper.c.allocators;
+
+import java.io.Closeable;
+
+import nw4j.helpers.Helpers;
+import nw4j.helpers.NativeType;
+import nw4j.wrapper.c.pointers.VoidPointer;
+
+/**
+ * Size-class slab allocator for small, short-lived blocks.
+ * <p>
+ * Requests up to {@link SlabAllocator#MAX_BLOCK_SIZE} bytes are rounded up to a power of two size class (16 .. 2048 bytes)
+ * and served from slabs carved out of large {@link MemoryAccessor#malloc(long)} blocks.
+ * Each thread keeps a small magazine of free blocks per size class, so most malloc/free pairs touch neither a lock nor the C allocator.
+ * Larger requests fall back to {@link MemoryAccessor#malloc(long)}.
+ * <p>
+ * Every block is preceded by an 8-byte header with its size class, so returned addresses are aligned to 8 bytes.
+ * Slabs are returned to the C allocator only by {@link SlabAllocator#destroy()}.
+ *
+ * try(SlabAllocator slab = new SlabAllocator(); IntPointer i = IntPointer.alloc(1, slab)){
+ * 		i.set(42);
+ * }
+ *
+ * @see IAllocator
+ *
+ * @since 0.8
+ * @author miracle-masterpiece
+ * */
+public final class SlabAllocator implements IAllocator, AutoCloseable, Closeable{
+
+	/**Length of the block header in bytes.*/
+	private static final int HEADER_SIZE 		= 8;
+
+	/**Header value of blocks allocated directly with malloc.*/
+	private static final long LARGE_BLOCK 		= -1;
+
+	private static final int MIN_BLOCK_SHIFT 	= 4;
+	private static final int SIZE_CLASSES 		= 8;
+
+	/**The largest request served from slabs.*/
+	public static final int MAX_BLOCK_SIZE 		= 1 << (MIN_BLOCK_SHIFT + SIZE_CLASSES - 1);
+
+	/**Number of blocks cached by each thread per size class.*/
+	private static final int MAGAZINE_SIZE 		= 64;
+
+	private final int slabSize;
+
+	private final FreeList[] freeLists = new FreeList[SIZE_CLASSES];
+
+	private final ThreadLocal<Magazine> magazines = ThreadLocal.withInitial(Magazine::new);
+
+	/**
+	 * Addresses of all slabs, for {@link SlabAllocator#destroy()}. Guarded by slabsLock.
+	 * */
+	private long[] slabs = new long[16];
+	private int slabCount;
+
+	/**
+	 * Taken with a free list lock held, so no free list lock may be taken while it is held.
+	 * */
+	private final Object slabsLock = new Object();
+
+	/**
+	 * Checked on every allocation and free: magazines of other threads still hold blocks of the freed slabs after {@link SlabAllocator#destroy()}.
+	 * */
+	private volatile boolean destroyed;
+
+	public SlabAllocator() {
+		this(64 * 1024);
+	}
+
+	/**
+	 * @param slabSize Number of bytes requested from malloc when a size class runs out of blocks.
+	 * */
+	public SlabAllocator(int slabSize) {
+		if (slabSize < MAX_BLOCK_SIZE + HEADER_SIZE) {
+			throw new IllegalArgumentException("slabSize < " + (MAX_BLOCK_SIZE + HEADER_SIZE));
+		}
+		this.slabSize = slabSize;
+		for (int i = 0; i < SIZE_CLASSES; ++i) {
+			freeLists[i] = new FreeList();
+		}
+	}
+
+	/**Global free blocks of one size class.*/
+	private static final class FreeList{
+		long[] blocks = new long[256];
+		int count;
+	}
+
+	/**Per-thread cache of free blocks.*/
+	private static final class Magazine{
+		final long[][] blocks 	= new long[SIZE_CLASSES][MAGAZINE_SIZE];
+		final int[] counts 		= new int[SIZE_CLASSES];
+	}
+
+	private static int sizeClass(long n) {
+		if (n <= (1 << MIN_BLOCK_SHIFT)) {
+			return 0;
+		}
+		return 64 - Long.numberOfLeadingZeros(n - 1) - MIN_BLOCK_SHIFT;
+	}
+
+	private static int classSize(int sizeClass) {
+		return 1 << (sizeClass + MIN_BLOCK_SHIFT);
+	}
+
+	@Override
+	public long malloc(long n) {
+		if (destroyed) {
+			throw new IllegalStateException("SlabAllocator is destroyed!");
+		}
+		if (Helpers.ENABLE_CHECKS) {
+			if (n < 0) {
+				throw new IllegalArgumentException("n < 0");
+			}
+		}
+
+		if (n > MAX_BLOCK_SIZE) {
+			@NativeType("void*") final long block = MemoryAccessor.malloc(n + HEADER_SIZE);
+			if (block == VoidPointer.nullptr) {
+				return VoidPointer.nullptr;
+			}
+			MemoryAccessor.setLong(block, LARGE_BLOCK);
+			return block + HEADER_SIZE;
+		}
+
+		final int sizeClass = sizeClass(n);
+		final Magazine magazine = magazines.get();
+		if (magazine.counts[sizeClass] == 0) {
+			if (!refill(magazine, sizeClass)) {
+				return VoidPointer.nullptr;
+			}
+		}
+		final long block = magazine.blocks[sizeClass][--magazine.counts[sizeClass]];
+		MemoryAccessor.setLong(block, sizeClass);
+		return block + HEADER_SIZE;
+	}
+
+	@Override
+	public long calloc(long count, int typeSize) {
+		final long n = count * typeSize;
+		if (n > MAX_BLOCK_SIZE) {
+			//Large blocks come from the C allocator already zeroed.
+			if (destroyed) {
+				throw new IllegalStateException("SlabAllocator is destroyed!");
+			}
+			@NativeType("void*") final long block = MemoryAccessor.calloc(n + HEADER_SIZE, 1);
+			if (block == VoidPointer.nullptr) {
+				return VoidPointer.nullptr;
+			}
+			MemoryAccessor.setLong(block, LARGE_BLOCK);
+			return block + HEADER_SIZE;
+		}
+		final long address = malloc(n);
+		if (address != VoidPointer.nullptr) {
+			MemoryAccessor.memset(address, 0, n);
+		}
+		return address;
+	}
+
+	@Override
+	public long realloc(long address, long newsize) {
+		if (address == VoidPointer.nullptr) {
+			return malloc(newsize);
+		}
+		if (newsize == 0) {
+			free(address);
+			return VoidPointer.nullptr;
+		}
+
+		final long block = address - HEADER_SIZE;
+		final long header = MemoryAccessor.getLong(block);
+
+		if (header == LARGE_BLOCK && newsize > MAX_BLOCK_SIZE) {
+			final long newBlock = MemoryAccessor.realloc(block, newsize + HEADER_SIZE);
+			return newBlock != VoidPointer.nullptr ? newBlock + HEADER_SIZE : VoidPointer.nullptr;
+		}
+
+		if (header != LARGE_BLOCK && newsize <= classSize((int)header)) {
+			return address;
+		}
+
+		final long newAddress = malloc(newsize);
+		if (newAddress == VoidPointer.nullptr) {
+			return VoidPointer.nullptr;
+		}
+		//A large block is bigger than any size class, so moving it into a slab block copies newsize bytes.
+		final long oldSize = header == LARGE_BLOCK ? newsize : classSize((int)header);
+		MemoryAccessor.memcopy(address, newAddress, Math.min(oldSize, newsize));
+		free(address);
+		return newAddress;
+	}
+
+	@Override
+	public void free(long address) {
+		if (address == VoidPointer.nullptr) {
+			return;
+		}
+		//The header of a slab block lies in freed memory after destroy().
+		if (destroyed) {
+			throw new IllegalStateException("SlabAllocator is destroyed!");
+		}
+
+		final long block = address - HEADER_SIZE;
+		final long header = MemoryAccessor.getLong(block);
+
+		if (header == LARGE_BLOCK) {
+			MemoryAccessor.free(block);
+			return;
+		}
+
+		if (Helpers.ENABLE_CHECKS) {
+			if (header < 0 || header >= SIZE_CLASSES) {
+				throw new IllegalArgumentException("Address 0x" + Long.toHexString(address) + " was not allocated by this SlabAllocator!");
+			}
+		}
+
+		final int sizeClass = (int)header;
+		final Magazine magazine = magazines.get();
+		if (magazine.counts[sizeClass] == MAGAZINE_SIZE) {
+			flush(magazine, sizeClass);
+		}
+		magazine.blocks[sizeClass][magazine.counts[sizeClass]++] = block;
+	}
+
+	/**
+	 * Moves half a magazine of blocks from the global free list, carving a new slab when the list is empty.
+	 * */
+	private boolean refill(Magazine magazine, int sizeClass) {
+		final FreeList list = freeLists[sizeClass];
+		synchronized (list) {
+			//Checked under the lock: destroy() sets the flag before it clears the lists.
+			if (destroyed) {
+				throw new IllegalStateException("SlabAllocator is destroyed!");
+			}
+			if (list.count == 0 && !carve(list, sizeClass)) {
+				return false;
+			}
+			final int n = Math.min(list.count, MAGAZINE_SIZE >> 1);
+			list.count -= n;
+			System.arraycopy(list.blocks, list.count, magazine.blocks[sizeClass], 0, n);
+			magazine.counts[sizeClass] = n;
+		}
+		return true;
+	}
+
+	/**
+	 * Moves half a magazine of blocks to the global free list.
+	 * */
+	private void flush(Magazine magazine, int sizeClass) {
+		final FreeList list = freeLists[sizeClass];
+		final int n = MAGAZINE_SIZE >> 1;
+		synchronized (list) {
+			ensureCapacity(list, list.count + n);
+			magazine.counts[sizeClass] -= n;
+			System.arraycopy(magazine.blocks[sizeClass], magazine.counts[sizeClass], list.blocks, list.count, n);
+			list.count += n;
+		}
+	}
+
+	/**
+	 * Allocates a new slab and splits it into blocks of the size class. Called with the list lock held.
+	 * */
+	private boolean carve(FreeList list, int sizeClass) {
+		@NativeType("void*") final long slab = MemoryAccessor.malloc(slabSize);
+		if (slab == VoidPointer.nullptr) {
+			return false;
+		}
+		synchronized (slabsLock) {
+			if (slabCount == slabs.length) {
+				final long[] _new = new long[slabs.length << 1];
+				System.arraycopy(slabs, 0, _new, 0, slabCount);
+				slabs = _new;
+			}
+			slabs[slabCount++] = slab;
+		}
+
+		final int stride = classSize(sizeClass) + HEADER_SIZE;
+		final int n = slabSize / stride;
+		ensureCapacity(list, list.count + n);
+		//Pushed in reverse so blocks are handed out in ascending address order.
+		for (int i = n - 1; i >= 0; --i) {
+			list.blocks[list.count++] = slab + (long)i * stride;
+		}
+		return true;
+	}
+
+	private static void ensureCapacity(FreeList list, int capacity) {
+		if (capacity > list.blocks.length) {
+			final long[] _new = new long[Math.max(capacity, list.blocks.length << 1)];
+			System.arraycopy(list.blocks, 0, _new, 0, list.count);
+			list.blocks = _new;
+		}
+	}
+
+	/**
+	 * Frees all slabs. Blocks allocated from slabs become invalid, large blocks must be freed before.
+	 * Later allocations and frees throw {@link IllegalStateException}.
+	 * */
+	public synchronized void destroy() {
+		if (destroyed) {
+			return;
+		}
+		destroyed = true;
+		//Free list locks are taken before slabsLock, in the same order as refill and carve.
+		for (int i = 0; i < SIZE_CLASSES; ++i) {
+			synchronized (freeLists[i]) {
+				freeLists[i].count = 0;
+			}
+		}
+		synchronized (slabsLock) {
+			for (int i = 0; i < slabCount; ++i) {
+				MemoryAccessor.free(slabs[i]);
+			}
+			slabCount = 0;
+		}
+		magazines.remove();
+	}
+
+	/**
+	 * @see SlabAllocator#destroy()
+	 * */
+	@Override
+	public void close() {
+		destroy();
+	}
+}
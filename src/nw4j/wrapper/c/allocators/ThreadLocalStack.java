@@ -62,10 +62,25 @@ public final class ThreadLocalStack implements IStack{
 	 * */
 	private long maxSize;
 
+	/**
+	 * The allocator of the stack memory.
+	 * */
+	private final IAllocator allocator;
+
 	public ThreadLocalStack(long stackSize) {
+		this(stackSize, IAllocator.DEFAULT);
+	}
+
+	/**
+	 * @param stackSize Maximum stack size in bytes.
+	 * @param allocator The allocator from which the stack memory is taken.
+	 * @since 0.8
+	 * */
+	public ThreadLocalStack(long stackSize, IAllocator allocator) {
+		this.allocator 		= allocator;
 		current 			= Thread.currentThread();
-		address 			= Helpers.addressNonNull(MemoryAccessor.malloc(stackSize));
-		allocSizesArray  	= Helpers.addressNonNull(MemoryAccessor.malloc(stackSize * VoidPointer.INT_SIZE));
+		address 			= Helpers.addressNonNull(allocator.malloc(stackSize));
+		allocSizesArray  	= Helpers.addressNonNull(allocator.malloc(stackSize * VoidPointer.INT_SIZE));
 		maxSize 		 	= stackSize;
 	}
 
@@ -92,10 +107,10 @@ public final class ThreadLocalStack implements IStack{
 	@Override
 	public void destroy() {
 		try {
-			MemoryAccessor.free(address);			
+			allocator.free(address);			
 		}catch(Throwable t) {throw new RuntimeException(t);}
 		try {
-			MemoryAccessor.free(allocSizesArray);			
+			allocator.free(allocSizesArray);			
 		}catch(Throwable t) {throw new RuntimeException(t);}
 	}
 
@@ -141,58 +156,72 @@ public final class ThreadLocalStack implements IStack{
 
 	@Override
 	public long rawByte(int n) {
-		return allocNBytes(n);
+		return allocNBytes(n, 1);
 	}
 
 	@Override
 	public long rawChar(int n) {
-		return allocNBytes(n <<1);
+		return allocNBytes(n <<1, VoidPointer.CHAR_SIZE);
 	}
 
 	@Override
 	public long rawShort(int n) {
-		return allocNBytes(n << 1);
+		return allocNBytes(n << 1, VoidPointer.SHORT_SIZE);
 	}
 
 	@Override
 	public long rawInt(int n) {
-		return allocNBytes(n << 2);
+		return allocNBytes(n << 2, VoidPointer.INT_SIZE);
 	}
 
 	@Override
 	public long rawFloat(int n) {
-		return allocNBytes(n << 2);
+		return allocNBytes(n << 2, VoidPointer.FLOAT_SIZE);
 	}
 
 	@Override
 	public long rawLong(int n) {
-		return allocNBytes(n << 3);
+		return allocNBytes(n << 3, VoidPointer.LONG_SIZE);
 	}
 
 	@Override
 	public long rawDouble(int n) {
-		return allocNBytes(n << 3);
+		return allocNBytes(n << 3, VoidPointer.DOUBLE_SIZE);
 	}
 
 	@Override
 	public long rawBoolean(int n) {
-		return allocNBytes(n);
+		return allocNBytes(n, 1);
 	}
 
-	private long allocNBytes(int n) {
+	@Override
+	public long rawAligned(int n, int alignment) {
+		if (ENABLE_CHECKS) {
+			if (Integer.bitCount(alignment) != 1) {
+				throw new IllegalArgumentException("Alignment is not a power of two: " + alignment);
+			}
+		}
+		return allocNBytes(n, alignment);
+	}
+
+	/**
+	 * The padding before the aligned address is recorded as part of the allocation, so {@link ThreadLocalStack#pop()} releases it too.
+	 * */
+	private long allocNBytes(int n, int alignment) {
+		final long top = address + pointerOffset;
+		final int size = n + (int)(((top + alignment - 1) & -alignment) - top);
 		if (ENABLE_CHECKS) {
-			checks(n);
+			checks(size);
 		}
-		long _resultAddress = address + pointerOffset;
-		pointerOffset += n;
-		MemoryAccessor.setInt(allocSizesArray + (allocPtr << 2), n);
+		pointerOffset += size;
+		MemoryAccessor.setInt(allocSizesArray + (allocPtr << 2), size);
 		++allocPtr;
-		return _resultAddress;
+		return top + size - n;
 	}
 
 	@Override
 	public boolean reallocate(int newSize) {
-		long _newAddress = MemoryAccessor.realloc(address, newSize);
+		long _newAddress = allocator.realloc(address, newSize);
 		if (_newAddress != VoidPointer.nullptr) {
 			maxSize 		= newSize;
 			pointerOffset 	= 0;
@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2024, Miracle-Masterpiсe <mrmiraclemasterpiece@gmail.com or https://t.me/MiracleMasterpiece>. All rights reserved.
+ * Use is subject to license terms.
+ * 
+ * 
+ * 
+ * 
+ * 
+ * 
+ * 
+ * 
+ * */
+package nw4j.wrapper.c.concurrent;
+
+import java.io.Closeable;
+
+import nw4j.helpers.NativeType;
+import nw4j.wrapper.c.allocators.MemoryAccessor;
+
+/**
+ * A bounded queue of fixed-size records stored in native memory.
+ * <p>
+ * Records are addressed by a sequence number that grows by one for each record.
+ * A producer claims slots with {@link IRingBuffer#tryClaim(int)}, writes the records at {@link IRingBuffer#slot(long)}
+ * and makes them visible with {@link IRingBuffer#publish(long, int)}.
+ * A consumer takes published records with {@link IRingBuffer#tryRead(int)}, reads them
+ * and gives the slots back with {@link IRingBuffer#release(long, int)}.
+ * Slots of a batch are consecutive sequences, but their addresses can wrap around the end of the buffer.
+ * <p>
+ * All state is kept in the native memory of the buffer, so it can be placed in {@link nw4j.wrapper.c.allocators.SharedMemory}
+ * or a {@link nw4j.wrapper.c.allocators.MappedFile} and used by several processes.
+ *
+ * @see SpscRingBuffer
+ * @see MpmcRingBuffer
+ *
+ * @since 0.8
+ * @author miracle-masterpiece
+ * */
+public interface IRingBuffer extends AutoCloseable, Closeable{
+
+	/**
+	 * @return Returns the number of slots, a power of two.
+	 * */
+	public long capacity();
+
+	/**
+	 * @return Returns the size of a record in bytes.
+	 * */
+	public int recordSize();
+
+	/**
+	 * @return Returns the address of the memory of the buffer, including its header.
+	 * */
+	public @NativeType("void*") long address();
+
+	/**
+	 * Claims n consecutive slots for writing.
+	 *
+	 * @return Returns the sequence of the first slot, or -1 if there are not enough free slots.
+	 * */
+	public long tryClaim(int n);
+
+	/**
+	 * Makes n records starting at sequence visible to consumers.
+	 * */
+	public void publish(long sequence, int n);
+
+	/**
+	 * Takes n consecutive published records for reading.
+	 *
+	 * @return Returns the sequence of the first record, or -1 if fewer than n records are published.
+	 * */
+	public long tryRead(int n);
+
+	/**
+	 * Returns n slots starting at sequence to producers.
+	 * */
+	public void release(long sequence, int n);
+
+	/**
+	 * @return Returns the address of the record with the sequence.
+	 * */
+	public @NativeType("void*") long slot(long sequence);
+
+	/**
+	 * @return Returns the approximate number of published and not yet read records.
+	 * */
+	public long size();
+
+	/**
+	 * Copies one record from srcAddress into the buffer.
+	 * @return Returns false if the buffer is full.
+	 * */
+	public default boolean offer(@NativeType("void*") long srcAddress) {
+		final long sequence = tryClaim(1);
+		if (sequence < 0) {
+			return false;
+		}
+		MemoryAccessor.memcopy(srcAddress, slot(sequence), recordSize());
+		publish(sequence, 1);
+		return true;
+	}
+
+	/**
+	 * Copies one record from the buffer to dstAddress.
+	 * @return Returns false if the buffer is empty.
+	 * */
+	public default boolean poll(@NativeType("void*") long dstAddress) {
+		final long sequence = tryRead(1);
+		if (sequence < 0) {
+			return false;
+		}
+		MemoryAccessor.memcopy(slot(sequence), dstAddress, recordSize());
+		release(sequence, 1);
+		return true;
+	}
+
+	/**
+	 * Frees the memory if it was allocated by the buffer. Buffers over memory passed to wrap do nothing.
+	 * */
+	@Override
+	public void close();
+}
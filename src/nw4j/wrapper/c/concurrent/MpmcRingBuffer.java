@@ -0,0 +1,226 @@
+/*
+ * Copyright (c) 2024, Miracle-Masterpiсe <mrmiraclemasterpiece@gmail.com or https://t.me/MiracleMasterpiece>. All rights reserved.
+ * Use is subject to license terms.
+ * 
+ * 
+ * 
+ * 
+ * 
+ * 
+ * 
+ * 
+ * */
+package nw4j.wrapper.c.concurrent;
+
+import static nw4j.wrapper.c.concurrent.RingBufferHeader.CONSUMER_OFFSET;
+import static nw4j.wrapper.c.concurrent.RingBufferHeader.DATA_OFFSET;
+import static nw4j.wrapper.c.concurrent.RingBufferHeader.PRODUCER_OFFSET;
+
+import nw4j.helpers.Helpers;
+import nw4j.wrapper.c.allocators.MemoryAccessor;
+import nw4j.wrapper.c.pointers.VoidPointer;
+
+/**
+ * Ring buffer for any number of producer and consumer threads (bounded MPMC queue by D. Vyukov).
+ * <p>
+ * Every slot starts with an 8-byte sequence word. A slot with sequence s is free for the producer claiming s,
+ * and holds a published record for the consumer reading s when its word is s + 1.
+ * Producers and consumers reserve batches with a compare-and-set on their counter, and hand slots over with release stores of the slot words,
+ * so a slow thread never blocks threads working on other slots.
+ *
+ * @see SpscRingBuffer
+ *
+ * @since 0.8
+ * @author miracle-masterpiece
+ * */
+public final class MpmcRingBuffer implements IRingBuffer{
+
+	/**Length of the sequence word before each record.*/
+	private static final int SLOT_HEADER = 8;
+
+	private long address;
+	private final long data;
+	private final long capacity;
+	private final long mask;
+	private final int recordSize;
+	private final int stride;
+
+	/**True if the memory was allocated by this object.*/
+	private final boolean owner;
+
+	/**
+	 * Allocates a buffer in native memory aligned to a cache line.
+	 * @param capacity 		Number of slots, a power of two.
+	 * @param recordSize 	Size of a record in bytes.
+	 * */
+	public MpmcRingBuffer(long capacity, int recordSize) {
+		this(allocate(capacity, recordSize), capacity, recordSize, true);
+	}
+
+	private MpmcRingBuffer(long address, long capacity, int recordSize, boolean owner) {
+		this.address 	= address;
+		this.data 		= address + DATA_OFFSET;
+		this.capacity 	= capacity;
+		this.mask 		= capacity - 1;
+		this.recordSize = recordSize;
+		this.stride 	= stride(recordSize);
+		this.owner 		= owner;
+	}
+
+	private static long allocate(long capacity, int recordSize) {
+		RingBufferHeader.checkLayout(capacity, recordSize);
+		final long address = Helpers.addressNonNull(MemoryAccessor.mallocAligned(requiredBytes(capacity, recordSize), MemoryAccessor.CACHE_LINE_SIZE));
+		initialize(address, capacity, recordSize);
+		return address;
+	}
+
+	private static void initialize(long address, long capacity, int recordSize) {
+		RingBufferHeader.initialize(address, RingBufferHeader.KIND_MPMC, capacity, recordSize);
+		final long data = address + DATA_OFFSET;
+		final int stride = stride(recordSize);
+		for (long i = 0; i < capacity; ++i) {
+			MemoryAccessor.setLong(data + i * stride, i);
+		}
+		RingBufferHeader.publish(address);
+	}
+
+	/**
+	 * Creates a buffer over memory owned by the caller, for example {@link nw4j.wrapper.c.allocators.SharedMemory}.
+	 *
+	 * @param address 		Address of at least {@link MpmcRingBuffer#requiredBytes(long, int)} bytes, aligned to a cache line.
+	 * @param capacity 		Number of slots, a power of two.
+	 * @param recordSize 	Size of a record in bytes.
+	 * @param initialize 	True to initialize the memory, false to attach to a buffer initialized by another process.
+	 * */
+	public static MpmcRingBuffer wrap(long address, long capacity, int recordSize, boolean initialize) {
+		RingBufferHeader.checkArguments(address, capacity, recordSize);
+		if (initialize) {
+			initialize(address, capacity, recordSize);
+		}else {
+			RingBufferHeader.verify(address, RingBufferHeader.KIND_MPMC, capacity, recordSize);
+		}
+		return new MpmcRingBuffer(address, capacity, recordSize, false);
+	}
+
+	/**
+	 * @return Returns the number of bytes needed for a buffer with the capacity and record size.
+	 * */
+	public static long requiredBytes(long capacity, int recordSize) {
+		return DATA_OFFSET + capacity * stride(recordSize);
+	}
+
+	private static int stride(int recordSize) {
+		return SLOT_HEADER + ((recordSize + 7) & -8);
+	}
+
+	private long sequenceAddress(long sequence) {
+		return data + (sequence & mask) * stride;
+	}
+
+	private void checkBatch(int n) {
+		if (n <= 0 || n > capacity) {
+			throw new IllegalArgumentException("Batch size " + n + " is not in [1, " + capacity + "]");
+		}
+	}
+
+	/**
+	 * Checks that n slots starting at position are in the expected state.
+	 * @return Returns 0 if they are, a negative value if a slot is not ready yet, a positive value if the position is stale.
+	 * */
+	private long ready(long position, int n, long lag) {
+		for (int i = 0; i < n; ++i) {
+			final long difference = MemoryAccessor.getLongAcquire(sequenceAddress(position + i)) - (position + i + lag);
+			if (difference != 0) {
+				return difference;
+			}
+		}
+		return 0;
+	}
+
+	@Override
+	public long tryClaim(int n) {
+		if (Helpers.ENABLE_CHECKS) {
+			checkBatch(n);
+		}
+		final long counter = address + PRODUCER_OFFSET;
+		while (true) {
+			final long position = MemoryAccessor.getLongVolatile(counter);
+			final long state = ready(position, n, 0);
+			if (state < 0) {
+				//A slot still holds a record of the previous lap: the buffer is full.
+				return -1;
+			}
+			if (state == 0 && MemoryAccessor.compareAndSetLong(counter, position, position + n)) {
+				return position;
+			}
+			Thread.onSpinWait();
+		}
+	}
+
+	@Override
+	public void publish(long sequence, int n) {
+		for (int i = 0; i < n; ++i) {
+			MemoryAccessor.setLongRelease(sequenceAddress(sequence + i), sequence + i + 1);
+		}
+	}
+
+	@Override
+	public long tryRead(int n) {
+		if (Helpers.ENABLE_CHECKS) {
+			checkBatch(n);
+		}
+		final long counter = address + CONSUMER_OFFSET;
+		while (true) {
+			final long position = MemoryAccessor.getLongVolatile(counter);
+			final long state = ready(position, n, 1);
+			if (state < 0) {
+				//A record is not published yet: the buffer is empty.
+				return -1;
+			}
+			if (state == 0 && MemoryAccessor.compareAndSetLong(counter, position, position + n)) {
+				return position;
+			}
+			Thread.onSpinWait();
+		}
+	}
+
+	@Override
+	public void release(long sequence, int n) {
+		for (int i = 0; i < n; ++i) {
+			MemoryAccessor.setLongRelease(sequenceAddress(sequence + i), sequence + i + capacity);
+		}
+	}
+
+	@Override
+	public long slot(long sequence) {
+		return sequenceAddress(sequence) + SLOT_HEADER;
+	}
+
+	@Override
+	public long size() {
+		return MemoryAccessor.getLongAcquire(address + PRODUCER_OFFSET) - MemoryAccessor.getLongAcquire(address + CONSUMER_OFFSET);
+	}
+
+	@Override
+	public long capacity() {
+		return capacity;
+	}
+
+	@Override
+	public int recordSize() {
+		return recordSize;
+	}
+
+	@Override
+	public long address() {
+		return address;
+	}
+
+	@Override
+	public void close() {
+		if (owner && address != VoidPointer.nullptr) {
+			MemoryAccessor.freeAligned(address);
+			address = VoidPointer.nullptr;
+		}
+	}
+}
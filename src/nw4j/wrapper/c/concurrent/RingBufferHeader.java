@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2024, Miracle-Masterpiсe <mrmiraclemasterpiece@gmail.com or https://t.me/MiracleMasterpiece>. All rights reserved.
+ * Use is subject to license terms.
+ * 
+ * 
+ * 
+ * 
+ * 
+ * 
+ * 
+ * 
+ * */
+package nw4j.wrapper.c.concurrent;
+
+import nw4j.helpers.Helpers;
+import nw4j.wrapper.c.allocators.MemoryAccessor;
+import nw4j.wrapper.c.pointers.VoidPointer;
+
+/**
+ * Layout of the header shared by ring buffers.
+ * <p>
+ * The producer and consumer counters are on separate cache lines so that threads updating them do not invalidate each other's line.
+ * <pre>
+ * 0   producer sequence
+ * 64  consumer sequence
+ * 128 magic, kind, record size, capacity
+ * 192 slots
+ * </pre>
+ *
+ * @since 0.8
+ * @author miracle-masterpiece
+ * */
+final class RingBufferHeader {
+
+	static final int PRODUCER_OFFSET 	= 0;
+	static final int CONSUMER_OFFSET 	= MemoryAccessor.CACHE_LINE_SIZE;
+	static final int MAGIC_OFFSET 		= MemoryAccessor.CACHE_LINE_SIZE * 2;
+	static final int KIND_OFFSET 		= MAGIC_OFFSET + 4;
+	static final int RECORD_SIZE_OFFSET = MAGIC_OFFSET + 8;
+	static final int CAPACITY_OFFSET 	= MAGIC_OFFSET + 16;
+	static final int DATA_OFFSET 		= MemoryAccessor.CACHE_LINE_SIZE * 3;
+
+	/**"NWRB"*/
+	static final int MAGIC = 0x4E575242;
+
+	static final int KIND_SPSC = 1;
+	static final int KIND_MPMC = 2;
+
+	private RingBufferHeader() {}
+
+	static void checkLayout(long capacity, int recordSize) {
+		if (capacity <= 0 || Long.bitCount(capacity) != 1) {
+			throw new IllegalArgumentException("Capacity is not a power of two: " + capacity);
+		}
+		if (recordSize <= 0) {
+			throw new IllegalArgumentException("recordSize <= 0");
+		}
+	}
+
+	static void checkArguments(long address, long capacity, int recordSize) {
+		if (Helpers.ENABLE_CHECKS) {
+			if (address == VoidPointer.nullptr) {
+				throw new NullPointerException("address is NULL");
+			}
+			if ((address & (VoidPointer.LONG_SIZE - 1)) != 0) {
+				throw new IllegalArgumentException("Address is not aligned to 8 bytes: 0x" + Long.toHexString(address));
+			}
+		}
+		checkLayout(capacity, recordSize);
+	}
+
+	static void initialize(long address, int kind, long capacity, int recordSize) {
+		MemoryAccessor.memset(address, 0, DATA_OFFSET);
+		MemoryAccessor.setInt(address + KIND_OFFSET, kind);
+		MemoryAccessor.setLong(address + RECORD_SIZE_OFFSET, recordSize);
+		MemoryAccessor.setLong(address + CAPACITY_OFFSET, capacity);
+	}
+
+	/**
+	 * Marks the buffer as initialized. Called after the slots are prepared.
+	 * */
+	static void publish(long address) {
+		MemoryAccessor.setIntRelease(address + MAGIC_OFFSET, MAGIC);
+	}
+
+	static void verify(long address, int kind, long capacity, int recordSize) {
+		if (MemoryAccessor.getIntAcquire(address + MAGIC_OFFSET) != MAGIC) {
+			throw new IllegalStateException("Ring buffer at 0x" + Long.toHexString(address) + " is not initialized");
+		}
+		if (MemoryAccessor.getInt(address + KIND_OFFSET) != kind
+				|| MemoryAccessor.getLong(address + CAPACITY_OFFSET) != capacity
+				|| MemoryAccessor.getLong(address + RECORD_SIZE_OFFSET) != recordSize) {
+			throw new IllegalStateException("Ring buffer at 0x" + Long.toHexString(address) + " has another layout");
+		}
+	}
+}
@@ -0,0 +1,212 @@
+/*
+ * Copyright (c) 2024, Miracle-Masterpiсe <mrmiraclemasterpiece@gmail.com or https://t.me/MiracleMasterpiece>. All rights reserved.
+ * Use is subject to license terms.
+ * 
+ * 
+ * 
+ * 
+ * 
+ * 
+ * 
+ * 
+ * */
+package nw4j.wrapper.c.concurrent;
+
+import static nw4j.wrapper.c.concurrent.RingBufferHeader.CONSUMER_OFFSET;
+import static nw4j.wrapper.c.concurrent.RingBufferHeader.DATA_OFFSET;
+import static nw4j.wrapper.c.concurrent.RingBufferHeader.PRODUCER_OFFSET;
+
+import nw4j.helpers.Helpers;
+import nw4j.wrapper.c.allocators.MemoryAccessor;
+import nw4j.wrapper.c.pointers.VoidPointer;
+
+/**
+ * Ring buffer for exactly one producer thread and one consumer thread.
+ * <p>
+ * The producer only writes the producer sequence and the consumer only writes the consumer sequence,
+ * so no compare-and-set is needed: records are published with a release store and observed with an acquire load.
+ * Each side keeps a cached copy of the other side's sequence and reads the shared counter only when the cache says the buffer is full or empty.
+ * Claimed batches must be published in the order they were claimed.
+ *
+ * try(SpscRingBuffer ring = new SpscRingBuffer(1024, 32)){
+ * 		//producer
+ * 		long seq = ring.tryClaim(1);
+ * 		if (seq >= 0) {
+ * 			MemoryAccessor.setLong(ring.slot(seq), 42);
+ * 			ring.publish(seq, 1);
+ * 		}
+ * 		//consumer
+ * 		seq = ring.tryRead(1);
+ * 		if (seq >= 0) {
+ * 			long v = MemoryAccessor.getLong(ring.slot(seq));
+ * 			ring.release(seq, 1);
+ * 		}
+ * }
+ *
+ * @see MpmcRingBuffer
+ *
+ * @since 0.8
+ * @author miracle-masterpiece
+ * */
+public final class SpscRingBuffer implements IRingBuffer{
+
+	private long address;
+	private final long data;
+	private final long capacity;
+	private final long mask;
+	private final int recordSize;
+	private final int stride;
+
+	/**True if the memory was allocated by this object.*/
+	private final boolean owner;
+
+	//Producer side.
+	private long claimed;
+	private long cachedConsumer;
+
+	//Consumer side.
+	private long taken;
+	private long cachedProducer;
+
+	/**
+	 * Allocates a buffer in native memory aligned to a cache line.
+	 * @param capacity 		Number of slots, a power of two.
+	 * @param recordSize 	Size of a record in bytes.
+	 * */
+	public SpscRingBuffer(long capacity, int recordSize) {
+		this(allocate(capacity, recordSize), capacity, recordSize, true);
+	}
+
+	private SpscRingBuffer(long address, long capacity, int recordSize, boolean owner) {
+		this.address 	= address;
+		this.data 		= address + DATA_OFFSET;
+		this.capacity 	= capacity;
+		this.mask 		= capacity - 1;
+		this.recordSize = recordSize;
+		this.stride 	= stride(recordSize);
+		this.owner 		= owner;
+		this.claimed 		= MemoryAccessor.getLongVolatile(address + PRODUCER_OFFSET);
+		this.taken 			= MemoryAccessor.getLongVolatile(address + CONSUMER_OFFSET);
+		this.cachedConsumer = taken;
+		this.cachedProducer = claimed;
+	}
+
+	private static long allocate(long capacity, int recordSize) {
+		RingBufferHeader.checkLayout(capacity, recordSize);
+		final long address = Helpers.addressNonNull(MemoryAccessor.mallocAligned(requiredBytes(capacity, recordSize), MemoryAccessor.CACHE_LINE_SIZE));
+		RingBufferHeader.initialize(address, RingBufferHeader.KIND_SPSC, capacity, recordSize);
+		RingBufferHeader.publish(address);
+		return address;
+	}
+
+	/**
+	 * Creates a buffer over memory owned by the caller, for example {@link nw4j.wrapper.c.allocators.SharedMemory}.
+	 *
+	 * @param address 		Address of at least {@link SpscRingBuffer#requiredBytes(long, int)} bytes, aligned to a cache line.
+	 * @param capacity 		Number of slots, a power of two.
+	 * @param recordSize 	Size of a record in bytes.
+	 * @param initialize 	True to initialize the memory, false to attach to a buffer initialized by another process.
+	 * */
+	public static SpscRingBuffer wrap(long address, long capacity, int recordSize, boolean initialize) {
+		RingBufferHeader.checkArguments(address, capacity, recordSize);
+		if (initialize) {
+			RingBufferHeader.initialize(address, RingBufferHeader.KIND_SPSC, capacity, recordSize);
+			RingBufferHeader.publish(address);
+		}else {
+			RingBufferHeader.verify(address, RingBufferHeader.KIND_SPSC, capacity, recordSize);
+		}
+		return new SpscRingBuffer(address, capacity, recordSize, false);
+	}
+
+	/**
+	 * @return Returns the number of bytes needed for a buffer with the capacity and record size.
+	 * */
+	public static long requiredBytes(long capacity, int recordSize) {
+		return DATA_OFFSET + capacity * stride(recordSize);
+	}
+
+	private static int stride(int recordSize) {
+		return (recordSize + 7) & -8;
+	}
+
+	private void checkBatch(int n) {
+		if (n <= 0 || n > capacity) {
+			throw new IllegalArgumentException("Batch size " + n + " is not in [1, " + capacity + "]");
+		}
+	}
+
+	@Override
+	public long tryClaim(int n) {
+		if (Helpers.ENABLE_CHECKS) {
+			checkBatch(n);
+		}
+		if (claimed + n - cachedConsumer > capacity) {
+			cachedConsumer = MemoryAccessor.getLongAcquire(address + CONSUMER_OFFSET);
+			if (claimed + n - cachedConsumer > capacity) {
+				return -1;
+			}
+		}
+		final long sequence = claimed;
+		claimed += n;
+		return sequence;
+	}
+
+	@Override
+	public void publish(long sequence, int n) {
+		MemoryAccessor.setLongRelease(address + PRODUCER_OFFSET, sequence + n);
+	}
+
+	@Override
+	public long tryRead(int n) {
+		if (Helpers.ENABLE_CHECKS) {
+			checkBatch(n);
+		}
+		if (taken + n > cachedProducer) {
+			cachedProducer = MemoryAccessor.getLongAcquire(address + PRODUCER_OFFSET);
+			if (taken + n > cachedProducer) {
+				return -1;
+			}
+		}
+		final long sequence = taken;
+		taken += n;
+		return sequence;
+	}
+
+	@Override
+	public void release(long sequence, int n) {
+		MemoryAccessor.setLongRelease(address + CONSUMER_OFFSET, sequence + n);
+	}
+
+	@Override
+	public long slot(long sequence) {
+		return data + (sequence & mask) * stride;
+	}
+
+	@Override
+	public long size() {
+		return MemoryAccessor.getLongAcquire(address + PRODUCER_OFFSET) - MemoryAccessor.getLongAcquire(address + CONSUMER_OFFSET);
+	}
+
+	@Override
+	public long capacity() {
+		return capacity;
+	}
+
+	@Override
+	public int recordSize() {
+		return recordSize;
+	}
+
+	@Override
+	public long address() {
+		return address;
+	}
+
+	@Override
+	public void close() {
+		if (owner && address != VoidPointer.nullptr) {
+			MemoryAccessor.freeAligned(address);
+			address = VoidPointer.nullptr;
+		}
+	}
+}
@@ -0,0 +1,246 @@
+/*
+ * Copyright (c) 2024, Miracle-Masterpiсe <mrmiraclemasterpiece@gmail.com or https://t.me/MiracleMasterpiece>. All rights reserved.
+ * Use is subject to license terms.
+ * 
+ * 
+ * 
+ * 
+ * 
+ * 
+ * 
+ * 
+ * */
+package nw4j.wrapper.c.containers;
+
+import java.io.Closeable;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import nw4j.wrapper.c.allocators.IAllocator;
+
+/**
+ * A thread-safe long to long hash map split into stripes.
+ * <p>
+ * Each stripe is a {@link LongLongHashMap} guarded by its own read-write lock, and a key is assigned to a stripe by the high bits of its hash,
+ * so threads working with different stripes do not contend and lookups in one stripe run in parallel.
+ * Stripes are resized independently.
+ * Reads take the read lock because a concurrent resize frees the old table of the stripe.
+ *
+ * @see LongLongHashMap
+ *
+ * @since 0.8
+ * @author miracle-masterpiece
+ * */
+public final class ConcurrentLongLongHashMap implements AutoCloseable, Closeable{
+
+	private final LongLongHashMap[] stripes;
+
+	private final ReentrantReadWriteLock[] locks;
+
+	/**64 - log2(number of stripes).*/
+	private final int shift;
+
+	private final long noEntryValue;
+
+	public ConcurrentLongLongHashMap() {
+		this(16, Runtime.getRuntime().availableProcessors() * 4);
+	}
+
+	public ConcurrentLongLongHashMap(long expectedSize, int concurrencyLevel) {
+		this(expectedSize, concurrencyLevel, 0.75f, 0, IAllocator.DEFAULT);
+	}
+
+	/**
+	 * @param expectedSize 		Number of keys the map can hold without resizing, spread evenly over the stripes.
+	 * @param concurrencyLevel 	Number of stripes, rounded up to a power of two.
+	 * @param loadFactor 		The largest ratio of keys to table entries of a stripe.
+	 * @param noEntryValue 		The value returned for missing keys.
+	 * @param allocator 		The allocator of the stripe tables, must be thread-safe.
+	 * */
+	public ConcurrentLongLongHashMap(long expectedSize, int concurrencyLevel, float loadFactor, long noEntryValue, IAllocator allocator) {
+		if (concurrencyLevel <= 0 || concurrencyLevel > (1 << 16)) {
+			throw new IllegalArgumentException("concurrencyLevel must be in [1, 65536]: " + concurrencyLevel);
+		}
+		final int n = concurrencyLevel == 1 ? 1 : Integer.highestOneBit(concurrencyLevel - 1) << 1;
+		this.shift 			= 64 - Integer.numberOfTrailingZeros(n);
+		this.noEntryValue 	= noEntryValue;
+		this.stripes 		= new LongLongHashMap[n];
+		this.locks 			= new ReentrantReadWriteLock[n];
+		final long stripeSize = (expectedSize + n - 1) / n;
+		for (int i = 0; i < n; ++i) {
+			stripes[i] 	= new LongLongHashMap(stripeSize, loadFactor, noEntryValue, allocator);
+			locks[i] 	= new ReentrantReadWriteLock();
+		}
+	}
+
+	/**
+	 * The stripe map uses the low bits of the hash, the high bits select the stripe.
+	 * */
+	private int stripe(long key) {
+		return shift == 64 ? 0 : (int)(LongLongHashMap.hash(key) >>> shift);
+	}
+
+	public long get(long key) {
+		return getOrDefault(key, noEntryValue);
+	}
+
+	public long getOrDefault(long key, long defaultValue) {
+		final int s = stripe(key);
+		final ReentrantReadWriteLock.ReadLock lock = locks[s].readLock();
+		lock.lock();
+		try {
+			return stripes[s].getOrDefault(key, defaultValue);
+		}finally {
+			lock.unlock();
+		}
+	}
+
+	public boolean containsKey(long key) {
+		final int s = stripe(key);
+		final ReentrantReadWriteLock.ReadLock lock = locks[s].readLock();
+		lock.lock();
+		try {
+			return stripes[s].containsKey(key);
+		}finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * @see LongLongHashMap#put(long, long)
+	 * */
+	public long put(long key, long value) {
+		final int s = stripe(key);
+		final ReentrantReadWriteLock.WriteLock lock = locks[s].writeLock();
+		lock.lock();
+		try {
+			return stripes[s].put(key, value);
+		}finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Atomically adds delta to the value of the key.
+	 *
+	 * @see LongLongHashMap#addTo(long, long)
+	 * */
+	public long addTo(long key, long delta) {
+		final int s = stripe(key);
+		final ReentrantReadWriteLock.WriteLock lock = locks[s].writeLock();
+		lock.lock();
+		try {
+			return stripes[s].addTo(key, delta);
+		}finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Puts the key only if it is missing.
+	 *
+	 * @return Returns the current value of the key, or the no-entry value if the key was added.
+	 * */
+	public long putIfAbsent(long key, long value) {
+		final int s = stripe(key);
+		final ReentrantReadWriteLock.WriteLock lock = locks[s].writeLock();
+		lock.lock();
+		try {
+			final LongLongHashMap map = stripes[s];
+			if (map.containsKey(key)) {
+				return map.get(key);
+			}
+			map.put(key, value);
+			return noEntryValue;
+		}finally {
+			lock.unlock();
+		}
+	}
+
+	public long remove(long key) {
+		final int s = stripe(key);
+		final ReentrantReadWriteLock.WriteLock lock = locks[s].writeLock();
+		lock.lock();
+		try {
+			return stripes[s].remove(key);
+		}finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Puts the pairs of the arrays. Pairs are put one by one, not atomically as a whole.
+	 * */
+	public void putAll(long[] keys, long[] values) {
+		if (keys.length != values.length) {
+			throw new IllegalArgumentException("keys.length != values.length");
+		}
+		for (int i = 0; i < keys.length; ++i) {
+			put(keys[i], values[i]);
+		}
+	}
+
+	/**
+	 * Calls the consumer for each entry, holding the read lock of one stripe at a time.
+	 * The consumer must not modify the map.
+	 * */
+	public void forEach(ILongLongConsumer consumer) {
+		for (int s = 0; s < stripes.length; ++s) {
+			final ReentrantReadWriteLock.ReadLock lock = locks[s].readLock();
+			lock.lock();
+			try {
+				stripes[s].forEach(consumer);
+			}finally {
+				lock.unlock();
+			}
+		}
+	}
+
+	/**
+	 * @return Returns the number of keys. The result is not a snapshot if the map is modified concurrently.
+	 * */
+	public long size() {
+		long n = 0;
+		for (int s = 0; s < stripes.length; ++s) {
+			final ReentrantReadWriteLock.ReadLock lock = locks[s].readLock();
+			lock.lock();
+			try {
+				n += stripes[s].size();
+			}finally {
+				lock.unlock();
+			}
+		}
+		return n;
+	}
+
+	public boolean isEmpty() {
+		return size() == 0;
+	}
+
+	public void clear() {
+		for (int s = 0; s < stripes.length; ++s) {
+			final ReentrantReadWriteLock.WriteLock lock = locks[s].writeLock();
+			lock.lock();
+			try {
+				stripes[s].clear();
+			}finally {
+				lock.unlock();
+			}
+		}
+	}
+
+	/**
+	 * Frees the tables of all stripes. The map must not be used after that.
+	 * */
+	@Override
+	public void close() {
+		for (int s = 0; s < stripes.length; ++s) {
+			final ReentrantReadWriteLock.WriteLock lock = locks[s].writeLock();
+			lock.lock();
+			try {
+				stripes[s].close();
+			}finally {
+				lock.unlock();
+			}
+		}
+	}
+}
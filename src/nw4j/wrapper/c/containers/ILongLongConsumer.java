@@ -0,0 +1,26 @@
+/*
+ * Copyright (c) 2024, Miracle-Masterpiсe <mrmiraclemasterpiece@gmail.com or https://t.me/MiracleMasterpiece>. All rights reserved.
+ * Use is subject to license terms.
+ * 
+ * 
+ * 
+ * 
+ * 
+ * 
+ * 
+ * 
+ * */
+package nw4j.wrapper.c.containers;
+
+/**
+ * Receives the entries of a long to long map without boxing.
+ *
+ * @see LongLongHashMap#forEach(ILongLongConsumer)
+ *
+ * @since 0.8
+ * @author miracle-masterpiece
+ * */
+@FunctionalInterface
+public interface ILongLongConsumer {
+	void accept(long key, long value);
+}
@@ -0,0 +1,233 @@
+/*
+ * Copyright (c) 2024, Miracle-Masterpiсe <mrmiraclemasterpiece@gmail.com or https://t.me/MiracleMasterpiece>. All rights reserved.
+ * Use is subject to license terms.
+ * 
+ * 
+ * 
+ * 
+ * 
+ * 
+ * 
+ * 
+ * */
+package nw4j.wrapper.c.containers;
+
+import java.io.Closeable;
+import java.util.Objects;
+
+import nw4j.helpers.Helpers;
+import nw4j.helpers.NativeType;
+import nw4j.wrapper.c.allocators.IAllocator;
+import nw4j.wrapper.c.allocators.MemoryAccessor;
+import nw4j.wrapper.c.pointers.IntPointer;
+import nw4j.wrapper.c.pointers.VoidPointer;
+
+/**
+ * A growable array of int values in native memory.
+ * <p>
+ * The capacity grows by half of the current capacity with {@link IAllocator#realloc(long, long)}, so n additions cost amortized O(n) copies.
+ * The address changes when the vector grows, so pointers returned by {@link IntVector#asPointer()} are valid only until the next growth.
+ * The vector is not thread-safe.
+ *
+ * try(IntVector v = new IntVector()){
+ * 		v.add(1);
+ * 		v.addAll(new int[] {1, 1});
+ * 		int last = v.removeLast();
+ * }
+ *
+ * @since 0.8
+ * @author miracle-masterpiece
+ * */
+public final class IntVector implements AutoCloseable, Closeable{
+
+	private static final int DEFAULT_CAPACITY = 16;
+
+	private final IAllocator allocator;
+
+	private @NativeType("int*") long address;
+
+	private long size;
+
+	private long capacity;
+
+	public IntVector() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	public IntVector(long initialCapacity) {
+		this(initialCapacity, IAllocator.DEFAULT);
+	}
+
+	/**
+	 * @param initialCapacity 	Number of elements the vector can hold before the first growth.
+	 * @param allocator 		The allocator of the vector memory.
+	 * */
+	public IntVector(long initialCapacity, IAllocator allocator) {
+		if (initialCapacity < 0) {
+			throw new IllegalArgumentException("initialCapacity < 0");
+		}
+		this.allocator = allocator;
+		if (initialCapacity > 0) {
+			address 	= Helpers.addressNonNull(allocator.malloc(initialCapacity * VoidPointer.INT_SIZE));
+			capacity 	= initialCapacity;
+		}
+	}
+
+	/**
+	 * Ensures that the vector can hold at least minCapacity elements without growing.
+	 * */
+	public void ensureCapacity(long minCapacity) {
+		if (minCapacity > capacity) {
+			reallocate(Math.max(minCapacity, capacity + (capacity >> 1) + 1));
+		}
+	}
+
+	private void reallocate(long newCapacity) {
+		address 	= Helpers.addressNonNull(allocator.realloc(address, newCapacity * VoidPointer.INT_SIZE));
+		capacity 	= newCapacity;
+	}
+
+	/**
+	 * Reduces the capacity to the size.
+	 * */
+	public void trimToSize() {
+		if (capacity > size && size > 0) {
+			reallocate(size);
+		}
+	}
+
+	public void add(int v) {
+		if (size == capacity) {
+			ensureCapacity(size + 1);
+		}
+		MemoryAccessor.setInt(address + size * VoidPointer.INT_SIZE, v);
+		++size;
+	}
+
+	/**
+	 * Appends len elements of the array starting at off with a single block copy.
+	 * */
+	public void addAll(int[] src, int off, int len) {
+		Objects.checkFromIndexSize(off, len, src.length);
+		ensureCapacity(size + len);
+		MemoryAccessor.copyFrom(address + size * VoidPointer.INT_SIZE, src, off, len);
+		size += len;
+	}
+
+	public void addAll(int[] src) {
+		addAll(src, 0, src.length);
+	}
+
+	/**
+	 * Appends count elements read from native memory.
+	 * */
+	public void addAll(@NativeType("int*") long srcAddress, long count) {
+		ensureCapacity(size + count);
+		MemoryAccessor.memcopy(srcAddress, address + size * VoidPointer.INT_SIZE, count * VoidPointer.INT_SIZE);
+		size += count;
+	}
+
+	public int get(long index) {
+		if (Helpers.ENABLE_CHECKS) {
+			Objects.checkIndex(index, size);
+		}
+		return MemoryAccessor.getInt(address + index * VoidPointer.INT_SIZE);
+	}
+
+	public void set(long index, int v) {
+		if (Helpers.ENABLE_CHECKS) {
+			Objects.checkIndex(index, size);
+		}
+		MemoryAccessor.setInt(address + index * VoidPointer.INT_SIZE, v);
+	}
+
+	/**
+	 * Removes the last element and returns it.
+	 * */
+	public int removeLast() {
+		if (size == 0) {
+			throw new IndexOutOfBoundsException("Vector is empty");
+		}
+		return MemoryAccessor.getInt(address + --size * VoidPointer.INT_SIZE);
+	}
+
+	/**
+	 * Copies the elements to a new java array.
+	 * */
+	public int[] toArray() {
+		if (size > Integer.MAX_VALUE - 8) {
+			throw new IllegalStateException("Vector is too large for a java array: " + size);
+		}
+		final int[] result = new int[(int)size];
+		MemoryAccessor.copyTo(address, result, 0, result.length);
+		return result;
+	}
+
+	/**
+	 * Copies len elements starting at index to the array.
+	 * */
+	public void copyTo(long index, int[] dst, int off, int len) {
+		Objects.checkFromIndexSize(index, len, size);
+		MemoryAccessor.copyTo(address + index * VoidPointer.INT_SIZE, dst, off, len);
+	}
+
+	/**
+	 * Sets the size to 0 and keeps the memory.
+	 * */
+	public void clear() {
+		size = 0;
+	}
+
+	/**
+	 * Changes the size. New elements are zeroed when zero is true, otherwise their content is unspecified.
+	 * */
+	public void resize(long newSize, boolean zero) {
+		if (newSize < 0) {
+			throw new IllegalArgumentException("newSize < 0");
+		}
+		ensureCapacity(newSize);
+		if (zero && newSize > size) {
+			MemoryAccessor.memset(address + size * VoidPointer.INT_SIZE, 0, (newSize - size) * VoidPointer.INT_SIZE);
+		}
+		size = newSize;
+	}
+
+	public long size() {
+		return size;
+	}
+
+	public long capacity() {
+		return capacity;
+	}
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * @return Returns the address of the first element. It changes when the vector grows.
+	 * */
+	public @NativeType("int*") long address() {
+		return address;
+	}
+
+	/**
+	 * Creates a pointer to the elements. The pointer does not own the memory and is valid until the vector grows or is closed.
+	 * */
+	public IntPointer asPointer() {
+		return VoidPointer.view(IntPointer.asAddress(address));
+	}
+
+	/**
+	 * Frees the memory. The vector can be used again after that.
+	 * */
+	@Override
+	public void close() {
+		if (address != VoidPointer.nullptr) {
+			allocator.free(address);
+		}
+		address 	= VoidPointer.nullptr;
+		size 		= 0;
+		capacity 	= 0;
+	}
+}
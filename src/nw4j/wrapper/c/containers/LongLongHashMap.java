@@ -0,0 +1,366 @@
+/*
+ * Copyright (c) 2024, Miracle-Masterpiсe <mrmiraclemasterpiece@gmail.com or https://t.me/MiracleMasterpiece>. All rights reserved.
+ * Use is subject to license terms.
+ * 
+ * 
+ * 
+ * 
+ * 
+ * 
+ * 
+ * 
+ * */
+package nw4j.wrapper.c.containers;
+
+import java.io.Closeable;
+
+import nw4j.helpers.Helpers;
+import nw4j.helpers.NativeType;
+import nw4j.wrapper.c.allocators.IAllocator;
+import nw4j.wrapper.c.allocators.MemoryAccessor;
+import nw4j.wrapper.c.pointers.VoidPointer;
+
+/**
+ * A long to long hash map with the table in native memory.
+ * <p>
+ * The table is an array of 16-byte entries (key, value) with linear probing, so an entry costs 16 bytes divided by the load factor.
+ * Key 0 marks an empty entry, the value of key 0 is kept in a field.
+ * Removal shifts the following entries of the probe sequence back instead of leaving tombstones,
+ * so lookups never slow down after many removals.
+ * <p>
+ * Missing keys are reported with the value given to the constructor (0 by default).
+ * The map is not thread-safe, see {@link ConcurrentLongLongHashMap}.
+ *
+ * try(LongLongHashMap map = new LongLongHashMap()){
+ * 		map.put(42, 1024);
+ * 		long offset = map.get(42);
+ * 		map.forEach((k, v) -> System.out.println(k + " = " + v));
+ * }
+ *
+ * @since 0.8
+ * @author miracle-masterpiece
+ * */
+public final class LongLongHashMap implements AutoCloseable, Closeable{
+
+	/**Size of an entry in bytes.*/
+	private static final int ENTRY_SIZE = 16;
+
+	private static final int VALUE_OFFSET = 8;
+
+	private static final int MIN_CAPACITY = 16;
+
+	private final IAllocator allocator;
+
+	private final float loadFactor;
+
+	private final long noEntryValue;
+
+	private @NativeType("long*") long table;
+
+	/**Number of entries in the table, a power of two.*/
+	private long capacity;
+
+	private long mask;
+
+	/**Number of keys, not counting key 0.*/
+	private long size;
+
+	/**Size at which the table is doubled.*/
+	private long threshold;
+
+	private boolean hasZeroKey;
+	private long zeroValue;
+
+	public LongLongHashMap() {
+		this(MIN_CAPACITY);
+	}
+
+	public LongLongHashMap(long expectedSize) {
+		this(expectedSize, 0.75f, 0, IAllocator.DEFAULT);
+	}
+
+	/**
+	 * @param expectedSize 	Number of keys the map can hold without resizing.
+	 * @param loadFactor 	The largest ratio of keys to table entries, from 0.1 to 0.95.
+	 * @param noEntryValue 	The value returned for missing keys.
+	 * @param allocator 	The allocator of the table.
+	 * */
+	public LongLongHashMap(long expectedSize, float loadFactor, long noEntryValue, IAllocator allocator) {
+		if (expectedSize < 0) {
+			throw new IllegalArgumentException("expectedSize < 0");
+		}
+		if (!(loadFactor >= 0.1f && loadFactor <= 0.95f)) {
+			throw new IllegalArgumentException("loadFactor must be in [0.1, 0.95]: " + loadFactor);
+		}
+		this.allocator 		= allocator;
+		this.loadFactor 	= loadFactor;
+		this.noEntryValue 	= noEntryValue;
+		allocateTable(tableSize(expectedSize));
+	}
+
+	private long tableSize(long expectedSize) {
+		final long n = Math.max(MIN_CAPACITY, (long)Math.ceil(expectedSize / (double)loadFactor));
+		return Long.highestOneBit(n - 1) << 1;
+	}
+
+	private void allocateTable(long newCapacity) {
+		table 		= Helpers.addressNonNull(allocator.calloc(newCapacity, ENTRY_SIZE));
+		capacity 	= newCapacity;
+		mask 		= newCapacity - 1;
+		threshold 	= (long)(newCapacity * (double)loadFactor);
+	}
+
+	/**
+	 * Mixes the bits of the key (the finalizer of MurmurHash3), so sequential keys spread over the table.
+	 * */
+	static long hash(long key) {
+		key ^= key >>> 33;
+		key *= 0xff51afd7ed558ccdL;
+		key ^= key >>> 33;
+		key *= 0xc4ceb9fe1a85ec53L;
+		key ^= key >>> 33;
+		return key;
+	}
+
+	/**
+	 * @return Returns the address of the entry of the key, or of the empty entry where it would be inserted.
+	 * */
+	private long find(long key) {
+		long index = hash(key) & mask;
+		while (true) {
+			final long entry = table + index * ENTRY_SIZE;
+			final long k = MemoryAccessor.getLong(entry);
+			if (k == key || k == 0) {
+				return entry;
+			}
+			index = (index + 1) & mask;
+		}
+	}
+
+	public long get(long key) {
+		return getOrDefault(key, noEntryValue);
+	}
+
+	public long getOrDefault(long key, long defaultValue) {
+		if (key == 0) {
+			return hasZeroKey ? zeroValue : defaultValue;
+		}
+		final long entry = find(key);
+		return MemoryAccessor.getLong(entry) != 0 ? MemoryAccessor.getLong(entry + VALUE_OFFSET) : defaultValue;
+	}
+
+	public boolean containsKey(long key) {
+		if (key == 0) {
+			return hasZeroKey;
+		}
+		return MemoryAccessor.getLong(find(key)) != 0;
+	}
+
+	/**
+	 * @return Returns the previous value of the key, or the no-entry value.
+	 * */
+	public long put(long key, long value) {
+		if (key == 0) {
+			final long old = hasZeroKey ? zeroValue : noEntryValue;
+			hasZeroKey 	= true;
+			zeroValue 	= value;
+			return old;
+		}
+		long entry = find(key);
+		if (MemoryAccessor.getLong(entry) != 0) {
+			final long old = MemoryAccessor.getLong(entry + VALUE_OFFSET);
+			MemoryAccessor.setLong(entry + VALUE_OFFSET, value);
+			return old;
+		}
+		if (size >= threshold) {
+			rehash(capacity << 1);
+			entry = find(key);
+		}
+		MemoryAccessor.setLong(entry, key);
+		MemoryAccessor.setLong(entry + VALUE_OFFSET, value);
+		++size;
+		return noEntryValue;
+	}
+
+	/**
+	 * Adds delta to the value of the key, a missing key starts from the no-entry value.
+	 *
+	 * @return Returns the new value.
+	 * */
+	public long addTo(long key, long delta) {
+		final long value = get(key) + delta;
+		put(key, value);
+		return value;
+	}
+
+	/**
+	 * Puts len pairs of the arrays starting at off, resizing the table at most once.
+	 * */
+	public void putAll(long[] keys, long[] values, int off, int len) {
+		if (off < 0 || len < 0 || off + len > keys.length || off + len > values.length) {
+			throw new IndexOutOfBoundsException("off: " + off + ", len: " + len);
+		}
+		ensureCapacity(size + len);
+		for (int i = off, end = off + len; i < end; ++i) {
+			put(keys[i], values[i]);
+		}
+	}
+
+	public void putAll(long[] keys, long[] values) {
+		if (keys.length != values.length) {
+			throw new IllegalArgumentException("keys.length != values.length");
+		}
+		putAll(keys, values, 0, keys.length);
+	}
+
+	/**
+	 * @return Returns the removed value, or the no-entry value.
+	 * */
+	public long remove(long key) {
+		if (key == 0) {
+			final long old = hasZeroKey ? zeroValue : noEntryValue;
+			hasZeroKey = false;
+			return old;
+		}
+		final long entry = find(key);
+		if (MemoryAccessor.getLong(entry) == 0) {
+			return noEntryValue;
+		}
+		final long old = MemoryAccessor.getLong(entry + VALUE_OFFSET);
+		shiftBack((entry - table) / ENTRY_SIZE);
+		--size;
+		return old;
+	}
+
+	/**
+	 * Fills the hole at index with the next entry of the probe sequence that is allowed to move there, until an empty entry is reached.
+	 * */
+	private void shiftBack(long hole) {
+		long index = hole;
+		while (true) {
+			index = (index + 1) & mask;
+			final long entry = table + index * ENTRY_SIZE;
+			final long k = MemoryAccessor.getLong(entry);
+			if (k == 0) {
+				break;
+			}
+			final long home = hash(k) & mask;
+			//The entry can move to the hole if its home is not between the hole (exclusive) and its index (inclusive), cyclically.
+			if (((index - home) & mask) >= ((index - hole) & mask)) {
+				MemoryAccessor.memcopy(entry, table + hole * ENTRY_SIZE, ENTRY_SIZE);
+				hole = index;
+			}
+		}
+		MemoryAccessor.setLong(table + hole * ENTRY_SIZE, 0);
+	}
+
+	/**
+	 * Resizes the table so that expectedSize keys fit without another resize.
+	 * */
+	public void ensureCapacity(long expectedSize) {
+		if (expectedSize > threshold) {
+			rehash(tableSize(expectedSize));
+		}
+	}
+
+	private void rehash(long newCapacity) {
+		final long oldTable 	= table;
+		final long oldCapacity 	= capacity;
+		allocateTable(newCapacity);
+		for (long i = 0; i < oldCapacity; ++i) {
+			final long entry = oldTable + i * ENTRY_SIZE;
+			final long k = MemoryAccessor.getLong(entry);
+			if (k != 0) {
+				final long newEntry = find(k);
+				MemoryAccessor.setLong(newEntry, k);
+				MemoryAccessor.setLong(newEntry + VALUE_OFFSET, MemoryAccessor.getLong(entry + VALUE_OFFSET));
+			}
+		}
+		allocator.free(oldTable);
+	}
+
+	/**
+	 * Calls the consumer for each entry. The map must not be modified by the consumer.
+	 * */
+	public void forEach(ILongLongConsumer consumer) {
+		if (hasZeroKey) {
+			consumer.accept(0, zeroValue);
+		}
+		for (long i = 0; i < capacity; ++i) {
+			final long entry = table + i * ENTRY_SIZE;
+			final long k = MemoryAccessor.getLong(entry);
+			if (k != 0) {
+				consumer.accept(k, MemoryAccessor.getLong(entry + VALUE_OFFSET));
+			}
+		}
+	}
+
+	/**
+	 * Copies the keys and values to the arrays, in table order.
+	 *
+	 * @return Returns the number of copied entries.
+	 * */
+	public int copyTo(long[] keys, long[] values) {
+		if (keys.length < size() || values.length < size()) {
+			throw new IndexOutOfBoundsException("Arrays are shorter than the size of the map: " + size());
+		}
+		int n = 0;
+		if (hasZeroKey) {
+			keys[n] 	= 0;
+			values[n++] = zeroValue;
+		}
+		for (long i = 0; i < capacity; ++i) {
+			final long entry = table + i * ENTRY_SIZE;
+			final long k = MemoryAccessor.getLong(entry);
+			if (k != 0) {
+				keys[n] 	= k;
+				values[n++] = MemoryAccessor.getLong(entry + VALUE_OFFSET);
+			}
+		}
+		return n;
+	}
+
+	public long size() {
+		return hasZeroKey ? size + 1 : size;
+	}
+
+	public boolean isEmpty() {
+		return size() == 0;
+	}
+
+	/**
+	 * @return Returns the number of entries of the table.
+	 * */
+	public long capacity() {
+		return capacity;
+	}
+
+	public long noEntryValue() {
+		return noEntryValue;
+	}
+
+	/**
+	 * Removes all keys and keeps the table.
+	 * */
+	public void clear() {
+		MemoryAccessor.memset(table, 0, capacity * ENTRY_SIZE);
+		size 		= 0;
+		hasZeroKey 	= false;
+	}
+
+	/**
+	 * Frees the table. The map must not be used after that.
+	 * */
+	@Override
+	public void close() {
+		if (table != VoidPointer.nullptr) {
+			allocator.free(table);
+			table 		= VoidPointer.nullptr;
+			capacity 	= 0;
+			mask 		= 0;
+			size 		= 0;
+			threshold 	= 0;
+			hasZeroKey 	= false;
+		}
+	}
+}
@@ -0,0 +1,227 @@
+/*
+ * Copyright (c) 2024, Miracle-Masterpiсe <mrmiraclemasterpiece@gmail.com or https://t.me/MiracleMasterpiece>. All rights reserved.
+ * Use is subject to license terms.
+ * 
+ * 
+ * 
+ * 
+ * 
+ * 
+ * 
+ * 
+ * */
+package nw4j.wrapper.c.kernels;
+
+import nw4j.helpers.NativeType;
+import nw4j.wrapper.c.pointers.DoublePointer;
+import nw4j.wrapper.c.pointers.FloatPointer;
+import nw4j.wrapper.c.pointers.IntPointer;
+
+/**
+ * Numeric loops over ranges of n elements of native memory.
+ * <p>
+ * Methods with a type suffix take raw addresses, the overloads without it take typed pointers.
+ * Results of floating point reductions and prefix sums may differ from a sequential loop in the last bits,
+ * because implementations are allowed to add the elements in a different order.
+ * Ranges of the same call may be equal but must not partially overlap.
+ *
+ * @see NumericKernels#get()
+ *
+ * @since 0.8
+ * @author miracle-masterpiece
+ * */
+public interface INumericKernels {
+
+	/**
+	 * @return Returns the sum of n elements.
+	 * */
+	public float sumFloat(@NativeType("float*") long address, long n);
+
+	/**
+	 * @return Returns the sum of a[i] * b[i].
+	 * */
+	public float dotFloat(@NativeType("float*") long a, @NativeType("float*") long b, long n);
+
+	/**
+	 * y[i] = alpha * x[i] + y[i], with the product rounded before the addition as in Java, so the result does not depend on the implementation.
+	 * */
+	public void axpyFloat(float alpha, @NativeType("float*") long x, @NativeType("float*") long y, long n);
+
+	/**
+	 * @return Returns the smallest of n elements, or positive infinity if n is 0.
+	 * */
+	public float minFloat(@NativeType("float*") long address, long n);
+
+	/**
+	 * @return Returns the largest of n elements, or negative infinity if n is 0.
+	 * */
+	public float maxFloat(@NativeType("float*") long address, long n);
+
+	/**
+	 * x[i] = x[i] * factor
+	 * */
+	public void scaleFloat(@NativeType("float*") long address, long n, float factor);
+
+	/**
+	 * x[i] = min(max(x[i], lo), hi)
+	 * */
+	public void clampFloat(@NativeType("float*") long address, long n, float lo, float hi);
+
+	/**
+	 * dst[i] = src[0] + ... + src[i]. src and dst may be the same range.
+	 * */
+	public void prefixSumFloat(@NativeType("float*") long src, @NativeType("float*") long dst, long n);
+
+	/**
+	 * @return Returns the sum of n elements.
+	 * */
+	public double sumDouble(@NativeType("double*") long address, long n);
+
+	/**
+	 * @return Returns the sum of a[i] * b[i].
+	 * */
+	public double dotDouble(@NativeType("double*") long a, @NativeType("double*") long b, long n);
+
+	/**
+	 * y[i] = alpha * x[i] + y[i], with the product rounded before the addition as in Java, so the result does not depend on the implementation.
+	 * */
+	public void axpyDouble(double alpha, @NativeType("double*") long x, @NativeType("double*") long y, long n);
+
+	/**
+	 * @return Returns the smallest of n elements, or positive infinity if n is 0.
+	 * */
+	public double minDouble(@NativeType("double*") long address, long n);
+
+	/**
+	 * @return Returns the largest of n elements, or negative infinity if n is 0.
+	 * */
+	public double maxDouble(@NativeType("double*") long address, long n);
+
+	/**
+	 * x[i] = x[i] * factor
+	 * */
+	public void scaleDouble(@NativeType("double*") long address, long n, double factor);
+
+	/**
+	 * x[i] = min(max(x[i], lo), hi)
+	 * */
+	public void clampDouble(@NativeType("double*") long address, long n, double lo, double hi);
+
+	/**
+	 * dst[i] = src[0] + ... + src[i]. src and dst may be the same range.
+	 * */
+	public void prefixSumDouble(@NativeType("double*") long src, @NativeType("double*") long dst, long n);
+
+	/**
+	 * @return Returns the sum of n elements without overflow.
+	 * */
+	public long sumInt(@NativeType("int*") long address, long n);
+
+	/**
+	 * @return Returns the smallest of n elements, or {@link Integer#MAX_VALUE} if n is 0.
+	 * */
+	public int minInt(@NativeType("int*") long address, long n);
+
+	/**
+	 * @return Returns the largest of n elements, or {@link Integer#MIN_VALUE} if n is 0.
+	 * */
+	public int maxInt(@NativeType("int*") long address, long n);
+
+	/**
+	 * x[i] = min(max(x[i], lo), hi)
+	 * */
+	public void clampInt(@NativeType("int*") long address, long n, int lo, int hi);
+
+	/**
+	 * dst[i] = src[0] + ... + src[i], wrapping around on overflow like int arithmetic. src and dst may be the same range.
+	 * */
+	public void prefixSumInt(@NativeType("int*") long src, @NativeType("int*") long dst, long n);
+
+	/*
+	 * Overloads for typed pointers.
+	 */
+
+	public default float sum(FloatPointer p, long n) {
+		return sumFloat(p.address(), n);
+	}
+
+	public default float dot(FloatPointer a, FloatPointer b, long n) {
+		return dotFloat(a.address(), b.address(), n);
+	}
+
+	public default void axpy(float alpha, FloatPointer x, FloatPointer y, long n) {
+		axpyFloat(alpha, x.address(), y.address(), n);
+	}
+
+	public default float min(FloatPointer p, long n) {
+		return minFloat(p.address(), n);
+	}
+
+	public default float max(FloatPointer p, long n) {
+		return maxFloat(p.address(), n);
+	}
+
+	public default void scale(FloatPointer p, long n, float factor) {
+		scaleFloat(p.address(), n, factor);
+	}
+
+	public default void clamp(FloatPointer p, long n, float lo, float hi) {
+		clampFloat(p.address(), n, lo, hi);
+	}
+
+	public default void prefixSum(FloatPointer src, FloatPointer dst, long n) {
+		prefixSumFloat(src.address(), dst.address(), n);
+	}
+
+	public default double sum(DoublePointer p, long n) {
+		return sumDouble(p.address(), n);
+	}
+
+	public default double dot(DoublePointer a, DoublePointer b, long n) {
+		return dotDouble(a.address(), b.address(), n);
+	}
+
+	public default void axpy(double alpha, DoublePointer x, DoublePointer y, long n) {
+		axpyDouble(alpha, x.address(), y.address(), n);
+	}
+
+	public default double min(DoublePointer p, long n) {
+		return minDouble(p.address(), n);
+	}
+
+	public default double max(DoublePointer p, long n) {
+		return maxDouble(p.address(), n);
+	}
+
+	public default void scale(DoublePointer p, long n, double factor) {
+		scaleDouble(p.address(), n, factor);
+	}
+
+	public default void clamp(DoublePointer p, long n, double lo, double hi) {
+		clampDouble(p.address(), n, lo, hi);
+	}
+
+	public default void prefixSum(DoublePointer src, DoublePointer dst, long n) {
+		prefixSumDouble(src.address(), dst.address(), n);
+	}
+
+	public default long sum(IntPointer p, long n) {
+		return sumInt(p.address(), n);
+	}
+
+	public default int min(IntPointer p, long n) {
+		return minInt(p.address(), n);
+	}
+
+	public default int max(IntPointer p, long n) {
+		return maxInt(p.address(), n);
+	}
+
+	public default void clamp(IntPointer p, long n, int lo, int hi) {
+		clampInt(p.address(), n, lo, hi);
+	}
+
+	public default void prefixSum(IntPointer src, IntPointer dst, long n) {
+		prefixSumInt(src.address(), dst.address(), n);
+	}
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2024, Miracle-Masterpiсe <mrmiraclemasterpiece@gmail.com or https://t.me/MiracleMasterpiece>. All rights reserved.
+ * Use is subject to license terms.
+ * 
+ * 
+ * 
+ * 
+ * 
+ * 
+ * 
+ * 
+ * */
+package nw4j.wrapper.c.kernels;
+
+/**
+ * Selects the implementation of {@link INumericKernels}.
+ * <p>
+ * When the jdk.incubator.vector module is present (the application is started with <code>--add-modules jdk.incubator.vector</code>)
+ * and the classes built from the src-vector source root are on the class path, the kernels use SIMD instructions through the Vector API,
+ * otherwise plain loops are used.
+ * The implementation is chosen once, when the class is initialized. -DnwDisableVectorKernels=true forces the plain loops.
+ *
+ * INumericKernels k = NumericKernels.get();
+ * float sum = k.sum(values, n);
+ * k.axpy(2f, x, y, n);
+ *
+ * @since 0.8
+ * @author miracle-masterpiece
+ * */
+public final class NumericKernels {
+
+	private static final INumericKernels SCALAR = new ScalarKernels();
+
+	private static final INumericKernels INSTANCE = load();
+
+	private NumericKernels() {}
+
+	private static INumericKernels load() {
+		if (Boolean.getBoolean("nwDisableVectorKernels")) {
+			return SCALAR;
+		}
+		if (ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) {
+			return SCALAR;
+		}
+		try {
+			return (INumericKernels) Class.forName("nw4j.wrapper.c.kernels.VectorKernels").getDeclaredConstructor().newInstance();
+		}catch(ReflectiveOperationException | LinkageError e) {
+			return SCALAR;
+		}
+	}
+
+	/**
+	 * @return Returns the fastest available implementation.
+	 * */
+	public static INumericKernels get() {
+		return INSTANCE;
+	}
+
+	/**
+	 * @return Returns the implementation with plain loops, for example to compare results or speed.
+	 * */
+	public static INumericKernels scalar() {
+		return SCALAR;
+	}
+
+	/**
+	 * @return Returns true if {@link NumericKernels#get()} uses the Vector API.
+	 * */
+	public static boolean isVectorized() {
+		return INSTANCE != SCALAR;
+	}
+}
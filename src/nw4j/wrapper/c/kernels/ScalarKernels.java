@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) 2024, Miracle-Masterpiсe <mrmiraclemasterpiece@gmail.com or https://t.me/MiracleMasterpiece>. All rights reserved.
+ * Use is subject to license terms.
+ * 
+ * 
+ * 
+ * 
+ * 
+ * 
+ * 
+ * 
+ * */
+package nw4j.wrapper.c.kernels;
+
+import nw4j.wrapper.c.allocators.MemoryAccessor;
+
+/**
+ * Plain loops over native memory, used when the Vector API is not available.
+ *
+ * @since 0.8
+ * @author miracle-masterpiece
+ * */
+final class ScalarKernels implements INumericKernels{
+
+	@Override
+	public float sumFloat(long address, long n) {
+		float sum = 0;
+		for (long a = address, end = address + n * 4; a < end; a += 4) {
+			sum += MemoryAccessor.getFloat(a);
+		}
+		return sum;
+	}
+
+	@Override
+	public float dotFloat(long a, long b, long n) {
+		float sum = 0;
+		for (long i = 0, len = n * 4; i < len; i += 4) {
+			sum += MemoryAccessor.getFloat(a + i) * MemoryAccessor.getFloat(b + i);
+		}
+		return sum;
+	}
+
+	@Override
+	public void axpyFloat(float alpha, long x, long y, long n) {
+		for (long i = 0, len = n * 4; i < len; i += 4) {
+			MemoryAccessor.setFloat(y + i, alpha * MemoryAccessor.getFloat(x + i) + MemoryAccessor.getFloat(y + i));
+		}
+	}
+
+	@Override
+	public float minFloat(long address, long n) {
+		float min = Float.POSITIVE_INFINITY;
+		for (long a = address, end = address + n * 4; a < end; a += 4) {
+			min = Math.min(min, MemoryAccessor.getFloat(a));
+		}
+		return min;
+	}
+
+	@Override
+	public float maxFloat(long address, long n) {
+		float max = Float.NEGATIVE_INFINITY;
+		for (long a = address, end = address + n * 4; a < end; a += 4) {
+			max = Math.max(max, MemoryAccessor.getFloat(a));
+		}
+		return max;
+	}
+
+	@Override
+	public void scaleFloat(long address, long n, float factor) {
+		for (long a = address, end = address + n * 4; a < end; a += 4) {
+			MemoryAccessor.setFloat(a, MemoryAccessor.getFloat(a) * factor);
+		}
+	}
+
+	@Override
+	public void clampFloat(long address, long n, float lo, float hi) {
+		for (long a = address, end = address + n * 4; a < end; a += 4) {
+			MemoryAccessor.setFloat(a, Math.min(Math.max(MemoryAccessor.getFloat(a), lo), hi));
+		}
+	}
+
+	@Override
+	public void prefixSumFloat(long src, long dst, long n) {
+		float sum = 0;
+		for (long i = 0, len = n * 4; i < len; i += 4) {
+			sum += MemoryAccessor.getFloat(src + i);
+			MemoryAccessor.setFloat(dst + i, sum);
+		}
+	}
+
+	@Override
+	public double sumDouble(long address, long n) {
+		double sum = 0;
+		for (long a = address, end = address + n * 8; a < end; a += 8) {
+			sum += MemoryAccessor.getDouble(a);
+		}
+		return sum;
+	}
+
+	@Override
+	public double dotDouble(long a, long b, long n) {
+		double sum = 0;
+		for (long i = 0, len = n * 8; i < len; i += 8) {
+			sum += MemoryAccessor.getDouble(a + i) * MemoryAccessor.getDouble(b + i);
+		}
+		return sum;
+	}
+
+	@Override
+	public void axpyDouble(double alpha, long x, long y, long n) {
+		for (long i = 0, len = n * 8; i < len; i += 8) {
+			MemoryAccessor.setDouble(y + i, alpha * MemoryAccessor.getDouble(x + i) + MemoryAccessor.getDouble(y + i));
+		}
+	}
+
+	@Override
+	public double minDouble(long address, long n) {
+		double min = Double.POSITIVE_INFINITY;
+		for (long a = address, end = address + n * 8; a < end; a += 8) {
+			min = Math.min(min, MemoryAccessor.getDouble(a));
+		}
+		return min;
+	}
+
+	@Override
+	public double maxDouble(long address, long n) {
+		double max = Double.NEGATIVE_INFINITY;
+		for (long a = address, end = address + n * 8; a < end; a += 8) {
+			max = Math.max(max, MemoryAccessor.getDouble(a));
+		}
+		return max;
+	}
+
+	@Override
+	public void scaleDouble(long address, long n, double factor) {
+		for (long a = address, end = address + n * 8; a < end; a += 8) {
+			MemoryAccessor.setDouble(a, MemoryAccessor.getDouble(a) * factor);
+		}
+	}
+
+	@Override
+	public void clampDouble(long address, long n, double lo, double hi) {
+		for (long a = address, end = address + n * 8; a < end; a += 8) {
+			MemoryAccessor.setDouble(a, Math.min(Math.max(MemoryAccessor.getDouble(a), lo), hi));
+		}
+	}
+
+	@Override
+	public void prefixSumDouble(long src, long dst, long n) {
+		double sum = 0;
+		for (long i = 0, len = n * 8; i < len; i += 8) {
+			sum += MemoryAccessor.getDouble(src + i);
+			MemoryAccessor.setDouble(dst + i, sum);
+		}
+	}
+
+	@Override
+	public long sumInt(long address, long n) {
+		long sum = 0;
+		for (long a = address, end = address + n * 4; a < end; a += 4) {
+			sum += MemoryAccessor.getInt(a);
+		}
+		return sum;
+	}
+
+	@Override
+	public int minInt(long address, long n) {
+		int min = Integer.MAX_VALUE;
+		for (long a = address, end = address + n * 4; a < end; a += 4) {
+			min = Math.min(min, MemoryAccessor.getInt(a));
+		}
+		return min;
+	}
+
+	@Override
+	public int maxInt(long address, long n) {
+		int max = Integer.MIN_VALUE;
+		for (long a = address, end = address + n * 4; a < end; a += 4) {
+			max = Math.max(max, MemoryAccessor.getInt(a));
+		}
+		return max;
+	}
+
+	@Override
+	public void clampInt(long address, long n, int lo, int hi) {
+		for (long a = address, end = address + n * 4; a < end; a += 4) {
+			MemoryAccessor.setInt(a, Math.min(Math.max(MemoryAccessor.getInt(a), lo), hi));
+		}
+	}
+
+	@Override
+	public void prefixSumInt(long src, long dst, long n) {
+		int sum = 0;
+		for (long i = 0, len = n * 4; i < len; i += 4) {
+			sum += MemoryAccessor.getInt(src + i);
+			MemoryAccessor.setInt(dst + i, sum);
+		}
+	}
+}
@@ -28,6 +28,9 @@ public class StackMatrix implements AutoCloseable, Closeable {
 	private static final int MAX_MATRIX_STACK_SIZE;
 	private static final short MATRIX_SIZEOF 			= VoidPointer.FLOAT_SIZE * (4 * 4);
 
+	/**Mat4Funcs uses aligned SSE loads and stores.*/
+	private static final int SIMD_ALIGNMENT 			= 16;
+
 	static {
 		//-DnwMatrixMaxStackSize
 		String stackSize = System.getProperty("nwMatrixMaxStackSize");
@@ -56,9 +59,9 @@ public class StackMatrix implements AutoCloseable, Closeable {
 	private byte mode;
 
 	public StackMatrix() {
-		modelviewStack 	= Helpers.addressNonNull(MemoryAccessor.malloc(MAX_MATRIX_STACK_SIZE * MATRIX_SIZEOF));
-		projectionStack = Helpers.addressNonNull(MemoryAccessor.malloc(MAX_MATRIX_STACK_SIZE * MATRIX_SIZEOF));
-		result 			= Helpers.addressNonNull(MemoryAccessor.malloc(MATRIX_SIZEOF));
+		modelviewStack 	= Helpers.addressNonNull(MemoryAccessor.mallocAligned(MAX_MATRIX_STACK_SIZE * MATRIX_SIZEOF, SIMD_ALIGNMENT));
+		projectionStack = Helpers.addressNonNull(MemoryAccessor.mallocAligned(MAX_MATRIX_STACK_SIZE * MATRIX_SIZEOF, SIMD_ALIGNMENT));
+		result 			= Helpers.addressNonNull(MemoryAccessor.mallocAligned(MATRIX_SIZEOF, SIMD_ALIGNMENT));
 		mode 			= PROJECTION;
 	}
 
@@ -68,9 +71,9 @@ public class StackMatrix implements AutoCloseable, Closeable {
 	}
 
 	public void free() {
-		MemoryAccessor.free(modelviewStack);
-		MemoryAccessor.free(projectionStack);
-		MemoryAccessor.free(result);
+		MemoryAccessor.freeAligned(modelviewStack);
+		MemoryAccessor.freeAligned(projectionStack);
+		MemoryAccessor.freeAligned(result);
 	}
 	
 	public void pushMatrix() {
@@ -144,9 +147,7 @@ public class StackMatrix implements AutoCloseable, Closeable {
 	public void getMatrix(float[] array) {
 		final int MATRIX_SIZE = 16;
 		@NativeType("float*") final long matrix = getProjectionModelView();
-		for (int i = 0; i < MATRIX_SIZE; ++i) {
-			array[i] = MemoryAccessor.getFloat(matrix + (i << 2));
-		}
+		MemoryAccessor.copyTo(matrix, array, 0, MATRIX_SIZE);
 	}
 	
 	public void loadIdentity() {
@@ -12,9 +12,6 @@
  * */
 package nw4j.wrapper.c.plusplus;
 import java.io.Closeable;
-import java.lang.foreign.MemorySegment;
-import java.nio.ByteOrder;
-import java.nio.FloatBuffer;
 
 import nw4j.helpers.Helpers;
 import nw4j.helpers.NativeType;
@@ -30,6 +27,9 @@ public final class StackMatrix2 implements AutoCloseable, Closeable {
 	private static final int MAX_MATRIX_STACK_SIZE;
 	private static final short MATRIX_SIZE 			= (4 * 4);
 
+	/**Mat4Funcs uses aligned SSE loads and stores.*/
+	private static final int SIMD_ALIGNMENT 			= 16;
+
 	static {
 		//-DnwMatrixMaxStackSize
 		String stackSize = System.getProperty("nwMatrixMaxStackSize");
@@ -56,12 +56,10 @@ public final class StackMatrix2 implements AutoCloseable, Closeable {
 
 	private final float[] result 			= new float[MATRIX_SIZE];
 	private final long $float_matrix;
-	private final FloatBuffer float_matrix;
 
 
 	public StackMatrix2() {
-		$float_matrix 			= Helpers.addressNonNull(MemoryAccessor.malloc(MATRIX_SIZE * VoidPointer.FLOAT_SIZE));
-		float_matrix = MemorySegment.ofAddress($float_matrix).reinterpret(MATRIX_SIZE * VoidPointer.FLOAT_SIZE).asByteBuffer().order(ByteOrder.nativeOrder()).asFloatBuffer();
+		$float_matrix 			= Helpers.addressNonNull(MemoryAccessor.mallocAligned(MATRIX_SIZE * VoidPointer.FLOAT_SIZE, SIMD_ALIGNMENT));
 	}
 
 	@Override
@@ -70,7 +68,7 @@ public final class StackMatrix2 implements AutoCloseable, Closeable {
 	}
 
 	public void free() {
-		MemoryAccessor.free($float_matrix);
+		MemoryAccessor.freeAligned($float_matrix);
 	}
 
 	public void pushMatrix() {
@@ -111,7 +109,7 @@ public final class StackMatrix2 implements AutoCloseable, Closeable {
 			m = projectionStack;
 		}break;
 		}
-		float_matrix.put(0, m, offset, 16);
+		MemoryAccessor.copyFrom($float_matrix, m, offset, 16);
 		return $float_matrix;
 	}
 
@@ -121,7 +119,7 @@ public final class StackMatrix2 implements AutoCloseable, Closeable {
 		final float[] modl 		= modelviewStack;
 		final int modlOffset 	= modelViewStackPointer << 4;
 		multMatrix(proj, projOffset, modl, modlOffset);
-		float_matrix.put(0, result, 0, 16);
+		MemoryAccessor.copyFrom($float_matrix, result, 0, 16);
 		return $float_matrix;
 	}
 
@@ -134,8 +132,7 @@ public final class StackMatrix2 implements AutoCloseable, Closeable {
 	}
 
 	public void multMatrix(@NativeType("float*") long mat4) {
-		MemoryAccessor.memcopy(mat4, $float_matrix, 16 * VoidPointer.FLOAT_SIZE);
-		float_matrix.get(0, tmp);
+		MemoryAccessor.copyTo(mat4, tmp, 0, 16);
 		multMatrix(tmp);
 	}
 	
@@ -13,6 +13,8 @@
 package nw4j.wrapper.c.pointers;
 
 import nw4j.helpers.NativeType;
+import nw4j.wrapper.c.allocators.IAllocator;
+import nw4j.wrapper.c.allocators.IMemoryOwner;
 import nw4j.wrapper.c.allocators.MemoryAccessor;
 
 /**
@@ -32,6 +34,10 @@ public final @NativeType("bool*") class BooleanPointer extends VoidPointer{
 		super(address);
 	}
 
+	private BooleanPointer(long address, IMemoryOwner allocator) {
+		super(address, allocator);
+	}
+
 	private BooleanPointer(VoidPointer voidPtr) {
 		super(voidPtr);
 	}
@@ -72,6 +78,24 @@ public final @NativeType("bool*") class BooleanPointer extends VoidPointer{
 		return new BooleanPointer(MemoryAccessor.malloc(size));
 	}
 
+	/**
+	 * Allocates memory for size elements using the allocator.
+	 * The memory is returned to the same allocator by {@link VoidPointer#close()}.
+	 * @since 0.8
+	 * */
+	public static BooleanPointer malloc(long size, IAllocator allocator) {
+		return new BooleanPointer(allocator.malloc(size), allocator);
+	}
+
+	/**
+	 * Allocates memory for size elements aligned to alignment bytes.
+	 * @see MemoryAccessor#mallocAligned(long, int)
+	 * @since 0.8
+	 * */
+	public static BooleanPointer mallocAligned(long size, int alignment) {
+		return malloc(size, IAllocator.aligned(alignment));
+	}
+
 	public static BooleanPointer malloc() {
 		return malloc(1);
 	}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2024, Miracle-Masterpiсe <mrmiraclemasterpiece@gmail.com or https://t.me/MiracleMasterpiece>. All rights reserved.
+ * Use is subject to license terms.
+ * 
+ * 
+ * 
+ * 
+ * 
+ * 
+ * 
+ * 
+ * */
+package nw4j.wrapper.c.pointers;
+
+import nw4j.helpers.NativeType;
+import nw4j.wrapper.c.allocators.MemoryAccessor;
+
+/**
+ * A reusable view of byte elements that moves over native memory without creating objects.
+ * <p>
+ * The cursor remembers a base address set by assign and a current address moved by {@link ByteCursor#seek(long)} and {@link ByteCursor#advance(long)}.
+ * It does not own the memory and is not checked against any bounds, like a C pointer.
+ * One cursor can be kept in a field and re-pointed in a loop instead of wrapping every address with {@link BytePointer#asAddress(long)}.
+ *
+ * ByteCursor c = new ByteCursor();
+ * for (long row : rows) {
+ * 		c.assign(row);
+ * 		for (int i = 0; i < n; ++i, c.advance(1))
+ * 			sum += c.get();
+ * }
+ *
+ * @since 0.8
+ * @author miracle-masterpiece
+ * */
+public final @NativeType("byte*") class ByteCursor {
+
+	private long base;
+
+	private long address;
+
+	public ByteCursor() {}
+
+	public ByteCursor(long address) {
+		assign(address);
+	}
+
+	/**
+	 * Points the cursor to address and makes it the base for {@link ByteCursor#seek(long)}.
+	 * */
+	public ByteCursor assign(long address) {
+		this.base 		= address;
+		this.address 	= address;
+		return this;
+	}
+
+	public ByteCursor assign(VoidPointer pointer) {
+		return assign(pointer.address);
+	}
+
+	/**
+	 * Moves the cursor to the element with the index counted from the base.
+	 * */
+	public ByteCursor seek(long index) {
+		address = base + index * VoidPointer.BYTE_SIZE;
+		return this;
+	}
+
+	/**
+	 * Moves the cursor by n elements, n can be negative.
+	 * */
+	public ByteCursor advance(long n) {
+		address += n * VoidPointer.BYTE_SIZE;
+		return this;
+	}
+
+	public byte get() {
+		return MemoryAccessor.getByte(address);
+	}
+
+	public void set(byte v) {
+		MemoryAccessor.setByte(address, v);
+	}
+
+	/**
+	 * @return Returns the element at offset elements from the current one.
+	 * */
+	public byte get(long offset) {
+		return MemoryAccessor.getByte(address + offset * VoidPointer.BYTE_SIZE);
+	}
+
+	public void set(long offset, byte v) {
+		MemoryAccessor.setByte(address + offset * VoidPointer.BYTE_SIZE, v);
+	}
+
+	/**
+	 * @return Returns the address of the current element.
+	 * */
+	public long address() {
+		return address;
+	}
+
+	public long base() {
+		return base;
+	}
+
+	/**
+	 * @return Returns the index of the current element counted from the base.
+	 * */
+	public long position() {
+		return (address - base) / VoidPointer.BYTE_SIZE;
+	}
+
+	@Override
+	public String toString() {
+		return "ByteCursor: 0x" + Long.toHexString(address);
+	}
+}
@@ -12,8 +12,15 @@
  * */
 package nw4j.wrapper.c.pointers;
 
+import java.io.IOException;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+
 import nw4j.helpers.Funcs;
 import nw4j.helpers.NativeType;
+import nw4j.wrapper.c.allocators.IAllocator;
+import nw4j.wrapper.c.allocators.IMemoryOwner;
+import nw4j.wrapper.c.allocators.MappedFile;
 import nw4j.wrapper.c.allocators.MemoryAccessor;
 
 /**
@@ -28,6 +35,10 @@ public final @NativeType("char*") class BytePointer extends VoidPointer{
 		super(address);
 	}
 
+	private BytePointer(long address, IMemoryOwner allocator) {
+		super(address, allocator);
+	}
+
 	private BytePointer(VoidPointer voidPtr) {
 		super(voidPtr);
 	}
@@ -69,12 +80,32 @@ public final @NativeType("char*") class BytePointer extends VoidPointer{
 		}
 
 		final byte[] data = new byte[len];
-		for (int i = 0; i < len ;++i) {
-			data[i] = getByte(i);
-		}
+		copyTo(data, 0, len);
 		return new String(data);
 	}
 
+	/**
+	 * Copies len elements of the array, starting at off, to the memory pointed to by this pointer.
+	 * */
+	public void copyFrom(byte[] src, int off, int len) {
+		MemoryAccessor.copyFrom(address, src, off, len);
+	}
+
+	public void copyFrom(byte[] src) {
+		copyFrom(src, 0, src.length);
+	}
+
+	/**
+	 * Copies len elements from the memory pointed to by this pointer to the array, starting at off.
+	 * */
+	public void copyTo(byte[] dst, int off, int len) {
+		MemoryAccessor.copyTo(address, dst, off, len);
+	}
+
+	public void copyTo(byte[] dst) {
+		copyTo(dst, 0, dst.length);
+	}
+
 	/**==================== Allocators ============================*/
 	public static BytePointer asAddress(long address) {
 		return new BytePointer(address);
@@ -84,6 +115,42 @@ public final @NativeType("char*") class BytePointer extends VoidPointer{
 		return new BytePointer(MemoryAccessor.malloc(size));
 	}
 
+	/**
+	 * Allocates memory for size elements using the allocator.
+	 * The memory is returned to the same allocator by {@link VoidPointer#close()}.
+	 * @since 0.8
+	 * */
+	public static BytePointer alloc(long size, IAllocator allocator) {
+		return new BytePointer(allocator.malloc(size), allocator);
+	}
+
+	/**
+	 * Allocates memory for size elements aligned to alignment bytes.
+	 * @see MemoryAccessor#mallocAligned(long, int)
+	 * @since 0.8
+	 * */
+	public static BytePointer allocAligned(long size, int alignment) {
+		return alloc(size, IAllocator.aligned(alignment));
+	}
+
+	/**
+	 * Creates a pointer to the beginning of the mapped file. {@link VoidPointer#close()} unmaps the file.
+	 * @since 0.8
+	 * */
+	public static BytePointer map(MappedFile file) {
+		return new BytePointer(file.address(), file);
+	}
+
+	/**
+	 * Maps size elements of the file starting at offset bytes.
+	 * {@link VoidPointer#close()} unmaps the file, {@link MappedFile#force()} is available through {@link VoidPointer#allocator()}.
+	 * @see MappedFile#map(Path, long, long, MapMode)
+	 * @since 0.8
+	 * */
+	public static BytePointer map(Path path, long offset, long size, MapMode mode) throws IOException {
+		return map(MappedFile.map(path, offset, size, mode));
+	}
+
 	public static BytePointer alloc() {
 		return alloc(1);
 	}
@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2024, Miracle-Masterpiсe <mrmiraclemasterpiece@gmail.com or https://t.me/MiracleMasterpiece>. All rights reserved.
+ * Use is subject to license terms.
+ * 
+ * 
+ * 
+ * 
+ * 
+ * 
+ * 
+ * 
+ * */
+package nw4j.wrapper.c.pointers;
+
+import java.util.Objects;
+
+import nw4j.helpers.Helpers;
+import nw4j.helpers.NativeType;
+import nw4j.wrapper.c.allocators.MemoryAccessor;
+
+/**
+ * A view of length byte elements of native memory: an address with a length.
+ * <p>
+ * {@link ByteSlice#get(long)} and {@link ByteSlice#set(long, byte)} check the index when {@link Helpers#ENABLE_CHECKS} is on.
+ * Bulk methods (fill, copy, sub-slicing, iteration) always check their range once per call and then run without per-element checks,
+ * so checks can stay on without a cost per element.
+ * <p>
+ * A slice does not own the memory. It is immutable, sub-slices share the memory of the original slice.
+ *
+ * try(BytePointer ptr = BytePointer.alloc(100)){
+ * 		ByteSlice all 	= ByteSlice.of(ptr, 100);
+ * 		ByteSlice tail 	= all.slice(50, 100);
+ * 		tail.fill((byte)0);
+ * }
+ *
+ * @since 0.8
+ * @author miracle-masterpiece
+ * */
+public final @NativeType("byte*") class ByteSlice {
+
+	private final long address;
+
+	private final long length;
+
+	private ByteSlice(long address, long length) {
+		this.address 	= address;
+		this.length 	= length;
+	}
+
+	public static ByteSlice of(long address, long length) {
+		if (length < 0) {
+			throw new IllegalArgumentException("length < 0");
+		}
+		if (length > 0) {
+			Helpers.addressNonNull(address);
+		}
+		return new ByteSlice(address, length);
+	}
+
+	public static ByteSlice of(BytePointer pointer, long length) {
+		return of(pointer.address, length);
+	}
+
+	public long address() {
+		return address;
+	}
+
+	/**
+	 * @return Returns the number of elements.
+	 * */
+	public long length() {
+		return length;
+	}
+
+	public long byteSize() {
+		return length * VoidPointer.BYTE_SIZE;
+	}
+
+	public boolean isEmpty() {
+		return length == 0;
+	}
+
+	public byte get(long index) {
+		if (Helpers.ENABLE_CHECKS) {
+			Objects.checkIndex(index, length);
+		}
+		return MemoryAccessor.getByte(address + index * VoidPointer.BYTE_SIZE);
+	}
+
+	public void set(long index, byte v) {
+		if (Helpers.ENABLE_CHECKS) {
+			Objects.checkIndex(index, length);
+		}
+		MemoryAccessor.setByte(address + index * VoidPointer.BYTE_SIZE, v);
+	}
+
+	/**
+	 * @return Returns a slice of the elements from fromIndex (inclusive) to toIndex (exclusive).
+	 * */
+	public ByteSlice slice(long fromIndex, long toIndex) {
+		Objects.checkFromToIndex(fromIndex, toIndex, length);
+		return new ByteSlice(address + fromIndex * VoidPointer.BYTE_SIZE, toIndex - fromIndex);
+	}
+
+	/**
+	 * @return Returns a slice of the elements from fromIndex to the end.
+	 * */
+	public ByteSlice slice(long fromIndex) {
+		return slice(fromIndex, length);
+	}
+
+	public void fill(byte v) {
+		MemoryAccessor.memset(address, v, length);
+	}
+
+	/**
+	 * Copies len elements of src starting at srcOffset to this slice starting at index.
+	 * */
+	public void copyFrom(long index, byte[] src, int srcOffset, int len) {
+		Objects.checkFromIndexSize(index, len, length);
+		Objects.checkFromIndexSize(srcOffset, len, src.length);
+		MemoryAccessor.copyFrom(address + index * VoidPointer.BYTE_SIZE, src, srcOffset, len);
+	}
+
+	public void copyFrom(byte[] src) {
+		copyFrom(0, src, 0, src.length);
+	}
+
+	/**
+	 * Copies len elements of this slice starting at index to dst starting at dstOffset.
+	 * */
+	public void copyTo(long index, byte[] dst, int dstOffset, int len) {
+		Objects.checkFromIndexSize(index, len, length);
+		Objects.checkFromIndexSize(dstOffset, len, dst.length);
+		MemoryAccessor.copyTo(address + index * VoidPointer.BYTE_SIZE, dst, dstOffset, len);
+	}
+
+	/**
+	 * Copies the elements of src to the beginning of this slice. The slices may overlap.
+	 * */
+	public void copyFrom(ByteSlice src) {
+		Objects.checkFromIndexSize(0, src.length, length);
+		MemoryAccessor.memmove(src.address, address, src.byteSize());
+	}
+
+	public byte[] toArray() {
+		if (length > Integer.MAX_VALUE - 8) {
+			throw new IllegalStateException("Slice is too large for a java array: " + length);
+		}
+		final byte[] result = new byte[(int)length];
+		MemoryAccessor.copyTo(address, result, 0, result.length);
+		return result;
+	}
+
+	/**
+	 * @return Returns true if both slices have the same length and the same bytes.
+	 * */
+	public boolean contentEquals(ByteSlice other) {
+		return length == other.length && MemoryAccessor.mismatch(address, other.address, byteSize()) < 0;
+	}
+
+	/**
+	 * Creates a pointer to the first element. The pointer does not own the memory, closing it does nothing.
+	 * */
+	public BytePointer asPointer() {
+		return VoidPointer.view(BytePointer.asAddress(address));
+	}
+
+	/**
+	 * Points the cursor to the first element.
+	 *
+	 * @return Returns cursor.
+	 * */
+	public ByteCursor cursor(ByteCursor cursor) {
+		return cursor.assign(address);
+	}
+
+	@Override
+	public String toString() {
+		return "ByteSlice: 0x" + Long.toHexString(address) + "[" + length + "]";
+	}
+}
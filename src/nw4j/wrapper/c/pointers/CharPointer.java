@@ -12,7 +12,14 @@
  * */
 package nw4j.wrapper.c.pointers;
 
+import java.io.IOException;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+
 import nw4j.helpers.NativeType;
+import nw4j.wrapper.c.allocators.IAllocator;
+import nw4j.wrapper.c.allocators.IMemoryOwner;
+import nw4j.wrapper.c.allocators.MappedFile;
 import nw4j.wrapper.c.allocators.MemoryAccessor;
 
 /**
@@ -27,6 +34,10 @@ public final @NativeType("wchar_t*") class CharPointer extends VoidPointer{
 		super(address);
 	}
 
+	private CharPointer(long address, IMemoryOwner allocator) {
+		super(address, allocator);
+	}
+
 	private CharPointer(VoidPointer voidPtr) {
 		super(voidPtr);
 	}
@@ -58,12 +69,119 @@ public final @NativeType("wchar_t*") class CharPointer extends VoidPointer{
 		return getChar(0);
 	}
 
+	/**
+	 * Reads the element at index stored in big-endian byte order.
+	 * @since 0.8
+	 * */
+	public char getBE(long index) {
+		return NATIVE_BIG_ENDIAN ? getChar(index * CHAR_SIZE) : Character.reverseBytes(getChar(index * CHAR_SIZE));
+	}
+
+	/**
+	 * Writes the element at index in big-endian byte order.
+	 * @since 0.8
+	 * */
+	public void setBE(long index, char v) {
+		if (NATIVE_BIG_ENDIAN) {
+			setChar(index * CHAR_SIZE, v);
+		}else {
+			setChar(index * CHAR_SIZE, Character.reverseBytes(v));
+		}
+	}
+
+	/**
+	 * Reads the element at index stored in little-endian byte order.
+	 * @since 0.8
+	 * */
+	public char getLE(long index) {
+		return NATIVE_BIG_ENDIAN ? Character.reverseBytes(getChar(index * CHAR_SIZE)) : getChar(index * CHAR_SIZE);
+	}
+
+	/**
+	 * Writes the element at index in little-endian byte order.
+	 * @since 0.8
+	 * */
+	public void setLE(long index, char v) {
+		if (NATIVE_BIG_ENDIAN) {
+			setChar(index * CHAR_SIZE, Character.reverseBytes(v));
+		}else {
+			setChar(index * CHAR_SIZE, v);
+		}
+	}
+
+	/**
+	 * Reverses the byte order of count elements in place.
+	 * @see MemoryAccessor#swapOrder16(long, long, long)
+	 * @since 0.8
+	 * */
+	public void swapOrder(long count) {
+		MemoryAccessor.swapOrder16(address, address, count);
+	}
+
+	/**
+	 * Copies len elements of the array, starting at off, to the memory pointed to by this pointer.
+	 * */
+	public void copyFrom(char[] src, int off, int len) {
+		MemoryAccessor.copyFrom(address, src, off, len);
+	}
+
+	public void copyFrom(char[] src) {
+		copyFrom(src, 0, src.length);
+	}
+
+	/**
+	 * Copies len elements from the memory pointed to by this pointer to the array, starting at off.
+	 * */
+	public void copyTo(char[] dst, int off, int len) {
+		MemoryAccessor.copyTo(address, dst, off, len);
+	}
+
+	public void copyTo(char[] dst) {
+		copyTo(dst, 0, dst.length);
+	}
+
 	/**==================== Allocators ============================*/
 
 	public static CharPointer alloc(long size) {
 		return new CharPointer(MemoryAccessor.malloc(size * CHAR_SIZE));
 	}
 
+	/**
+	 * Allocates memory for size elements using the allocator.
+	 * The memory is returned to the same allocator by {@link VoidPointer#close()}.
+	 * @since 0.8
+	 * */
+	public static CharPointer alloc(long size, IAllocator allocator) {
+		return new CharPointer(allocator.malloc(size * CHAR_SIZE), allocator);
+	}
+
+	/**
+	 * Allocates memory for size elements aligned to alignment bytes.
+	 * @see MemoryAccessor#mallocAligned(long, int)
+	 * @since 0.8
+	 * */
+	public static CharPointer allocAligned(long size, int alignment) {
+		return alloc(size, IAllocator.aligned(alignment));
+	}
+
+	/**
+	 * Creates a pointer to the beginning of the mapped file. {@link VoidPointer#close()} unmaps the file.
+	 * @since 0.8
+	 * */
+	public static CharPointer map(MappedFile file) {
+		return new CharPointer(file.address(), file);
+	}
+
+	/**
+	 * Maps size elements of the file starting at offset bytes.
+	 * {@link VoidPointer#close()} unmaps the file, {@link MappedFile#force()} is available through {@link VoidPointer#allocator()}.
+	 * @see MappedFile#map(Path, long, long, MapMode)
+	 * @since 0.8
+	 * */
+	public static CharPointer map(Path path, long offset, long size, MapMode mode) throws IOException {
+		return map(MappedFile.map(path, offset, size * CHAR_SIZE, mode));
+	}
+
 	public static CharPointer asAddress(long address) {
 		return new CharPointer(address);
 	}
@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2024, Miracle-Masterpiсe <mrmiraclemasterpiece@gmail.com or https://t.me/MiracleMasterpiece>. All rights reserved.
+ * Use is subject to license terms.
+ * 
+ * 
+ * 
+ * 
+ * 
+ * 
+ * 
+ * 
+ * */
+package nw4j.wrapper.c.pointers;
+
+import java.util.Objects;
+
+import nw4j.helpers.Helpers;
+import nw4j.helpers.NativeType;
+import nw4j.wrapper.c.allocators.MemoryAccessor;
+
+/**
+ * A view of length char elements of native memory: an address with a length.
+ * <p>
+ * {@link CharSlice#get(long)} and {@link CharSlice#set(long, char)} check the index when {@link Helpers#ENABLE_CHECKS} is on.
+ * Bulk methods (fill, copy, sub-slicing, iteration) always check their range once per call and then run without per-element checks,
+ * so checks can stay on without a cost per element.
+ * <p>
+ * A slice does not own the memory. It is immutable, sub-slices share the memory of the original slice.
+ *
+ * try(CharPointer ptr = CharPointer.alloc(100)){
+ * 		CharSlice all 	= CharSlice.of(ptr, 100);
+ * 		CharSlice tail 	= all.slice(50, 100);
+ * 		tail.fill(' ');
+ * }
+ *
+ * @since 0.8
+ * @author miracle-masterpiece
+ * */
+public final @NativeType("char*") class CharSlice {
+
+	private final long address;
+
+	private final long length;
+
+	private CharSlice(long address, long length) {
+		this.address 	= address;
+		this.length 	= length;
+	}
+
+	public static CharSlice of(long address, long length) {
+		if (length < 0) {
+			throw new IllegalArgumentException("length < 0");
+		}
+		if (length > 0) {
+			Helpers.addressNonNull(address);
+		}
+		return new CharSlice(address, length);
+	}
+
+	public static CharSlice of(CharPointer pointer, long length) {
+		return of(pointer.address, length);
+	}
+
+	public long address() {
+		return address;
+	}
+
+	/**
+	 * @return Returns the number of elements.
+	 * */
+	public long length() {
+		return length;
+	}
+
+	public long byteSize() {
+		return length * VoidPointer.CHAR_SIZE;
+	}
+
+	public boolean isEmpty() {
+		return length == 0;
+	}
+
+	public char get(long index) {
+		if (Helpers.ENABLE_CHECKS) {
+			Objects.checkIndex(index, length);
+		}
+		return MemoryAccessor.getChar(address + index * VoidPointer.CHAR_SIZE);
+	}
+
+	public void set(long index, char v) {
+		if (Helpers.ENABLE_CHECKS) {
+			Objects.checkIndex(index, length);
+		}
+		MemoryAccessor.setChar(address + index * VoidPointer.CHAR_SIZE, v);
+	}
+
+	/**
+	 * @return Returns a slice of the elements from fromIndex (inclusive) to toIndex (exclusive).
+	 * */
+	public CharSlice slice(long fromIndex, long toIndex) {
+		Objects.checkFromToIndex(fromIndex, toIndex, length);
+		return new CharSlice(address + fromIndex * VoidPointer.CHAR_SIZE, toIndex - fromIndex);
+	}
+
+	/**
+	 * @return Returns a slice of the elements from fromIndex to the end.
+	 * */
+	public CharSlice slice(long fromIndex) {
+		return slice(fromIndex, length);
+	}
+
+	public void fill(char v) {
+		MemoryAccessor.fillChar(address, length, v);
+	}
+
+	/**
+	 * Copies len elements of src starting at srcOffset to this slice starting at index.
+	 * */
+	public void copyFrom(long index, char[] src, int srcOffset, int len) {
+		Objects.checkFromIndexSize(index, len, length);
+		Objects.checkFromIndexSize(srcOffset, len, src.length);
+		MemoryAccessor.copyFrom(address + index * VoidPointer.CHAR_SIZE, src, srcOffset, len);
+	}
+
+	public void copyFrom(char[] src) {
+		copyFrom(0, src, 0, src.length);
+	}
+
+	/**
+	 * Copies len elements of this slice starting at index to dst starting at dstOffset.
+	 * */
+	public void copyTo(long index, char[] dst, int dstOffset, int len) {
+		Objects.checkFromIndexSize(index, len, length);
+		Objects.checkFromIndexSize(dstOffset, len, dst.length);
+		MemoryAccessor.copyTo(address + index * VoidPointer.CHAR_SIZE, dst, dstOffset, len);
+	}
+
+	/**
+	 * Copies the elements of src to the beginning of this slice. The slices may overlap.
+	 * */
+	public void copyFrom(CharSlice src) {
+		Objects.checkFromIndexSize(0, src.length, length);
+		MemoryAccessor.memmove(src.address, address, src.byteSize());
+	}
+
+	public char[] toArray() {
+		if (length > Integer.MAX_VALUE - 8) {
+			throw new IllegalStateException("Slice is too large for a java array: " + length);
+		}
+		final char[] result = new char[(int)length];
+		MemoryAccessor.copyTo(address, result, 0, result.length);
+		return result;
+	}
+
+	/**
+	 * @return Returns true if both slices have the same length and the same bytes.
+	 * */
+	public boolean contentEquals(CharSlice other) {
+		return length == other.length && MemoryAccessor.mismatch(address, other.address, byteSize()) < 0;
+	}
+
+	/**
+	 * Creates a pointer to the first element. The pointer does not own the memory, closing it does nothing.
+	 * */
+	public CharPointer asPointer() {
+		return VoidPointer.view(CharPointer.asAddress(address));
+	}
+
+	/**
+	 * Points the cursor to the first element.
+	 *
+	 * @return Returns cursor.
+	 * */
+	public CharCursor cursor(CharCursor cursor) {
+		return cursor.assign(address);
+	}
+
+	@Override
+	public String toString() {
+		return "CharSlice: 0x" + Long.toHexString(address) + "[" + length + "]";
+	}
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2024, Miracle-Masterpiсe <mrmiraclemasterpiece@gmail.com or https://t.me/MiracleMasterpiece>. All rights reserved.
+ * Use is subject to license terms.
+ * 
+ * 
+ * 
+ * 
+ * 
+ * 
+ * 
+ * 
+ * */
+package nw4j.wrapper.c.pointers;
+
+import nw4j.helpers.NativeType;
+import nw4j.wrapper.c.allocators.MemoryAccessor;
+
+/**
+ * A reusable view of double elements that moves over native memory without creating objects.
+ * <p>
+ * The cursor remembers a base address set by assign and a current address moved by {@link DoubleCursor#seek(long)} and {@link DoubleCursor#advance(long)}.
+ * It does not own the memory and is not checked against any bounds, like a C pointer.
+ * One cursor can be kept in a field and re-pointed in a loop instead of wrapping every address with {@link DoublePointer#asAddress(long)}.
+ *
+ * DoubleCursor c = new DoubleCursor();
+ * for (long row : rows) {
+ * 		c.assign(row);
+ * 		for (int i = 0; i < n; ++i, c.advance(1))
+ * 			sum += c.get();
+ * }
+ *
+ * @since 0.8
+ * @author miracle-masterpiece
+ * */
+public final @NativeType("double*") class DoubleCursor {
+
+	private long base;
+
+	private long address;
+
+	public DoubleCursor() {}
+
+	public DoubleCursor(long address) {
+		assign(address);
+	}
+
+	/**
+	 * Points the cursor to address and makes it the base for {@link DoubleCursor#seek(long)}.
+	 * */
+	public DoubleCursor assign(long address) {
+		this.base 		= address;
+		this.address 	= address;
+		return this;
+	}
+
+	public DoubleCursor assign(VoidPointer pointer) {
+		return assign(pointer.address);
+	}
+
+	/**
+	 * Moves the cursor to the element with the index counted from the base.
+	 * */
+	public DoubleCursor seek(long index) {
+		address = base + index * VoidPointer.DOUBLE_SIZE;
+		return this;
+	}
+
+	/**
+	 * Moves the cursor by n elements, n can be negative.
+	 * */
+	public DoubleCursor advance(long n) {
+		address += n * VoidPointer.DOUBLE_SIZE;
+		return this;
+	}
+
+	public double get() {
+		return MemoryAccessor.getDouble(address);
+	}
+
+	public void set(double v) {
+		MemoryAccessor.setDouble(address, v);
+	}
+
+	/**
+	 * @return Returns the element at offset elements from the current one.
+	 * */
+	public double get(long offset) {
+		return MemoryAccessor.getDouble(address + offset * VoidPointer.DOUBLE_SIZE);
+	}
+
+	public void set(long offset, double v) {
+		MemoryAccessor.setDouble(address + offset * VoidPointer.DOUBLE_SIZE, v);
+	}
+
+	/**
+	 * @return Returns the address of the current element.
+	 * */
+	public long address() {
+		return address;
+	}
+
+	public long base() {
+		return base;
+	}
+
+	/**
+	 * @return Returns the index of the current element counted from the base.
+	 * */
+	public long position() {
+		return (address - base) / VoidPointer.DOUBLE_SIZE;
+	}
+
+	@Override
+	public String toString() {
+		return "DoubleCursor: 0x" + Long.toHexString(address);
+	}
+}
@@ -12,7 +12,14 @@
  * */
 package nw4j.wrapper.c.pointers;
 
+import java.io.IOException;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+
 import nw4j.helpers.NativeType;
+import nw4j.wrapper.c.allocators.IAllocator;
+import nw4j.wrapper.c.allocators.IMemoryOwner;
+import nw4j.wrapper.c.allocators.MappedFile;
 import nw4j.wrapper.c.allocators.MemoryAccessor;
 
 /**
@@ -27,6 +34,10 @@ public final @NativeType("double*") class DoublePointer extends VoidPointer{
 		super(address);
 	}
 
+	private DoublePointer(long address, IMemoryOwner allocator) {
+		super(address, allocator);
+	}
+
 	private DoublePointer(VoidPointer voidPtr) {
 		super(voidPtr);
 	}
@@ -58,12 +69,119 @@ public final @NativeType("double*") class DoublePointer extends VoidPointer{
 		return getDouble(0);
 	}
 
+	/**
+	 * Reads the element at index stored in big-endian byte order.
+	 * @since 0.8
+	 * */
+	public double getBE(long index) {
+		return NATIVE_BIG_ENDIAN ? Double.longBitsToDouble(getLong(index * DOUBLE_SIZE)) : Double.longBitsToDouble(Long.reverseBytes(getLong(index * DOUBLE_SIZE)));
+	}
+
+	/**
+	 * Writes the element at index in big-endian byte order.
+	 * @since 0.8
+	 * */
+	public void setBE(long index, double v) {
+		if (NATIVE_BIG_ENDIAN) {
+			setLong(index * DOUBLE_SIZE, Double.doubleToRawLongBits(v));
+		}else {
+			setLong(index * DOUBLE_SIZE, Long.reverseBytes(Double.doubleToRawLongBits(v)));
+		}
+	}
+
+	/**
+	 * Reads the element at index stored in little-endian byte order.
+	 * @since 0.8
+	 * */
+	public double getLE(long index) {
+		return NATIVE_BIG_ENDIAN ? Double.longBitsToDouble(Long.reverseBytes(getLong(index * DOUBLE_SIZE))) : Double.longBitsToDouble(getLong(index * DOUBLE_SIZE));
+	}
+
+	/**
+	 * Writes the element at index in little-endian byte order.
+	 * @since 0.8
+	 * */
+	public void setLE(long index, double v) {
+		if (NATIVE_BIG_ENDIAN) {
+			setLong(index * DOUBLE_SIZE, Long.reverseBytes(Double.doubleToRawLongBits(v)));
+		}else {
+			setLong(index * DOUBLE_SIZE, Double.doubleToRawLongBits(v));
+		}
+	}
+
+	/**
+	 * Reverses the byte order of count elements in place.
+	 * @see MemoryAccessor#swapOrder64(long, long, long)
+	 * @since 0.8
+	 * */
+	public void swapOrder(long count) {
+		MemoryAccessor.swapOrder64(address, address, count);
+	}
+
+	/**
+	 * Copies len elements of the array, starting at off, to the memory pointed to by this pointer.
+	 * */
+	public void copyFrom(double[] src, int off, int len) {
+		MemoryAccessor.copyFrom(address, src, off, len);
+	}
+
+	public void copyFrom(double[] src) {
+		copyFrom(src, 0, src.length);
+	}
+
+	/**
+	 * Copies len elements from the memory pointed to by this pointer to the array, starting at off.
+	 * */
+	public void copyTo(double[] dst, int off, int len) {
+		MemoryAccessor.copyTo(address, dst, off, len);
+	}
+
+	public void copyTo(double[] dst) {
+		copyTo(dst, 0, dst.length);
+	}
+
 	/**==================== Allocators ============================*/
 
 	public static DoublePointer alloc(long size) {
 		return new DoublePointer(MemoryAccessor.malloc(size * DOUBLE_SIZE));
 	}
 
+	/**
+	 * Allocates memory for size elements using the allocator.
+	 * The memory is returned to the same allocator by {@link VoidPointer#close()}.
+	 * @since 0.8
+	 * */
+	public static DoublePointer alloc(long size, IAllocator allocator) {
+		return new DoublePointer(allocator.malloc(size * DOUBLE_SIZE), allocator);
+	}
+
+	/**
+	 * Allocates memory for size elements aligned to alignment bytes.
+	 * @see MemoryAccessor#mallocAligned(long, int)
+	 * @since 0.8
+	 * */
+	public static DoublePointer allocAligned(long size, int alignment) {
+		return alloc(size, IAllocator.aligned(alignment));
+	}
+
+	/**
+	 * Creates a pointer to the beginning of the mapped file. {@link VoidPointer#close()} unmaps the file.
+	 * @since 0.8
+	 * */
+	public static DoublePointer map(MappedFile file) {
+		return new DoublePointer(file.address(), file);
+	}
+
+	/**
+	 * Maps size elements of the file starting at offset bytes.
+	 * {@link VoidPointer#close()} unmaps the file, {@link MappedFile#force()} is available through {@link VoidPointer#allocator()}.
+	 * @see MappedFile#map(Path, long, long, MapMode)
+	 * @since 0.8
+	 * */
+	public static DoublePointer map(Path path, long offset, long size, MapMode mode) throws IOException {
+		return map(MappedFile.map(path, offset, size * DOUBLE_SIZE, mode));
+	}
+
 	public static DoublePointer asAddress(long address) {
 		return new DoublePointer(address);
 	}
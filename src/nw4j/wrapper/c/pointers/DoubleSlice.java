@@ -0,0 +1,201 @@
+/*
+ * Copyright (c) 2024, Miracle-Masterpiсe <mrmiraclemasterpiece@gmail.com or https://t.me/MiracleMasterpiece>. All rights reserved.
+ * Use is subject to license terms.
+ * 
+ * 
+ * 
+ * 
+ * 
+ * 
+ * 
+ * 
+ * */
+package nw4j.wrapper.c.pointers;
+
+import java.util.Objects;
+import java.util.function.DoubleConsumer;
+import java.util.stream.DoubleStream;
+
+import nw4j.helpers.Helpers;
+import nw4j.helpers.NativeType;
+import nw4j.wrapper.c.allocators.MemoryAccessor;
+
+/**
+ * A view of length double elements of native memory: an address with a length.
+ * <p>
+ * {@link DoubleSlice#get(long)} and {@link DoubleSlice#set(long, double)} check the index when {@link Helpers#ENABLE_CHECKS} is on.
+ * Bulk methods (fill, copy, sub-slicing, iteration) always check their range once per call and then run without per-element checks,
+ * so checks can stay on without a cost per element.
+ * <p>
+ * A slice does not own the memory. It is immutable, sub-slices share the memory of the original slice.
+ *
+ * try(DoublePointer ptr = DoublePointer.alloc(100)){
+ * 		DoubleSlice all 	= DoubleSlice.of(ptr, 100);
+ * 		DoubleSlice tail 	= all.slice(50, 100);
+ * 		tail.fill(0.0);
+ * }
+ *
+ * @since 0.8
+ * @author miracle-masterpiece
+ * */
+public final @NativeType("double*") class DoubleSlice {
+
+	private final long address;
+
+	private final long length;
+
+	private DoubleSlice(long address, long length) {
+		this.address 	= address;
+		this.length 	= length;
+	}
+
+	public static DoubleSlice of(long address, long length) {
+		if (length < 0) {
+			throw new IllegalArgumentException("length < 0");
+		}
+		if (length > 0) {
+			Helpers.addressNonNull(address);
+		}
+		return new DoubleSlice(address, length);
+	}
+
+	public static DoubleSlice of(DoublePointer pointer, long length) {
+		return of(pointer.address, length);
+	}
+
+	public long address() {
+		return address;
+	}
+
+	/**
+	 * @return Returns the number of elements.
+	 * */
+	public long length() {
+		return length;
+	}
+
+	public long byteSize() {
+		return length * VoidPointer.DOUBLE_SIZE;
+	}
+
+	public boolean isEmpty() {
+		return length == 0;
+	}
+
+	public double get(long index) {
+		if (Helpers.ENABLE_CHECKS) {
+			Objects.checkIndex(index, length);
+		}
+		return MemoryAccessor.getDouble(address + index * VoidPointer.DOUBLE_SIZE);
+	}
+
+	public void set(long index, double v) {
+		if (Helpers.ENABLE_CHECKS) {
+			Objects.checkIndex(index, length);
+		}
+		MemoryAccessor.setDouble(address + index * VoidPointer.DOUBLE_SIZE, v);
+	}
+
+	/**
+	 * @return Returns a slice of the elements from fromIndex (inclusive) to toIndex (exclusive).
+	 * */
+	public DoubleSlice slice(long fromIndex, long toIndex) {
+		Objects.checkFromToIndex(fromIndex, toIndex, length);
+		return new DoubleSlice(address + fromIndex * VoidPointer.DOUBLE_SIZE, toIndex - fromIndex);
+	}
+
+	/**
+	 * @return Returns a slice of the elements from fromIndex to the end.
+	 * */
+	public DoubleSlice slice(long fromIndex) {
+		return slice(fromIndex, length);
+	}
+
+	public void fill(double v) {
+		MemoryAccessor.fillDouble(address, length, v);
+	}
+
+	/**
+	 * Copies len elements of src starting at srcOffset to this slice starting at index.
+	 * */
+	public void copyFrom(long index, double[] src, int srcOffset, int len) {
+		Objects.checkFromIndexSize(index, len, length);
+		Objects.checkFromIndexSize(srcOffset, len, src.length);
+		MemoryAccessor.copyFrom(address + index * VoidPointer.DOUBLE_SIZE, src, srcOffset, len);
+	}
+
+	public void copyFrom(double[] src) {
+		copyFrom(0, src, 0, src.length);
+	}
+
+	/**
+	 * Copies len elements of this slice starting at index to dst starting at dstOffset.
+	 * */
+	public void copyTo(long index, double[] dst, int dstOffset, int len) {
+		Objects.checkFromIndexSize(index, len, length);
+		Objects.checkFromIndexSize(dstOffset, len, dst.length);
+		MemoryAccessor.copyTo(address + index * VoidPointer.DOUBLE_SIZE, dst, dstOffset, len);
+	}
+
+	/**
+	 * Copies the elements of src to the beginning of this slice. The slices may overlap.
+	 * */
+	public void copyFrom(DoubleSlice src) {
+		Objects.checkFromIndexSize(0, src.length, length);
+		MemoryAccessor.memmove(src.address, address, src.byteSize());
+	}
+
+	public double[] toArray() {
+		if (length > Integer.MAX_VALUE - 8) {
+			throw new IllegalStateException("Slice is too large for a java array: " + length);
+		}
+		final double[] result = new double[(int)length];
+		MemoryAccessor.copyTo(address, result, 0, result.length);
+		return result;
+	}
+
+	/**
+	 * @return Returns true if both slices have the same length and the same bytes.
+	 * */
+	public boolean contentEquals(DoubleSlice other) {
+		return length == other.length && MemoryAccessor.mismatch(address, other.address, byteSize()) < 0;
+	}
+
+	/**
+	 * Calls the action for each element in order.
+	 * */
+	public void forEach(DoubleConsumer action) {
+		for (long a = address, end = address + byteSize(); a < end; a += VoidPointer.DOUBLE_SIZE) {
+			action.accept(MemoryAccessor.getDouble(a));
+		}
+	}
+
+	/**
+	 * @return Returns a sequential stream of the elements, which can be made parallel.
+	 * @see NativeStreams
+	 * */
+	public DoubleStream stream() {
+		return NativeStreams.doubleStream(address, length);
+	}
+
+	/**
+	 * Creates a pointer to the first element. The pointer does not own the memory, closing it does nothing.
+	 * */
+	public DoublePointer asPointer() {
+		return VoidPointer.view(DoublePointer.asAddress(address));
+	}
+
+	/**
+	 * Points the cursor to the first element.
+	 *
+	 * @return Returns cursor.
+	 * */
+	public DoubleCursor cursor(DoubleCursor cursor) {
+		return cursor.assign(address);
+	}
+
+	@Override
+	public String toString() {
+		return "DoubleSlice: 0x" + Long.toHexString(address) + "[" + length + "]";
+	}
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2024, Miracle-Masterpiсe <mrmiraclemasterpiece@gmail.com or https://t.me/MiracleMasterpiece>. All rights reserved.
+ * Use is subject to license terms.
+ * 
+ * 
+ * 
+ * 
+ * 
+ * 
+ * 
+ * 
+ * */
+package nw4j.wrapper.c.pointers;
+
+import nw4j.helpers.NativeType;
+import nw4j.wrapper.c.allocators.MemoryAccessor;
+
+/**
+ * A reusable view of float elements that moves over native memory without creating objects.
+ * <p>
+ * The cursor remembers a base address set by assign and a current address moved by {@link FloatCursor#seek(long)} and {@link FloatCursor#advance(long)}.
+ * It does not own the memory and is not checked against any bounds, like a C pointer.
+ * One cursor can be kept in a field and re-pointed in a loop instead of wrapping every address with {@link FloatPointer#asAddress(long)}.
+ *
+ * FloatCursor c = new FloatCursor();
+ * for (long row : rows) {
+ * 		c.assign(row);
+ * 		for (int i = 0; i < n; ++i, c.advance(1))
+ * 			sum += c.get();
+ * }
+ *
+ * @since 0.8
+ * @author miracle-masterpiece
+ * */
+public final @NativeType("float*") class FloatCursor {
+
+	private long base;
+
+	private long address;
+
+	public FloatCursor() {}
+
+	public FloatCursor(long address) {
+		assign(address);
+	}
+
+	/**
+	 * Points the cursor to address and makes it the base for {@link FloatCursor#seek(long)}.
+	 * */
+	public FloatCursor assign(long address) {
+		this.base 		= address;
+		this.address 	= address;
+		return this;
+	}
+
+	public FloatCursor assign(VoidPointer pointer) {
+		return assign(pointer.address);
+	}
+
+	/**
+	 * Moves the cursor to the element with the index counted from the base.
+	 * */
+	public FloatCursor seek(long index) {
+		address = base + index * VoidPointer.FLOAT_SIZE;
+		return this;
+	}
+
+	/**
+	 * Moves the cursor by n elements, n can be negative.
+	 * */
+	public FloatCursor advance(long n) {
+		address += n * VoidPointer.FLOAT_SIZE;
+		return this;
+	}
+
+	public float get() {
+		return MemoryAccessor.getFloat(address);
+	}
+
+	public void set(float v) {
+		MemoryAccessor.setFloat(address, v);
+	}
+
+	/**
+	 * @return Returns the element at offset elements from the current one.
+	 * */
+	public float get(long offset) {
+		return MemoryAccessor.getFloat(address + offset * VoidPointer.FLOAT_SIZE);
+	}
+
+	public void set(long offset, float v) {
+		MemoryAccessor.setFloat(address + offset * VoidPointer.FLOAT_SIZE, v);
+	}
+
+	/**
+	 * @return Returns the address of the current element.
+	 * */
+	public long address() {
+		return address;
+	}
+
+	public long base() {
+		return base;
+	}
+
+	/**
+	 * @return Returns the index of the current element counted from the base.
+	 * */
+	public long position() {
+		return (address - base) / VoidPointer.FLOAT_SIZE;
+	}
+
+	@Override
+	public String toString() {
+		return "FloatCursor: 0x" + Long.toHexString(address);
+	}
+}
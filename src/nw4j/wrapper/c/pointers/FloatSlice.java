@@ -0,0 +1,191 @@
+/*
+ * Copyright (c) 2024, Miracle-Masterpiсe <mrmiraclemasterpiece@gmail.com or https://t.me/MiracleMasterpiece>. All rights reserved.
+ * Use is subject to license terms.
+ * 
+ * 
+ * 
+ * 
+ * 
+ * 
+ * 
+ * 
+ * */
+package nw4j.wrapper.c.pointers;
+
+import java.util.Objects;
+import java.util.stream.DoubleStream;
+
+import nw4j.helpers.Helpers;
+import nw4j.helpers.NativeType;
+import nw4j.wrapper.c.allocators.MemoryAccessor;
+
+/**
+ * A view of length float elements of native memory: an address with a length.
+ * <p>
+ * {@link FloatSlice#get(long)} and {@link FloatSlice#set(long, float)} check the index when {@link Helpers#ENABLE_CHECKS} is on.
+ * Bulk methods (fill, copy, sub-slicing, iteration) always check their range once per call and then run without per-element checks,
+ * so checks can stay on without a cost per element.
+ * <p>
+ * A slice does not own the memory. It is immutable, sub-slices share the memory of the original slice.
+ *
+ * try(FloatPointer ptr = FloatPointer.alloc(100)){
+ * 		FloatSlice all 	= FloatSlice.of(ptr, 100);
+ * 		FloatSlice tail 	= all.slice(50, 100);
+ * 		tail.fill(0f);
+ * }
+ *
+ * @since 0.8
+ * @author miracle-masterpiece
+ * */
+public final @NativeType("float*") class FloatSlice {
+
+	private final long address;
+
+	private final long length;
+
+	private FloatSlice(long address, long length) {
+		this.address 	= address;
+		this.length 	= length;
+	}
+
+	public static FloatSlice of(long address, long length) {
+		if (length < 0) {
+			throw new IllegalArgumentException("length < 0");
+		}
+		if (length > 0) {
+			Helpers.addressNonNull(address);
+		}
+		return new FloatSlice(address, length);
+	}
+
+	public static FloatSlice of(FloatPointer pointer, long length) {
+		return of(pointer.address, length);
+	}
+
+	public long address() {
+		return address;
+	}
+
+	/**
+	 * @return Returns the number of elements.
+	 * */
+	public long length() {
+		return length;
+	}
+
+	public long byteSize() {
+		return length * VoidPointer.FLOAT_SIZE;
+	}
+
+	public boolean isEmpty() {
+		return length == 0;
+	}
+
+	public float get(long index) {
+		if (Helpers.ENABLE_CHECKS) {
+			Objects.checkIndex(index, length);
+		}
+		return MemoryAccessor.getFloat(address + index * VoidPointer.FLOAT_SIZE);
+	}
+
+	public void set(long index, float v) {
+		if (Helpers.ENABLE_CHECKS) {
+			Objects.checkIndex(index, length);
+		}
+		MemoryAccessor.setFloat(address + index * VoidPointer.FLOAT_SIZE, v);
+	}
+
+	/**
+	 * @return Returns a slice of the elements from fromIndex (inclusive) to toIndex (exclusive).
+	 * */
+	public FloatSlice slice(long fromIndex, long toIndex) {
+		Objects.checkFromToIndex(fromIndex, toIndex, length);
+		return new FloatSlice(address + fromIndex * VoidPointer.FLOAT_SIZE, toIndex - fromIndex);
+	}
+
+	/**
+	 * @return Returns a slice of the elements from fromIndex to the end.
+	 * */
+	public FloatSlice slice(long fromIndex) {
+		return slice(fromIndex, length);
+	}
+
+	public void fill(float v) {
+		MemoryAccessor.fillFloat(address, length, v);
+	}
+
+	/**
+	 * Copies len elements of src starting at srcOffset to this slice starting at index.
+	 * */
+	public void copyFrom(long index, float[] src, int srcOffset, int len) {
+		Objects.checkFromIndexSize(index, len, length);
+		Objects.checkFromIndexSize(srcOffset, len, src.length);
+		MemoryAccessor.copyFrom(address + index * VoidPointer.FLOAT_SIZE, src, srcOffset, len);
+	}
+
+	public void copyFrom(float[] src) {
+		copyFrom(0, src, 0, src.length);
+	}
+
+	/**
+	 * Copies len elements of this slice starting at index to dst starting at dstOffset.
+	 * */
+	public void copyTo(long index, float[] dst, int dstOffset, int len) {
+		Objects.checkFromIndexSize(index, len, length);
+		Objects.checkFromIndexSize(dstOffset, len, dst.length);
+		MemoryAccessor.copyTo(address + index * VoidPointer.FLOAT_SIZE, dst, dstOffset, len);
+	}
+
+	/**
+	 * Copies the elements of src to the beginning of this slice. The slices may overlap.
+	 * */
+	public void copyFrom(FloatSlice src) {
+		Objects.checkFromIndexSize(0, src.length, length);
+		MemoryAccessor.memmove(src.address, address, src.byteSize());
+	}
+
+	public float[] toArray() {
+		if (length > Integer.MAX_VALUE - 8) {
+			throw new IllegalStateException("Slice is too large for a java array: " + length);
+		}
+		final float[] result = new float[(int)length];
+		MemoryAccessor.copyTo(address, result, 0, result.length);
+		return result;
+	}
+
+	/**
+	 * @return Returns true if both slices have the same length and the same bytes.
+	 * */
+	public boolean contentEquals(FloatSlice other) {
+		return length == other.length && MemoryAccessor.mismatch(address, other.address, byteSize()) < 0;
+	}
+
+	/**
+	 * @return Returns a sequential stream of the elements widened to double, which can be made parallel.
+	 * @see NativeStreams
+	 * */
+	public DoubleStream stream() {
+		return NativeStreams.floatStream(address, length);
+	}
+
+	/**
+	 * Creates a pointer to the first element. The pointer does not own the memory, closing it does nothing.
+	 * */
+	public FloatPointer asPointer() {
+		return VoidPointer.view(FloatPointer.asAddress(address));
+	}
+
+	/**
+	 * Points the cursor to the first element.
+	 *
+	 * @return Returns cursor.
+	 * */
+	public FloatCursor cursor(FloatCursor cursor) {
+		return cursor.assign(address);
+	}
+
+	@Override
+	public String toString() {
+		return "FloatSlice: 0x" + Long.toHexString(address) + "[" + length + "]";
+	}
+}
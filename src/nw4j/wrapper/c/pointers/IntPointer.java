@@ -12,7 +12,14 @@
  * */
 package nw4j.wrapper.c.pointers;
 
+import java.io.IOException;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+
 import nw4j.helpers.NativeType;
+import nw4j.wrapper.c.allocators.IAllocator;
+import nw4j.wrapper.c.allocators.IMemoryOwner;
+import nw4j.wrapper.c.allocators.MappedFile;
 import nw4j.wrapper.c.allocators.MemoryAccessor;
 
 /**
@@ -27,6 +34,10 @@ public final @NativeType("int*")class IntPointer extends VoidPointer{
 		super(address);
 	}
 
+	private IntPointer(long address, IMemoryOwner allocator) {
+		super(address, allocator);
+	}
+
 	private IntPointer(VoidPointer voidPtr) {
 		super(voidPtr);
 	}
@@ -58,12 +69,180 @@ public final @NativeType("int*")class IntPointer extends VoidPointer{
 		return getInt(0);
 	}
 
+	/**
+	 * Reads the element at index stored in big-endian byte order.
+	 * @since 0.8
+	 * */
+	public int getBE(long index) {
+		return NATIVE_BIG_ENDIAN ? getInt(index * INT_SIZE) : Integer.reverseBytes(getInt(index * INT_SIZE));
+	}
+
+	/**
+	 * Writes the element at index in big-endian byte order.
+	 * @since 0.8
+	 * */
+	public void setBE(long index, int v) {
+		if (NATIVE_BIG_ENDIAN) {
+			setInt(index * INT_SIZE, v);
+		}else {
+			setInt(index * INT_SIZE, Integer.reverseBytes(v));
+		}
+	}
+
+	/**
+	 * Reads the element at index stored in little-endian byte order.
+	 * @since 0.8
+	 * */
+	public int getLE(long index) {
+		return NATIVE_BIG_ENDIAN ? Integer.reverseBytes(getInt(index * INT_SIZE)) : getInt(index * INT_SIZE);
+	}
+
+	/**
+	 * Writes the element at index in little-endian byte order.
+	 * @since 0.8
+	 * */
+	public void setLE(long index, int v) {
+		if (NATIVE_BIG_ENDIAN) {
+			setInt(index * INT_SIZE, Integer.reverseBytes(v));
+		}else {
+			setInt(index * INT_SIZE, v);
+		}
+	}
+
+	/**
+	 * Atomically sets the element at index to v if it currently equals expected.
+	 * @see MemoryAccessor#compareAndSetInt(long, int, int)
+	 * @since 0.8
+	 * */
+	public boolean compareAndSet(long index, int expected, int v) {
+		return MemoryAccessor.compareAndSetInt(address + index * INT_SIZE, expected, v);
+	}
+
+	/**
+	 * Atomically adds delta to the element at index and returns the previous value.
+	 * @since 0.8
+	 * */
+	public int getAndAdd(long index, int delta) {
+		return MemoryAccessor.getAndAddInt(address + index * INT_SIZE, delta);
+	}
+
+	/**
+	 * Atomically adds delta to the element at index and returns the new value.
+	 * @since 0.8
+	 * */
+	public int addAndGet(long index, int delta) {
+		return MemoryAccessor.getAndAddInt(address + index * INT_SIZE, delta) + delta;
+	}
+
+	/**
+	 * Atomically sets the element at index to v and returns the previous value.
+	 * @since 0.8
+	 * */
+	public int getAndSet(long index, int v) {
+		return MemoryAccessor.getAndSetInt(address + index * INT_SIZE, v);
+	}
+
+	/**
+	 * @since 0.8
+	 * */
+	public int getVolatile(long index) {
+		return MemoryAccessor.getIntVolatile(address + index * INT_SIZE);
+	}
+
+	/**
+	 * @since 0.8
+	 * */
+	public void setVolatile(long index, int v) {
+		MemoryAccessor.setIntVolatile(address + index * INT_SIZE, v);
+	}
+
+	/**
+	 * @since 0.8
+	 * */
+	public int getAcquire(long index) {
+		return MemoryAccessor.getIntAcquire(address + index * INT_SIZE);
+	}
+
+	/**
+	 * @since 0.8
+	 * */
+	public void setRelease(long index, int v) {
+		MemoryAccessor.setIntRelease(address + index * INT_SIZE, v);
+	}
+
+	/**
+	 * Reverses the byte order of count elements in place.
+	 * @see MemoryAccessor#swapOrder32(long, long, long)
+	 * @since 0.8
+	 * */
+	public void swapOrder(long count) {
+		MemoryAccessor.swapOrder32(address, address, count);
+	}
+
+	/**
+	 * Copies len elements of the array, starting at off, to the memory pointed to by this pointer.
+	 * */
+	public void copyFrom(int[] src, int off, int len) {
+		MemoryAccessor.copyFrom(address, src, off, len);
+	}
+
+	public void copyFrom(int[] src) {
+		copyFrom(src, 0, src.length);
+	}
+
+	/**
+	 * Copies len elements from the memory pointed to by this pointer to the array, starting at off.
+	 * */
+	public void copyTo(int[] dst, int off, int len) {
+		MemoryAccessor.copyTo(address, dst, off, len);
+	}
+
+	public void copyTo(int[] dst) {
+		copyTo(dst, 0, dst.length);
+	}
+
 	/**==================== Allocators ============================*/
 
 	public static IntPointer alloc(long size) {
 		return new IntPointer(MemoryAccessor.malloc(size * INT_SIZE));
 	}
 
+	/**
+	 * Allocates memory for size elements using the allocator.
+	 * The memory is returned to the same allocator by {@link VoidPointer#close()}.
+	 * @since 0.8
+	 * */
+	public static IntPointer alloc(long size, IAllocator allocator) {
+		return new IntPointer(allocator.malloc(size * INT_SIZE), allocator);
+	}
+
+	/**
+	 * Allocates memory for size elements aligned to alignment bytes.
+	 * @see MemoryAccessor#mallocAligned(long, int)
+	 * @since 0.8
+	 * */
+	public static IntPointer allocAligned(long size, int alignment) {
+		return alloc(size, IAllocator.aligned(alignment));
+	}
+
+	/**
+	 * Creates a pointer to the beginning of the mapped file. {@link VoidPointer#close()} unmaps the file.
+	 * @since 0.8
+	 * */
+	public static IntPointer map(MappedFile file) {
+		return new IntPointer(file.address(), file);
+	}
+
+	/**
+	 * Maps size elements of the file starting at offset bytes.
+	 * {@link VoidPointer#close()} unmaps the file, {@link MappedFile#force()} is available through {@link VoidPointer#allocator()}.
+	 * @see MappedFile#map(Path, long, long, MapMode)
+	 * @since 0.8
+	 * */
+	public static IntPointer map(Path path, long offset, long size, MapMode mode) throws IOException {
+		return map(MappedFile.map(path, offset, size * INT_SIZE, mode));
+	}
+
 	public static IntPointer asAddress(long address) {
 		return new IntPointer(address);
 	}
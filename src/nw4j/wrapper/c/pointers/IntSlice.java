@@ -0,0 +1,201 @@
+/*
+ * Copyright (c) 2024, Miracle-Masterpiсe <mrmiraclemasterpiece@gmail.com or https://t.me/MiracleMasterpiece>. All rights reserved.
+ * Use is subject to license terms.
+ * 
+ * 
+ * 
+ * 
+ * 
+ * 
+ * 
+ * 
+ * */
+package nw4j.wrapper.c.pointers;
+
+import java.util.Objects;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+import nw4j.helpers.Helpers;
+import nw4j.helpers.NativeType;
+import nw4j.wrapper.c.allocators.MemoryAccessor;
+
+/**
+ * A view of length int elements of native memory: an address with a length.
+ * <p>
+ * {@link IntSlice#get(long)} and {@link IntSlice#set(long, int)} check the index when {@link Helpers#ENABLE_CHECKS} is on.
+ * Bulk methods (fill, copy, sub-slicing, iteration) always check their range once per call and then run without per-element checks,
+ * so checks can stay on without a cost per element.
+ * <p>
+ * A slice does not own the memory. It is immutable, sub-slices share the memory of the original slice.
+ *
+ * try(IntPointer ptr = IntPointer.alloc(100)){
+ * 		IntSlice all 	= IntSlice.of(ptr, 100);
+ * 		IntSlice tail 	= all.slice(50, 100);
+ * 		tail.fill(0);
+ * }
+ *
+ * @since 0.8
+ * @author miracle-masterpiece
+ * */
+public final @NativeType("int*") class IntSlice {
+
+	private final long address;
+
+	private final long length;
+
+	private IntSlice(long address, long length) {
+		this.address 	= address;
+		this.length 	= length;
+	}
+
+	public static IntSlice of(long address, long length) {
+		if (length < 0) {
+			throw new IllegalArgumentException("length < 0");
+		}
+		if (length > 0) {
+			Helpers.addressNonNull(address);
+		}
+		return new IntSlice(address, length);
+	}
+
+	public static IntSlice of(IntPointer pointer, long length) {
+		return of(pointer.address, length);
+	}
+
+	public long address() {
+		return address;
+	}
+
+	/**
+	 * @return Returns the number of elements.
+	 * */
+	public long length() {
+		return length;
+	}
+
+	public long byteSize() {
+		return length * VoidPointer.INT_SIZE;
+	}
+
+	public boolean isEmpty() {
+		return length == 0;
+	}
+
+	public int get(long index) {
+		if (Helpers.ENABLE_CHECKS) {
+			Objects.checkIndex(index, length);
+		}
+		return MemoryAccessor.getInt(address + index * VoidPointer.INT_SIZE);
+	}
+
+	public void set(long index, int v) {
+		if (Helpers.ENABLE_CHECKS) {
+			Objects.checkIndex(index, length);
+		}
+		MemoryAccessor.setInt(address + index * VoidPointer.INT_SIZE, v);
+	}
+
+	/**
+	 * @return Returns a slice of the elements from fromIndex (inclusive) to toIndex (exclusive).
+	 * */
+	public IntSlice slice(long fromIndex, long toIndex) {
+		Objects.checkFromToIndex(fromIndex, toIndex, length);
+		return new IntSlice(address + fromIndex * VoidPointer.INT_SIZE, toIndex - fromIndex);
+	}
+
+	/**
+	 * @return Returns a slice of the elements from fromIndex to the end.
+	 * */
+	public IntSlice slice(long fromIndex) {
+		return slice(fromIndex, length);
+	}
+
+	public void fill(int v) {
+		MemoryAccessor.fillInt(address, length, v);
+	}
+
+	/**
+	 * Copies len elements of src starting at srcOffset to this slice starting at index.
+	 * */
+	public void copyFrom(long index, int[] src, int srcOffset, int len) {
+		Objects.checkFromIndexSize(index, len, length);
+		Objects.checkFromIndexSize(srcOffset, len, src.length);
+		MemoryAccessor.copyFrom(address + index * VoidPointer.INT_SIZE, src, srcOffset, len);
+	}
+
+	public void copyFrom(int[] src) {
+		copyFrom(0, src, 0, src.length);
+	}
+
+	/**
+	 * Copies len elements of this slice starting at index to dst starting at dstOffset.
+	 * */
+	public void copyTo(long index, int[] dst, int dstOffset, int len) {
+		Objects.checkFromIndexSize(index, len, length);
+		Objects.checkFromIndexSize(dstOffset, len, dst.length);
+		MemoryAccessor.copyTo(address + index * VoidPointer.INT_SIZE, dst, dstOffset, len);
+	}
+
+	/**
+	 * Copies the elements of src to the beginning of this slice. The slices may overlap.
+	 * */
+	public void copyFrom(IntSlice src) {
+		Objects.checkFromIndexSize(0, src.length, length);
+		MemoryAccessor.memmove(src.address, address, src.byteSize());
+	}
+
+	public int[] toArray() {
+		if (length > Integer.MAX_VALUE - 8) {
+			throw new IllegalStateException("Slice is too large for a java array: " + length);
+		}
+		final int[] result = new int[(int)length];
+		MemoryAccessor.copyTo(address, result, 0, result.length);
+		return result;
+	}
+
+	/**
+	 * @return Returns true if both slices have the same length and the same bytes.
+	 * */
+	public boolean contentEquals(IntSlice other) {
+		return length == other.length && MemoryAccessor.mismatch(address, other.address, byteSize()) < 0;
+	}
+
+	/**
+	 * Calls the action for each element in order.
+	 * */
+	public void forEach(IntConsumer action) {
+		for (long a = address, end = address + byteSize(); a < end; a += VoidPointer.INT_SIZE) {
+			action.accept(MemoryAccessor.getInt(a));
+		}
+	}
+
+	/**
+	 * @return Returns a sequential stream of the elements, which can be made parallel.
+	 * @see NativeStreams
+	 * */
+	public IntStream stream() {
+		return NativeStreams.intStream(address, length);
+	}
+
+	/**
+	 * Creates a pointer to the first element. The pointer does not own the memory, closing it does nothing.
+	 * */
+	public IntPointer asPointer() {
+		return VoidPointer.view(IntPointer.asAddress(address));
+	}
+
+	/**
+	 * Points the cursor to the first element.
+	 *
+	 * @return Returns cursor.
+	 * */
+	public IntCursor cursor(IntCursor cursor) {
+		return cursor.assign(address);
+	}
+
+	@Override
+	public String toString() {
+		return "IntSlice: 0x" + Long.toHexString(address) + "[" + length + "]";
+	}
+}
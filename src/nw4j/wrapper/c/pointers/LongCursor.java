@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2024, Miracle-Masterpiсe <mrmiraclemasterpiece@gmail.com or https://t.me/MiracleMasterpiece>. All rights reserved.
+ * Use is subject to license terms.
+ * 
+ * 
+ * 
+ * 
+ * 
+ * 
+ * 
+ * 
+ * */
+package nw4j.wrapper.c.pointers;
+
+import nw4j.helpers.NativeType;
+import nw4j.wrapper.c.allocators.MemoryAccessor;
+
+/**
+ * A reusable view of long elements that moves over native memory without creating objects.
+ * <p>
+ * The cursor remembers a base address set by assign and a current address moved by {@link LongCursor#seek(long)} and {@link LongCursor#advance(long)}.
+ * It does not own the memory and is not checked against any bounds, like a C pointer.
+ * One cursor can be kept in a field and re-pointed in a loop instead of wrapping every address with {@link LongPointer#asAddress(long)}.
+ *
+ * LongCursor c = new LongCursor();
+ * for (long row : rows) {
+ * 		c.assign(row);
+ * 		for (int i = 0; i < n; ++i, c.advance(1))
+ * 			sum += c.get();
+ * }
+ *
+ * @since 0.8
+ * @author miracle-masterpiece
+ * */
+public final @NativeType("long*") class LongCursor {
+
+	private long base;
+
+	private long address;
+
+	public LongCursor() {}
+
+	public LongCursor(long address) {
+		assign(address);
+	}
+
+	/**
+	 * Points the cursor to address and makes it the base for {@link LongCursor#seek(long)}.
+	 * */
+	public LongCursor assign(long address) {
+		this.base 		= address;
+		this.address 	= address;
+		return this;
+	}
+
+	public LongCursor assign(VoidPointer pointer) {
+		return assign(pointer.address);
+	}
+
+	/**
+	 * Moves the cursor to the element with the index counted from the base.
+	 * */
+	public LongCursor seek(long index) {
+		address = base + index * VoidPointer.LONG_SIZE;
+		return this;
+	}
+
+	/**
+	 * Moves the cursor by n elements, n can be negative.
+	 * */
+	public LongCursor advance(long n) {
+		address += n * VoidPointer.LONG_SIZE;
+		return this;
+	}
+
+	public long get() {
+		return MemoryAccessor.getLong(address);
+	}
+
+	public void set(long v) {
+		MemoryAccessor.setLong(address, v);
+	}
+
+	/**
+	 * @return Returns the element at offset elements from the current one.
+	 * */
+	public long get(long offset) {
+		return MemoryAccessor.getLong(address + offset * VoidPointer.LONG_SIZE);
+	}
+
+	public void set(long offset, long v) {
+		MemoryAccessor.setLong(address + offset * VoidPointer.LONG_SIZE, v);
+	}
+
+	/**
+	 * @return Returns the address of the current element.
+	 * */
+	public long address() {
+		return address;
+	}
+
+	public long base() {
+		return base;
+	}
+
+	/**
+	 * @return Returns the index of the current element counted from the base.
+	 * */
+	public long position() {
+		return (address - base) / VoidPointer.LONG_SIZE;
+	}
+
+	@Override
+	public String toString() {
+		return "LongCursor: 0x" + Long.toHexString(address);
+	}
+}
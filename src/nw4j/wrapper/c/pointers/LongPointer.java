@@ -12,7 +12,14 @@
  * */
 package nw4j.wrapper.c.pointers;
 
+import java.io.IOException;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+
 import nw4j.helpers.NativeType;
+import nw4j.wrapper.c.allocators.IAllocator;
+import nw4j.wrapper.c.allocators.IMemoryOwner;
+import nw4j.wrapper.c.allocators.MappedFile;
 import nw4j.wrapper.c.allocators.MemoryAccessor;
 
 /**
@@ -27,6 +34,10 @@ public final @NativeType("long*")class LongPointer extends VoidPointer{
 		super(address);
 	}
 
+	private LongPointer(long address, IMemoryOwner allocator) {
+		super(address, allocator);
+	}
+
 	private LongPointer(VoidPointer voidPtr) {
 		super(voidPtr);
 	}
@@ -58,12 +69,180 @@ public final @NativeType("long*")class LongPointer extends VoidPointer{
 		return getLong(0);
 	}
 
+	/**
+	 * Reads the element at index stored in big-endian byte order.
+	 * @since 0.8
+	 * */
+	public long getBE(long index) {
+		return NATIVE_BIG_ENDIAN ? getLong(index * LONG_SIZE) : Long.reverseBytes(getLong(index * LONG_SIZE));
+	}
+
+	/**
+	 * Writes the element at index in big-endian byte order.
+	 * @since 0.8
+	 * */
+	public void setBE(long index, long v) {
+		if (NATIVE_BIG_ENDIAN) {
+			setLong(index * LONG_SIZE, v);
+		}else {
+			setLong(index * LONG_SIZE, Long.reverseBytes(v));
+		}
+	}
+
+	/**
+	 * Reads the element at index stored in little-endian byte order.
+	 * @since 0.8
+	 * */
+	public long getLE(long index) {
+		return NATIVE_BIG_ENDIAN ? Long.reverseBytes(getLong(index * LONG_SIZE)) : getLong(index * LONG_SIZE);
+	}
+
+	/**
+	 * Writes the element at index in little-endian byte order.
+	 * @since 0.8
+	 * */
+	public void setLE(long index, long v) {
+		if (NATIVE_BIG_ENDIAN) {
+			setLong(index * LONG_SIZE, Long.reverseBytes(v));
+		}else {
+			setLong(index * LONG_SIZE, v);
+		}
+	}
+
+	/**
+	 * Atomically sets the element at index to v if it currently equals expected.
+	 * @see MemoryAccessor#compareAndSetLong(long, long, long)
+	 * @since 0.8
+	 * */
+	public boolean compareAndSet(long index, long expected, long v) {
+		return MemoryAccessor.compareAndSetLong(address + index * LONG_SIZE, expected, v);
+	}
+
+	/**
+	 * Atomically adds delta to the element at index and returns the previous value.
+	 * @since 0.8
+	 * */
+	public long getAndAdd(long index, long delta) {
+		return MemoryAccessor.getAndAddLong(address + index * LONG_SIZE, delta);
+	}
+
+	/**
+	 * Atomically adds delta to the element at index and returns the new value.
+	 * @since 0.8
+	 * */
+	public long addAndGet(long index, long delta) {
+		return MemoryAccessor.getAndAddLong(address + index * LONG_SIZE, delta) + delta;
+	}
+
+	/**
+	 * Atomically sets the element at index to v and returns the previous value.
+	 * @since 0.8
+	 * */
+	public long getAndSet(long index, long v) {
+		return MemoryAccessor.getAndSetLong(address + index * LONG_SIZE, v);
+	}
+
+	/**
+	 * @since 0.8
+	 * */
+	public long getVolatile(long index) {
+		return MemoryAccessor.getLongVolatile(address + index * LONG_SIZE);
+	}
+
+	/**
+	 * @since 0.8
+	 * */
+	public void setVolatile(long index, long v) {
+		MemoryAccessor.setLongVolatile(address + index * LONG_SIZE, v);
+	}
+
+	/**
+	 * @since 0.8
+	 * */
+	public long getAcquire(long index) {
+		return MemoryAccessor.getLongAcquire(address + index * LONG_SIZE);
+	}
+
+	/**
+	 * @since 0.8
+	 * */
+	public void setRelease(long index, long v) {
+		MemoryAccessor.setLongRelease(address + index * LONG_SIZE, v);
+	}
+
+	/**
+	 * Reverses the byte order of count elements in place.
+	 * @see MemoryAccessor#swapOrder64(long, long, long)
+	 * @since 0.8
+	 * */
+	public void swapOrder(long count) {
+		MemoryAccessor.swapOrder64(address, address, count);
+	}
+
+	/**
+	 * Copies len elements of the array, starting at off, to the memory pointed to by this pointer.
+	 * */
+	public void copyFrom(long[] src, int off, int len) {
+		MemoryAccessor.copyFrom(address, src, off, len);
+	}
+
+	public void copyFrom(long[] src) {
+		copyFrom(src, 0, src.length);
+	}
+
+	/**
+	 * Copies len elements from the memory pointed to by this pointer to the array, starting at off.
+	 * */
+	public void copyTo(long[] dst, int off, int len) {
+		MemoryAccessor.copyTo(address, dst, off, len);
+	}
+
+	public void copyTo(long[] dst) {
+		copyTo(dst, 0, dst.length);
+	}
+
 	/**==================== Allocators ============================*/
 
 	public static LongPointer alloc(long size) {
 		return new LongPointer(MemoryAccessor.malloc(size * LONG_SIZE));
 	}
 
+	/**
+	 * Allocates memory for size elements using the allocator.
+	 * The memory is returned to the same allocator by {@link VoidPointer#close()}.
+	 * @since 0.8
+	 * */
+	public static LongPointer alloc(long size, IAllocator allocator) {
+		return new LongPointer(allocator.malloc(size * LONG_SIZE), allocator);
+	}
+
+	/**
+	 * Allocates memory for size elements aligned to alignment bytes.
+	 * @see MemoryAccessor#mallocAligned(long, int)
+	 * @since 0.8
+	 * */
+	public static LongPointer allocAligned(long size, int alignment) {
+		return alloc(size, IAllocator.aligned(alignment));
+	}
+
+	/**
+	 * Creates a pointer to the beginning of the mapped file. {@link VoidPointer#close()} unmaps the file.
+	 * @since 0.8
+	 * */
+	public static LongPointer map(MappedFile file) {
+		return new LongPointer(file.address(), file);
+	}
+
+	/**
+	 * Maps size elements of the file starting at offset bytes.
+	 * {@link VoidPointer#close()} unmaps the file, {@link MappedFile#force()} is available through {@link VoidPointer#allocator()}.
+	 * @see MappedFile#map(Path, long, long, MapMode)
+	 * @since 0.8
+	 * */
+	public static LongPointer map(Path path, long offset, long size, MapMode mode) throws IOException {
+		return map(MappedFile.map(path, offset, size * LONG_SIZE, mode));
+	}
+
 	public static LongPointer asAddress(long address) {
 		return new LongPointer(address);
 	}
@@ -0,0 +1,281 @@
+/*
+ * Copyright (c) 2024, Miracle-Masterpiсe <mrmiraclemasterpiece@gmail.com or https://t.me/MiracleMasterpiece>. All rights reserved.
+ * Use is subject to license terms.
+ * 
+ * 
+ * 
+ * 
+ * 
+ * 
+ * 
+ * 
+ * */
+package nw4j.wrapper.c.pointers;
+
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.DoubleConsumer;
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+import nw4j.helpers.Helpers;
+import nw4j.wrapper.c.allocators.MemoryAccessor;
+
+/**
+ * Primitive streams over ranges of native memory.
+ * <p>
+ * Elements are read directly from native memory, nothing is copied to the heap.
+ * The spliterators split the range in halves, so {@link IntStream#parallel()} divides the work evenly between the threads of the common pool.
+ * Ranges shorter than {@link NativeStreams#MIN_SPLIT} elements are not split further.
+ * The memory must stay valid and must not be modified while the stream runs.
+ *
+ * try(FloatPointer values = FloatPointer.alloc(10_000_000)){
+ * 		...
+ * 		double sum = NativeStreams.floatStream(values, 10_000_000).parallel().sum();
+ * }
+ *
+ * @see IntSlice#stream()
+ *
+ * @since 0.8
+ * @author miracle-masterpiece
+ * */
+public final class NativeStreams {
+
+	/**The smallest number of elements of a range that is split.*/
+	public static final int MIN_SPLIT = 1024;
+
+	private static final int CHARACTERISTICS = Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.NONNULL;
+
+	private NativeStreams() {}
+
+	private static void checkRange(long address, long length) {
+		if (length < 0) {
+			throw new IllegalArgumentException("length < 0");
+		}
+		if (length > 0) {
+			Helpers.addressNonNull(address);
+		}
+	}
+
+	/**
+	 * @return Returns a sequential stream of length ints starting at address.
+	 * */
+	public static IntStream intStream(long address, long length) {
+		checkRange(address, length);
+		return StreamSupport.intStream(new IntRange(address, 0, length), false);
+	}
+
+	public static IntStream intStream(IntPointer pointer, long length) {
+		return intStream(pointer.address, length);
+	}
+
+	/**
+	 * @return Returns a sequential stream of length longs starting at address.
+	 * */
+	public static LongStream longStream(long address, long length) {
+		checkRange(address, length);
+		return StreamSupport.longStream(new LongRange(address, 0, length), false);
+	}
+
+	public static LongStream longStream(LongPointer pointer, long length) {
+		return longStream(pointer.address, length);
+	}
+
+	/**
+	 * @return Returns a sequential stream of length doubles starting at address.
+	 * */
+	public static DoubleStream doubleStream(long address, long length) {
+		checkRange(address, length);
+		return StreamSupport.doubleStream(new DoubleRange(address, 0, length), false);
+	}
+
+	public static DoubleStream doubleStream(DoublePointer pointer, long length) {
+		return doubleStream(pointer.address, length);
+	}
+
+	/**
+	 * @return Returns a sequential stream of length floats starting at address, widened to double.
+	 * */
+	public static DoubleStream floatStream(long address, long length) {
+		checkRange(address, length);
+		return StreamSupport.doubleStream(new FloatRange(address, 0, length), false);
+	}
+
+	public static DoubleStream floatStream(FloatPointer pointer, long length) {
+		return floatStream(pointer.address, length);
+	}
+
+	/**
+	 * A range [index, end) of elements starting at address.
+	 * */
+	private static abstract class Range<S extends Range<S>>{
+		final long address;
+		long index;
+		final long end;
+
+		Range(long address, long index, long end) {
+			this.address 	= address;
+			this.index 		= index;
+			this.end 		= end;
+		}
+
+		abstract S create(long index, long end);
+
+		/**
+		 * Gives the first half of the remaining range to a new spliterator.
+		 * */
+		public final S trySplit() {
+			final long lo = index;
+			final long mid = (lo + end) >>> 1;
+			if (end - lo < MIN_SPLIT || mid <= lo) {
+				return null;
+			}
+			index = mid;
+			return create(lo, mid);
+		}
+
+		public final long estimateSize() {
+			return end - index;
+		}
+
+		public final long getExactSizeIfKnown() {
+			return end - index;
+		}
+
+		public final int characteristics() {
+			return CHARACTERISTICS;
+		}
+	}
+
+	private static final class IntRange extends Range<IntRange> implements Spliterator.OfInt{
+		IntRange(long address, long index, long end) {
+			super(address, index, end);
+		}
+
+		@Override
+		IntRange create(long index, long end) {
+			return new IntRange(address, index, end);
+		}
+
+		@Override
+		public boolean tryAdvance(IntConsumer action) {
+			Objects.requireNonNull(action);
+			if (index < end) {
+				action.accept(MemoryAccessor.getInt(address + (index++ << 2)));
+				return true;
+			}
+			return false;
+		}
+
+		@Override
+		public void forEachRemaining(IntConsumer action) {
+			Objects.requireNonNull(action);
+			final long end = address + (this.end << 2);
+			long a = address + (index << 2);
+			index = this.end;
+			for (; a < end; a += 4) {
+				action.accept(MemoryAccessor.getInt(a));
+			}
+		}
+	}
+
+	private static final class LongRange extends Range<LongRange> implements Spliterator.OfLong{
+		LongRange(long address, long index, long end) {
+			super(address, index, end);
+		}
+
+		@Override
+		LongRange create(long index, long end) {
+			return new LongRange(address, index, end);
+		}
+
+		@Override
+		public boolean tryAdvance(LongConsumer action) {
+			Objects.requireNonNull(action);
+			if (index < end) {
+				action.accept(MemoryAccessor.getLong(address + (index++ << 3)));
+				return true;
+			}
+			return false;
+		}
+
+		@Override
+		public void forEachRemaining(LongConsumer action) {
+			Objects.requireNonNull(action);
+			final long end = address + (this.end << 3);
+			long a = address + (index << 3);
+			index = this.end;
+			for (; a < end; a += 8) {
+				action.accept(MemoryAccessor.getLong(a));
+			}
+		}
+	}
+
+	private static final class DoubleRange extends Range<DoubleRange> implements Spliterator.OfDouble{
+		DoubleRange(long address, long index, long end) {
+			super(address, index, end);
+		}
+
+		@Override
+		DoubleRange create(long index, long end) {
+			return new DoubleRange(address, index, end);
+		}
+
+		@Override
+		public boolean tryAdvance(DoubleConsumer action) {
+			Objects.requireNonNull(action);
+			if (index < end) {
+				action.accept(MemoryAccessor.getDouble(address + (index++ << 3)));
+				return true;
+			}
+			return false;
+		}
+
+		@Override
+		public void forEachRemaining(DoubleConsumer action) {
+			Objects.requireNonNull(action);
+			final long end = address + (this.end << 3);
+			long a = address + (index << 3);
+			index = this.end;
+			for (; a < end; a += 8) {
+				action.accept(MemoryAccessor.getDouble(a));
+			}
+		}
+	}
+
+	private static final class FloatRange extends Range<FloatRange> implements Spliterator.OfDouble{
+		FloatRange(long address, long index, long end) {
+			super(address, index, end);
+		}
+
+		@Override
+		FloatRange create(long index, long end) {
+			return new FloatRange(address, index, end);
+		}
+
+		@Override
+		public boolean tryAdvance(DoubleConsumer action) {
+			Objects.requireNonNull(action);
+			if (index < end) {
+				action.accept(MemoryAccessor.getFloat(address + (index++ << 2)));
+				return true;
+			}
+			return false;
+		}
+
+		@Override
+		public void forEachRemaining(DoubleConsumer action) {
+			Objects.requireNonNull(action);
+			final long end = address + (this.end << 2);
+			long a = address + (index << 2);
+			index = this.end;
+			for (; a < end; a += 4) {
+				action.accept(MemoryAccessor.getFloat(a));
+			}
+		}
+	}
+}
@@ -13,6 +13,8 @@
 package nw4j.wrapper.c.pointers;
 
 import nw4j.helpers.NativeType;
+import nw4j.wrapper.c.allocators.IAllocator;
+import nw4j.wrapper.c.allocators.IMemoryOwner;
 import nw4j.wrapper.c.allocators.MemoryAccessor;
 
 /**
@@ -27,6 +29,10 @@ public final @NativeType("T**")class PtrPointer<T extends VoidPointer> extends V
 		super(address);
 	}
 
+	private PtrPointer(long address, IMemoryOwner allocator) {
+		super(address, allocator);
+	}
+
 	private PtrPointer(VoidPointer voidPtr) {
 		super(voidPtr);
 	}
@@ -52,6 +58,18 @@ public final @NativeType("T**")class PtrPointer<T extends VoidPointer> extends V
 		return ptr;
 	}
 
+	/**
+	 * Points dst to the element with the index without creating a new pointer.
+	 * dst becomes a view of the element, so closing it does not release the memory.
+	 *
+	 * @return Returns dst.
+	 * @since 0.8
+	 * */
+	public T get(long index, T dst) {
+		getPointer(index * sizeof(), dst);
+		return view(dst);
+	}
+
 	public void set(T v) {
 		setPointer(0, v);
 	}
@@ -66,6 +84,24 @@ public final @NativeType("T**")class PtrPointer<T extends VoidPointer> extends V
 		return new PtrPointer<>(MemoryAccessor.malloc(size * POINTER_SIZE));
 	}
 
+	/**
+	 * Allocates memory for size elements using the allocator.
+	 * The memory is returned to the same allocator by {@link VoidPointer#close()}.
+	 * @since 0.8
+	 * */
+	public static <E extends VoidPointer>PtrPointer<E> alloc(long size, IAllocator allocator) {
+		return new PtrPointer<>(allocator.malloc(size * POINTER_SIZE), allocator);
+	}
+
+	/**
+	 * Allocates memory for size elements aligned to alignment bytes.
+	 * @see MemoryAccessor#mallocAligned(long, int)
+	 * @since 0.8
+	 * */
+	public static <E extends VoidPointer>PtrPointer<E> allocAligned(long size, int alignment) {
+		return alloc(size, IAllocator.aligned(alignment));
+	}
+
 	@SuppressWarnings("rawtypes")
 	public static PtrPointer asAddress(long address) {
 		return new PtrPointer<>(address);
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2024, Miracle-Masterpiсe <mrmiraclemasterpiece@gmail.com or https://t.me/MiracleMasterpiece>. All rights reserved.
+ * Use is subject to license terms.
+ * 
+ * 
+ * 
+ * 
+ * 
+ * 
+ * 
+ * 
+ * */
+package nw4j.wrapper.c.pointers;
+
+import nw4j.helpers.NativeType;
+import nw4j.wrapper.c.allocators.MemoryAccessor;
+
+/**
+ * A reusable view of short elements that moves over native memory without creating objects.
+ * <p>
+ * The cursor remembers a base address set by assign and a current address moved by {@link ShortCursor#seek(long)} and {@link ShortCursor#advance(long)}.
+ * It does not own the memory and is not checked against any bounds, like a C pointer.
+ * One cursor can be kept in a field and re-pointed in a loop instead of wrapping every address with {@link ShortPointer#asAddress(long)}.
+ *
+ * ShortCursor c = new ShortCursor();
+ * for (long row : rows) {
+ * 		c.assign(row);
+ * 		for (int i = 0; i < n; ++i, c.advance(1))
+ * 			sum += c.get();
+ * }
+ *
+ * @since 0.8
+ * @author miracle-masterpiece
+ * */
+public final @NativeType("short*") class ShortCursor {
+
+	private long base;
+
+	private long address;
+
+	public ShortCursor() {}
+
+	public ShortCursor(long address) {
+		assign(address);
+	}
+
+	/**
+	 * Points the cursor to address and makes it the base for {@link ShortCursor#seek(long)}.
+	 * */
+	public ShortCursor assign(long address) {
+		this.base 		= address;
+		this.address 	= address;
+		return this;
+	}
+
+	public ShortCursor assign(VoidPointer pointer) {
+		return assign(pointer.address);
+	}
+
+	/**
+	 * Moves the cursor to the element with the index counted from the base.
+	 * */
+	public ShortCursor seek(long index) {
+		address = base + index * VoidPointer.SHORT_SIZE;
+		return this;
+	}
+
+	/**
+	 * Moves the cursor by n elements, n can be negative.
+	 * */
+	public ShortCursor advance(long n) {
+		address += n * VoidPointer.SHORT_SIZE;
+		return this;
+	}
+
+	public short get() {
+		return MemoryAccessor.getShort(address);
+	}
+
+	public void set(short v) {
+		MemoryAccessor.setShort(address, v);
+	}
+
+	/**
+	 * @return Returns the element at offset elements from the current one.
+	 * */
+	public short get(long offset) {
+		return MemoryAccessor.getShort(address + offset * VoidPointer.SHORT_SIZE);
+	}
+
+	public void set(long offset, short v) {
+		MemoryAccessor.setShort(address + offset * VoidPointer.SHORT_SIZE, v);
+	}
+
+	/**
+	 * @return Returns the address of the current element.
+	 * */
+	public long address() {
+		return address;
+	}
+
+	public long base() {
+		return base;
+	}
+
+	/**
+	 * @return Returns the index of the current element counted from the base.
+	 * */
+	public long position() {
+		return (address - base) / VoidPointer.SHORT_SIZE;
+	}
+
+	@Override
+	public String toString() {
+		return "ShortCursor: 0x" + Long.toHexString(address);
+	}
+}
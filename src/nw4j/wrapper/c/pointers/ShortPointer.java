@@ -12,7 +12,14 @@
  * */
 package nw4j.wrapper.c.pointers;
 
+import java.io.IOException;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+
 import nw4j.helpers.NativeType;
+import nw4j.wrapper.c.allocators.IAllocator;
+import nw4j.wrapper.c.allocators.IMemoryOwner;
+import nw4j.wrapper.c.allocators.MappedFile;
 import nw4j.wrapper.c.allocators.MemoryAccessor;
 
 /**
@@ -27,6 +34,10 @@ public final @NativeType("short*")class ShortPointer extends VoidPointer{
 		super(address);
 	}
 
+	private ShortPointer(long address, IMemoryOwner allocator) {
+		super(address, allocator);
+	}
+
 	private ShortPointer(VoidPointer voidPtr) {
 		super(voidPtr);
 	}
@@ -58,12 +69,119 @@ public final @NativeType("short*")class ShortPointer extends VoidPointer{
 		return getShort(0);
 	}
 
+	/**
+	 * Reads the element at index stored in big-endian byte order.
+	 * @since 0.8
+	 * */
+	public short getBE(long index) {
+		return NATIVE_BIG_ENDIAN ? getShort(index * SHORT_SIZE) : Short.reverseBytes(getShort(index * SHORT_SIZE));
+	}
+
+	/**
+	 * Writes the element at index in big-endian byte order.
+	 * @since 0.8
+	 * */
+	public void setBE(long index, short v) {
+		if (NATIVE_BIG_ENDIAN) {
+			setShort(index * SHORT_SIZE, v);
+		}else {
+			setShort(index * SHORT_SIZE, Short.reverseBytes(v));
+		}
+	}
+
+	/**
+	 * Reads the element at index stored in little-endian byte order.
+	 * @since 0.8
+	 * */
+	public short getLE(long index) {
+		return NATIVE_BIG_ENDIAN ? Short.reverseBytes(getShort(index * SHORT_SIZE)) : getShort(index * SHORT_SIZE);
+	}
+
+	/**
+	 * Writes the element at index in little-endian byte order.
+	 * @since 0.8
+	 * */
+	public void setLE(long index, short v) {
+		if (NATIVE_BIG_ENDIAN) {
+			setShort(index * SHORT_SIZE, Short.reverseBytes(v));
+		}else {
+			setShort(index * SHORT_SIZE, v);
+		}
+	}
+
+	/**
+	 * Reverses the byte order of count elements in place.
+	 * @see MemoryAccessor#swapOrder16(long, long, long)
+	 * @since 0.8
+	 * */
+	public void swapOrder(long count) {
+		MemoryAccessor.swapOrder16(address, address, count);
+	}
+
+	/**
+	 * Copies len elements of the array, starting at off, to the memory pointed to by this pointer.
+	 * */
+	public void copyFrom(short[] src, int off, int len) {
+		MemoryAccessor.copyFrom(address, src, off, len);
+	}
+
+	public void copyFrom(short[] src) {
+		copyFrom(src, 0, src.length);
+	}
+
+	/**
+	 * Copies len elements from the memory pointed to by this pointer to the array, starting at off.
+	 * */
+	public void copyTo(short[] dst, int off, int len) {
+		MemoryAccessor.copyTo(address, dst, off, len);
+	}
+
+	public void copyTo(short[] dst) {
+		copyTo(dst, 0, dst.length);
+	}
+
 	/**==================== Allocators ============================*/
 
 	public static ShortPointer alloc(long size) {
 		return new ShortPointer(MemoryAccessor.malloc(size * SHORT_SIZE));
 	}
 
+	/**
+	 * Allocates memory for size elements using the allocator.
+	 * The memory is returned to the same allocator by {@link VoidPointer#close()}.
+	 * @since 0.8
+	 * */
+	public static ShortPointer alloc(long size, IAllocator allocator) {
+		return new ShortPointer(allocator.malloc(size * SHORT_SIZE), allocator);
+	}
+
+	/**
+	 * Allocates memory for size elements aligned to alignment bytes.
+	 * @see MemoryAccessor#mallocAligned(long, int)
+	 * @since 0.8
+	 * */
+	public static ShortPointer allocAligned(long size, int alignment) {
+		return alloc(size, IAllocator.aligned(alignment));
+	}
+
+	/**
+	 * Creates a pointer to the beginning of the mapped file. {@link VoidPointer#close()} unmaps the file.
+	 * @since 0.8
+	 * */
+	public static ShortPointer map(MappedFile file) {
+		return new ShortPointer(file.address(), file);
+	}
+
+	/**
+	 * Maps size elements of the file starting at offset bytes.
+	 * {@link VoidPointer#close()} unmaps the file, {@link MappedFile#force()} is available through {@link VoidPointer#allocator()}.
+	 * @see MappedFile#map(Path, long, long, MapMode)
+	 * @since 0.8
+	 * */
+	public static ShortPointer map(Path path, long offset, long size, MapMode mode) throws IOException {
+		return map(MappedFile.map(path, offset, size * SHORT_SIZE, mode));
+	}
+
 	public static ShortPointer asAddress(long address) {
 		return new ShortPointer(address);
 	}
@@ -16,7 +16,7 @@ import java.lang.ref.Cleaner;
 import java.util.Objects;
 import javax.naming.OperationNotSupportedException;
 
-import nw4j.wrapper.c.allocators.MemoryAccessor;
+import nw4j.wrapper.c.allocators.IMemoryOwner;
 
 /**
  * The current class is a "smart pointer" that stores a reference to a pointer of type {@link VoidPointer}.
@@ -39,7 +39,8 @@ public final class SmartPointer<P extends VoidPointer> extends VoidPointer {
 		super(NULL);
 		this.pointer = Objects.<P>requireNonNull(pointer);
 		this.address = pointer.address;
-		cleaner.register(this, new PointerCleaner<>(pointer.address));
+		this.allocator = pointer.allocator;
+		cleaner.register(this, new PointerCleaner<>(pointer.address, pointer.allocator));
 	}
 
 	/**
@@ -53,15 +54,17 @@ public final class SmartPointer<P extends VoidPointer> extends VoidPointer {
 	private static final class PointerCleaner<P extends VoidPointer> implements Runnable {
 
 		final long ptr;
+		final IMemoryOwner allocator;
 		
-		PointerCleaner(long ptr) {
+		PointerCleaner(long ptr, IMemoryOwner allocator) {
 			this.ptr = ptr;
+			this.allocator = allocator;
 		}
 
 		@Override
 		public void run() {
 			try {
-				MemoryAccessor.free(ptr);
+				allocator.free(ptr);
 			}catch(Exception ignore) {}
 		}
 	}
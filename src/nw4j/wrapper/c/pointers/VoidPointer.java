@@ -13,8 +13,11 @@
 package nw4j.wrapper.c.pointers;
 
 import java.io.Closeable;
+import java.nio.ByteOrder;
 
 import nw4j.helpers.NativeType;
+import nw4j.wrapper.c.allocators.IAllocator;
+import nw4j.wrapper.c.allocators.IMemoryOwner;
 import nw4j.wrapper.c.allocators.MemoryAccessor;
 
 /**
@@ -54,6 +57,12 @@ public abstract @NativeType("void*") class VoidPointer implements Closeable, Aut
 	BOOLEAN_SIZE 	= 1,
 	POINTER_SIZE 	= 8;
 
+	/**
+	 * True if the platform stores multi-byte values in big-endian order.
+	 * @since 0.8
+	 * */
+	protected static final boolean NATIVE_BIG_ENDIAN = ByteOrder.nativeOrder() == ByteOrder.BIG_ENDIAN;
+
 	/**null pointer value*/
 	public static final byte 
 	nullptr = 0, 
@@ -80,16 +89,29 @@ public abstract @NativeType("void*") class VoidPointer implements Closeable, Aut
 	/**Raw pointer value*/
 	protected long address;
 
+	/**
+	 * The allocator to which the memory is returned by {@link VoidPointer#close()}.
+	 * @since 0.8
+	 * */
+	protected IMemoryOwner allocator;
+
 	protected VoidPointer(VoidPointer voidPtr) {
-		this.address = voidPtr.address;
+		this.address 	= voidPtr.address;
+		this.allocator 	= voidPtr.allocator;
 	}
 
 	protected VoidPointer(long address) {
-		this.address = address;
+		this(address, IAllocator.DEFAULT);
+	}
+
+	protected VoidPointer(long address, IMemoryOwner allocator) {
+		this.address 	= address;
+		this.allocator 	= allocator;
 	}
 
 	protected VoidPointer() {
-		this.address = MemoryAccessor.malloc(sizeof());
+		this.allocator 	= IAllocator.DEFAULT;
+		this.address 	= IAllocator.DEFAULT.malloc(sizeof());
 	}
 
 	/**
@@ -124,9 +146,18 @@ public abstract @NativeType("void*") class VoidPointer implements Closeable, Aut
 	/**
 	 * Frees the allocated memory pointed to by the raw address.
 	 * @see {@link VoidPointer#address}
+	 * @see {@link VoidPointer#allocator()}
 	 * */
 	@Override public void close() {
-		MemoryAccessor.free(address);
+		allocator.free(address);
+	}
+
+	/**
+	 * @return Returns the allocator that frees the memory of this pointer.
+	 * @since 0.8
+	 * */
+	public final IMemoryOwner allocator() {
+		return allocator;
 	}
 
 	/**
@@ -290,6 +321,7 @@ public abstract @NativeType("void*") class VoidPointer implements Closeable, Aut
 	 *	 		System.out.print(values.get(i) + " ");
 	 * 		}//5 8 10 15
 	 * }//auto free resources
+	 * The new pointer takes the allocator of _void, so closing either pointer returns the memory to the same allocator.
 	 * @see InstanceFabric#_new(long)
 	 *
 	 * @param c 		Factory method to create a new object
@@ -298,7 +330,47 @@ public abstract @NativeType("void*") class VoidPointer implements Closeable, Aut
 	 * @return 			Pointer with the desired type
 	 * */
 	public static <P extends VoidPointer> P dynamic_cast(final IInstanceFabric<P> c, final VoidPointer _void){
-		return c._new(_void.address);
+		return bind(c._new(_void.address), _void.address, _void.allocator);
+	}
+
+	/**
+	 * Points dst to the address of _void without creating a new pointer.
+	 * dst also takes the allocator of _void, so closing either pointer returns the memory to the same allocator.
+	 * Not an overload of dynamic_cast, which would make dynamic_cast(BytePointer::asAddress, _void) ambiguous.
+	 *
+	 * @param dst 		A reusable pointer of the desired type
+	 * @param _void 	A pointer to be cast to another pointer
+	 *
+	 * @return 			Returns dst
+	 * @since 0.8
+	 * */
+	public static <P extends VoidPointer> P dynamic_cast_into(final P dst, final VoidPointer _void){
+		return bind(dst, _void.address, _void.allocator);
+	}
+
+	/**
+	 * Points dst to the address and sets the allocator to which {@link VoidPointer#close()} returns the memory.
+	 * Lets an allocator own a pointer created by an {@link IInstanceFabric}.
+	 *
+	 * @return 			Returns dst
+	 * @since 0.8
+	 * */
+	public static <P extends VoidPointer> P bind(final P dst, final long address, final IMemoryOwner allocator){
+		dst.address 	= address;
+		dst.allocator 	= allocator;
+		return dst;
+	}
+
+	/**
+	 * Makes the pointer a view that does not own its memory, so {@link VoidPointer#close()} does not release it.
+	 *
+	 * @return 			Returns pointer
+	 * @see IMemoryOwner#NONE
+	 * @since 0.8
+	 * */
+	public static <P extends VoidPointer> P view(final P pointer){
+		pointer.allocator = IMemoryOwner.NONE;
+		return pointer;
 	}
 
 	/**
@@ -0,0 +1,685 @@
+/*
+ * Copyright (c) 2024, Miracle-Masterpiсe <mrmiraclemasterpiece@gmail.com or https://t.me/MiracleMasterpiece>. All rights reserved.
+ * Use is subject to license terms.
+ * 
+ * 
+ * 
+ * 
+ * 
+ * 
+ * 
+ * 
+ * */
+package nw4j.wrapper.c.structs;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.LongConsumer;
+
+import nw4j.helpers.Helpers;
+import nw4j.helpers.NativeType;
+import nw4j.wrapper.c.allocators.IAllocator;
+import nw4j.wrapper.c.allocators.MemoryAccessor;
+
+/**
+ * Layout of a C struct with offsets, padding and alignment computed from the native type sizes of the platform.
+ * <p>
+ * Fields are added in declaration order with a {@link Builder}. Each add method returns a typed field that reads and writes
+ * the field at a fixed offset from the address of a struct, so an access is a single load or store with no lookup by name.
+ * Fields are records, whose final components the JIT treats as constants when the field is held in a static final variable,
+ * so the offset is folded into the generated code.
+ * <p>
+ * Every field is aligned to the size of its type (or to the pack value of the builder, whichever is smaller),
+ * and the size of the struct is rounded up to its alignment, as C compilers do.
+ * <code>long</code> and pointer fields take their size from {@link MemoryAccessor#NATIVE_SIZEOF_LONG} and {@link MemoryAccessor#NATIVE_SIZEOF_POINTER}.
+ *
+ * //struct Particle { float x, y; int flags; void* user; };
+ * static final StructLayout.FloatField 	X, Y;
+ * static final StructLayout.IntField 		FLAGS;
+ * static final StructLayout.PointerField 	USER;
+ * static final StructLayout PARTICLE;
+ * static {
+ * 		StructLayout.Builder b = StructLayout.builder("Particle");
+ * 		X 		= b.addFloat("x");
+ * 		Y 		= b.addFloat("y");
+ * 		FLAGS 	= b.addInt("flags");
+ * 		USER 	= b.addPointer("user");
+ * 		PARTICLE = b.build();
+ * }
+ * ...
+ * long particles = PARTICLE.allocate(1000, IAllocator.DEFAULT);
+ * PARTICLE.forEach(particles, 1000, p -> X.set(p, X.get(p) + 1));
+ *
+ * @since 0.8
+ * @author miracle-masterpiece
+ * */
+public final class StructLayout {
+
+	private final String name;
+
+	private final long size;
+
+	private final int alignment;
+
+	private final List<IField> fields;
+
+	private final Map<String, IField> byName;
+
+	private StructLayout(String name, long size, int alignment, List<IField> fields) {
+		this.name 		= name;
+		this.size 		= size;
+		this.alignment 	= alignment;
+		this.fields 	= Collections.unmodifiableList(fields);
+		final LinkedHashMap<String, IField> map = new LinkedHashMap<>();
+		for (IField field : fields) {
+			map.put(field.name(), field);
+		}
+		this.byName = Collections.unmodifiableMap(map);
+	}
+
+	public static Builder builder(String name) {
+		return new Builder(name, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Creates a builder that limits the alignment of fields to pack bytes, like <code>#pragma pack(pack)</code>.
+	 * */
+	public static Builder builder(String name, int pack) {
+		if (Integer.bitCount(pack) != 1) {
+			throw new IllegalArgumentException("Pack is not a power of two: " + pack);
+		}
+		return new Builder(name, pack);
+	}
+
+	public String name() {
+		return name;
+	}
+
+	/**
+	 * @return Returns sizeof of the struct, including the tail padding, which is also the stride of an array of structs.
+	 * */
+	public long size() {
+		return size;
+	}
+
+	public int alignment() {
+		return alignment;
+	}
+
+	/**
+	 * @return Returns the fields in declaration order.
+	 * */
+	public List<IField> fields() {
+		return fields;
+	}
+
+	/**
+	 * @return Returns the field with the name, or null.
+	 * */
+	public IField field(String name) {
+		return byName.get(name);
+	}
+
+	/**
+	 * @return Returns the offset of the field with the name.
+	 * */
+	public long offsetOf(String name) {
+		final IField field = byName.get(name);
+		if (field == null) {
+			throw new IllegalArgumentException("Struct " + this.name + " has no field " + name);
+		}
+		return field.offset();
+	}
+
+	/**
+	 * @return Returns the address of the struct with the index in an array of structs.
+	 * */
+	public @NativeType("void*") long elementAddress(@NativeType("void*") long base, long index) {
+		return base + index * size;
+	}
+
+	/**
+	 * Allocates a zeroed array of count structs.
+	 * */
+	public @NativeType("void*") long allocate(long count, IAllocator allocator) {
+		if (count > Integer.MAX_VALUE || size > Integer.MAX_VALUE) {
+			return Helpers.addressNonNull(allocator.calloc(count * size, 1));
+		}
+		return Helpers.addressNonNull(allocator.calloc(count, (int)size));
+	}
+
+	/**
+	 * Calls the action with the address of each of count structs starting at base.
+	 * */
+	public void forEach(@NativeType("void*") long base, long count, LongConsumer action) {
+		for (long address = base, end = base + count * size; address < end; address += size) {
+			action.accept(address);
+		}
+	}
+
+	/**
+	 * Copies count structs from src to dst.
+	 * */
+	public void copy(@NativeType("void*") long src, @NativeType("void*") long dst, long count) {
+		MemoryAccessor.memcopy(src, dst, count * size);
+	}
+
+	/**
+	 * @return Returns the layout in the form of a C declaration with offsets and padding.
+	 * */
+	@Override
+	public String toString() {
+		final StringBuilder sb = new StringBuilder();
+		sb.append("struct ").append(name).append(" { //size ").append(size).append(", align ").append(alignment).append('\n');
+		long end = 0;
+		for (IField field : fields) {
+			if (field.offset() > end) {
+				sb.append("\t//padding ").append(field.offset() - end).append('\n');
+			}
+			sb.append('\t').append(field.ctype()).append(' ').append(field.name());
+			if (field.count() != 1) {
+				sb.append('[').append(field.count()).append(']');
+			}
+			sb.append("; //offset ").append(field.offset()).append('\n');
+			end = field.offset() + field.byteSize();
+		}
+		if (size > end) {
+			sb.append("\t//padding ").append(size - end).append('\n');
+		}
+		return sb.append('}').toString();
+	}
+
+	/**
+	 * Computes the offsets of fields added in declaration order.
+	 * */
+	public static final class Builder{
+		private final String name;
+		private final int pack;
+		private final ArrayList<IField> fields = new ArrayList<>();
+		private long size;
+		private int alignment = 1;
+		private boolean built;
+
+		private Builder(String name, int pack) {
+			this.name = Objects.requireNonNull(name);
+			this.pack = pack;
+		}
+
+		/**
+		 * Reserves count elements of elementSize bytes aligned to align.
+		 *
+		 * @return Returns the offset of the first element.
+		 * */
+		private long place(String name, long elementSize, int align, long count) {
+			if (built) {
+				throw new IllegalStateException("Struct " + this.name + " is already built!");
+			}
+			if (count <= 0) {
+				throw new IllegalArgumentException("count <= 0");
+			}
+			for (IField field : fields) {
+				if (field.name().equals(name)) {
+					throw new IllegalArgumentException("Duplicate field " + name + " in struct " + this.name);
+				}
+			}
+			align 		= Math.min(align, pack);
+			alignment 	= Math.max(alignment, align);
+			final long offset = (size + align - 1) & -align;
+			size = offset + elementSize * count;
+			return offset;
+		}
+
+		private <F extends IField> F add(F field) {
+			fields.add(field);
+			return field;
+		}
+
+		private static int checkSize(int nativeSize, int javaSize, String ctype) {
+			if (nativeSize != javaSize) {
+				throw new IllegalStateException("sizeof(" + ctype + ") is " + nativeSize + " on this platform, expected " + javaSize);
+			}
+			return javaSize;
+		}
+
+		public ByteField addByte(String name) {
+			return addByte(name, 1);
+		}
+
+		/**
+		 * Adds <code>char name[count]</code>.
+		 * */
+		public ByteField addByte(String name, long count) {
+			return add(new ByteField(name, place(name, 1, 1, count), count));
+		}
+
+		public CharField addChar(String name) {
+			return addChar(name, 1);
+		}
+
+		/**
+		 * Adds <code>uint16_t name[count]</code>.
+		 * */
+		public CharField addChar(String name, long count) {
+			return add(new CharField(name, place(name, 2, 2, count), count));
+		}
+
+		public ShortField addShort(String name) {
+			return addShort(name, 1);
+		}
+
+		public ShortField addShort(String name, long count) {
+			final int size = checkSize(MemoryAccessor.NATIVE_SIZEOF_SHORT, 2, "short");
+			return add(new ShortField(name, place(name, size, size, count), count));
+		}
+
+		public IntField addInt(String name) {
+			return addInt(name, 1);
+		}
+
+		public IntField addInt(String name, long count) {
+			final int size = checkSize(MemoryAccessor.NATIVE_SIZEOF_INT, 4, "int");
+			return add(new IntField(name, place(name, size, size, count), count));
+		}
+
+		public LongField addLongLong(String name) {
+			return addLongLong(name, 1);
+		}
+
+		/**
+		 * Adds <code>long long name[count]</code>, which is 8 bytes on all supported platforms.
+		 * */
+		public LongField addLongLong(String name, long count) {
+			final int size = checkSize(MemoryAccessor.NATIVE_SIZEOF_LONG_LONG, 8, "long long");
+			return add(new LongField(name, place(name, size, size, count), count));
+		}
+
+		public CLongField addCLong(String name) {
+			return addCLong(name, 1);
+		}
+
+		/**
+		 * Adds <code>long name[count]</code>, which is 4 bytes on Windows and 8 bytes on 64-bit Unix.
+		 * */
+		public CLongField addCLong(String name, long count) {
+			final int size = MemoryAccessor.NATIVE_SIZEOF_LONG;
+			return add(new CLongField(name, place(name, size, size, count), count, size));
+		}
+
+		public FloatField addFloat(String name) {
+			return addFloat(name, 1);
+		}
+
+		public FloatField addFloat(String name, long count) {
+			final int size = checkSize(MemoryAccessor.NATIVE_SIZEOF_FLOAT, 4, "float");
+			return add(new FloatField(name, place(name, size, size, count), count));
+		}
+
+		public DoubleField addDouble(String name) {
+			return addDouble(name, 1);
+		}
+
+		public DoubleField addDouble(String name, long count) {
+			final int size = checkSize(MemoryAccessor.NATIVE_SIZEOF_DOUBLE, 8, "double");
+			return add(new DoubleField(name, place(name, size, size, count), count));
+		}
+
+		public PointerField addPointer(String name) {
+			return addPointer(name, 1);
+		}
+
+		public PointerField addPointer(String name, long count) {
+			final int size = MemoryAccessor.NATIVE_SIZEOF_POINTER;
+			return add(new PointerField(name, place(name, size, size, count), count, size));
+		}
+
+		public StructField addStruct(String name, StructLayout layout) {
+			return addStruct(name, layout, 1);
+		}
+
+		/**
+		 * Adds a nested struct or an inline array of structs.
+		 * */
+		public StructField addStruct(String name, StructLayout layout, long count) {
+			return add(new StructField(name, place(name, layout.size(), layout.alignment(), count), count, layout));
+		}
+
+		/**
+		 * Builds the layout. The builder cannot be used after that.
+		 * */
+		public StructLayout build() {
+			if (built) {
+				throw new IllegalStateException("Struct " + name + " is already built!");
+			}
+			built = true;
+			return new StructLayout(name, (size + alignment - 1) & -alignment, alignment, new ArrayList<>(fields));
+		}
+	}
+
+	/**
+	 * A field of a struct. count is 1 for a scalar field and the length for an inline array.
+	 * */
+	public static sealed interface IField permits ByteField, CharField, ShortField, IntField, LongField, CLongField, FloatField, DoubleField, PointerField, StructField{
+		String name();
+		long offset();
+		long count();
+
+		/**
+		 * @return Returns the size of one element in bytes.
+		 * */
+		long elementSize();
+
+		/**
+		 * @return Returns the C type of an element.
+		 * */
+		String ctype();
+
+		default long byteSize() {
+			return elementSize() * count();
+		}
+
+		/**
+		 * @return Returns the address of the field in the struct at structAddress.
+		 * */
+		default @NativeType("void*") long address(@NativeType("void*") long structAddress) {
+			return structAddress + offset();
+		}
+	}
+
+	public static record ByteField(String name, long offset, long count) implements IField{
+		public long elementSize() {return 1;}
+		public String ctype() {return "char";}
+
+		public byte get(long structAddress) {
+			return MemoryAccessor.getByte(structAddress + offset);
+		}
+
+		public void set(long structAddress, byte value) {
+			MemoryAccessor.setByte(structAddress + offset, value);
+		}
+
+		public byte get(long structAddress, long index) {
+			if (Helpers.ENABLE_CHECKS) {
+				Objects.checkIndex(index, count);
+			}
+			return MemoryAccessor.getByte(structAddress + offset + index);
+		}
+
+		public void set(long structAddress, long index, byte value) {
+			if (Helpers.ENABLE_CHECKS) {
+				Objects.checkIndex(index, count);
+			}
+			MemoryAccessor.setByte(structAddress + offset + index, value);
+		}
+	}
+
+	public static record CharField(String name, long offset, long count) implements IField{
+		public long elementSize() {return 2;}
+		public String ctype() {return "uint16_t";}
+
+		public char get(long structAddress) {
+			return MemoryAccessor.getChar(structAddress + offset);
+		}
+
+		public void set(long structAddress, char value) {
+			MemoryAccessor.setChar(structAddress + offset, value);
+		}
+
+		public char get(long structAddress, long index) {
+			if (Helpers.ENABLE_CHECKS) {
+				Objects.checkIndex(index, count);
+			}
+			return MemoryAccessor.getChar(structAddress + offset + (index << 1));
+		}
+
+		public void set(long structAddress, long index, char value) {
+			if (Helpers.ENABLE_CHECKS) {
+				Objects.checkIndex(index, count);
+			}
+			MemoryAccessor.setChar(structAddress + offset + (index << 1), value);
+		}
+	}
+
+	public static record ShortField(String name, long offset, long count) implements IField{
+		public long elementSize() {return 2;}
+		public String ctype() {return "short";}
+
+		public short get(long structAddress) {
+			return MemoryAccessor.getShort(structAddress + offset);
+		}
+
+		public void set(long structAddress, short value) {
+			MemoryAccessor.setShort(structAddress + offset, value);
+		}
+
+		public short get(long structAddress, long index) {
+			if (Helpers.ENABLE_CHECKS) {
+				Objects.checkIndex(index, count);
+			}
+			return MemoryAccessor.getShort(structAddress + offset + (index << 1));
+		}
+
+		public void set(long structAddress, long index, short value) {
+			if (Helpers.ENABLE_CHECKS) {
+				Objects.checkIndex(index, count);
+			}
+			MemoryAccessor.setShort(structAddress + offset + (index << 1), value);
+		}
+	}
+
+	public static record IntField(String name, long offset, long count) implements IField{
+		public long elementSize() {return 4;}
+		public String ctype() {return "int";}
+
+		public int get(long structAddress) {
+			return MemoryAccessor.getInt(structAddress + offset);
+		}
+
+		public void set(long structAddress, int value) {
+			MemoryAccessor.setInt(structAddress + offset, value);
+		}
+
+		public int get(long structAddress, long index) {
+			if (Helpers.ENABLE_CHECKS) {
+				Objects.checkIndex(index, count);
+			}
+			return MemoryAccessor.getInt(structAddress + offset + (index << 2));
+		}
+
+		public void set(long structAddress, long index, int value) {
+			if (Helpers.ENABLE_CHECKS) {
+				Objects.checkIndex(index, count);
+			}
+			MemoryAccessor.setInt(structAddress + offset + (index << 2), value);
+		}
+	}
+
+	public static record LongField(String name, long offset, long count) implements IField{
+		public long elementSize() {return 8;}
+		public String ctype() {return "long long";}
+
+		public long get(long structAddress) {
+			return MemoryAccessor.getLong(structAddress + offset);
+		}
+
+		public void set(long structAddress, long value) {
+			MemoryAccessor.setLong(structAddress + offset, value);
+		}
+
+		public long get(long structAddress, long index) {
+			if (Helpers.ENABLE_CHECKS) {
+				Objects.checkIndex(index, count);
+			}
+			return MemoryAccessor.getLong(structAddress + offset + (index << 3));
+		}
+
+		public void set(long structAddress, long index, long value) {
+			if (Helpers.ENABLE_CHECKS) {
+				Objects.checkIndex(index, count);
+			}
+			MemoryAccessor.setLong(structAddress + offset + (index << 3), value);
+		}
+	}
+
+	/**
+	 * C <code>long</code>, 4 or 8 bytes depending on the platform. 4-byte values are sign-extended.
+	 * */
+	public static record CLongField(String name, long offset, long count, int size) implements IField{
+		public long elementSize() {return size;}
+		public String ctype() {return "long";}
+
+		public long get(long structAddress) {
+			return get(structAddress, 0);
+		}
+
+		public void set(long structAddress, long value) {
+			set(structAddress, 0, value);
+		}
+
+		public long get(long structAddress, long index) {
+			if (Helpers.ENABLE_CHECKS) {
+				Objects.checkIndex(index, count);
+			}
+			if (size == 8) {
+				return MemoryAccessor.getLong(structAddress + offset + (index << 3));
+			} else {
+				return MemoryAccessor.getInt(structAddress + offset + (index << 2));
+			}
+		}
+
+		/**
+		 * On platforms with a 4-byte long the value is truncated to int.
+		 * */
+		public void set(long structAddress, long index, long value) {
+			if (Helpers.ENABLE_CHECKS) {
+				Objects.checkIndex(index, count);
+			}
+			if (size == 8) {
+				MemoryAccessor.setLong(structAddress + offset + (index << 3), value);
+			} else {
+				MemoryAccessor.setInt(structAddress + offset + (index << 2), (int)value);
+			}
+		}
+	}
+
+	public static record FloatField(String name, long offset, long count) implements IField{
+		public long elementSize() {return 4;}
+		public String ctype() {return "float";}
+
+		public float get(long structAddress) {
+			return MemoryAccessor.getFloat(structAddress + offset);
+		}
+
+		public void set(long structAddress, float value) {
+			MemoryAccessor.setFloat(structAddress + offset, value);
+		}
+
+		public float get(long structAddress, long index) {
+			if (Helpers.ENABLE_CHECKS) {
+				Objects.checkIndex(index, count);
+			}
+			return MemoryAccessor.getFloat(structAddress + offset + (index << 2));
+		}
+
+		public void set(long structAddress, long index, float value) {
+			if (Helpers.ENABLE_CHECKS) {
+				Objects.checkIndex(index, count);
+			}
+			MemoryAccessor.setFloat(structAddress + offset + (index << 2), value);
+		}
+	}
+
+	public static record DoubleField(String name, long offset, long count) implements IField{
+		public long elementSize() {return 8;}
+		public String ctype() {return "double";}
+
+		public double get(long structAddress) {
+			return MemoryAccessor.getDouble(structAddress + offset);
+		}
+
+		public void set(long structAddress, double value) {
+			MemoryAccessor.setDouble(structAddress + offset, value);
+		}
+
+		public double get(long structAddress, long index) {
+			if (Helpers.ENABLE_CHECKS) {
+				Objects.checkIndex(index, count);
+			}
+			return MemoryAccessor.getDouble(structAddress + offset + (index << 3));
+		}
+
+		public void set(long structAddress, long index, double value) {
+			if (Helpers.ENABLE_CHECKS) {
+				Objects.checkIndex(index, count);
+			}
+			MemoryAccessor.setDouble(structAddress + offset + (index << 3), value);
+		}
+	}
+
+	/**
+	 * A pointer of {@link MemoryAccessor#NATIVE_SIZEOF_POINTER} bytes. 4-byte pointers are zero-extended.
+	 * */
+	public static record PointerField(String name, long offset, long count, int size) implements IField{
+		public long elementSize() {return size;}
+		public String ctype() {return "void*";}
+
+		public @NativeType("void*") long get(long structAddress) {
+			return get(structAddress, 0);
+		}
+
+		public void set(long structAddress, @NativeType("void*") long value) {
+			set(structAddress, 0, value);
+		}
+
+		public @NativeType("void*") long get(long structAddress, long index) {
+			if (Helpers.ENABLE_CHECKS) {
+				Objects.checkIndex(index, count);
+			}
+			if (size == 8) {
+				return MemoryAccessor.getLong(structAddress + offset + (index << 3));
+			} else {
+				return MemoryAccessor.getInt(structAddress + offset + (index << 2)) & 0xFFFFFFFFL;
+			}
+		}
+
+		public void set(long structAddress, long index, @NativeType("void*") long value) {
+			if (Helpers.ENABLE_CHECKS) {
+				Objects.checkIndex(index, count);
+			}
+			if (size == 8) {
+				MemoryAccessor.setLong(structAddress + offset + (index << 3), value);
+			} else {
+				MemoryAccessor.setInt(structAddress + offset + (index << 2), (int)value);
+			}
+		}
+	}
+
+	/**
+	 * A nested struct. Its fields are accessed with the fields of its layout at the address returned by {@link StructField#get(long)}.
+	 * */
+	public static record StructField(String name, long offset, long count, StructLayout layout) implements IField{
+		public long elementSize() {return layout.size();}
+		public String ctype() {return "struct " + layout.name();}
+
+		public @NativeType("void*") long get(long structAddress) {
+			return structAddress + offset;
+		}
+
+		public @NativeType("void*") long get(long structAddress, long index) {
+			if (Helpers.ENABLE_CHECKS) {
+				Objects.checkIndex(index, count);
+			}
+			return structAddress + offset + index * layout.size();
+		}
+
+		/**
+		 * Copies a struct from srcAddress into the field.
+		 * */
+		public void set(long structAddress, @NativeType("void*") long srcAddress) {
+			MemoryAccessor.memcopy(srcAddress, structAddress + offset, layout.size());
+		}
+	}
+}
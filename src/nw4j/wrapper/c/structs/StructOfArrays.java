@@ -0,0 +1,273 @@
+/*
+ * Copyright (c) 2024, Miracle-Masterpiсe <mrmiraclemasterpiece@gmail.com or https://t.me/MiracleMasterpiece>. All rights reserved.
+ * Use is subject to license terms.
+ * 
+ * 
+ * 
+ * 
+ * 
+ * 
+ * 
+ * 
+ * */
+package nw4j.wrapper.c.structs;
+
+import java.io.Closeable;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+
+import nw4j.helpers.Helpers;
+import nw4j.helpers.NativeType;
+import nw4j.wrapper.c.allocators.IAllocator;
+import nw4j.wrapper.c.allocators.MemoryAccessor;
+import nw4j.wrapper.c.pointers.BytePointer;
+import nw4j.wrapper.c.pointers.CharPointer;
+import nw4j.wrapper.c.pointers.DoublePointer;
+import nw4j.wrapper.c.pointers.FloatPointer;
+import nw4j.wrapper.c.pointers.IntPointer;
+import nw4j.wrapper.c.pointers.LongPointer;
+import nw4j.wrapper.c.pointers.ShortPointer;
+import nw4j.wrapper.c.pointers.VoidPointer;
+
+/**
+ * Rows of a {@link StructLayout} stored column by column: the values of each field of all rows are contiguous.
+ * <p>
+ * A pass that reads one or two fields touches only their columns, and a column is a plain array that can be processed with SIMD.
+ * All columns are placed in one block, each starting at a multiple of {@link MemoryAccessor#CACHE_LINE_SIZE} from its start.
+ * The default allocator aligns the block to a cache line, so are the columns.
+ * Field i of row r is at <code>columnAddress(field) + r * field.byteSize()</code>, so an inline array field of count elements
+ * is a column of rows * count elements.
+ * <p>
+ * Rows can be converted from and to the array-of-structs layout with {@link StructOfArrays#fromAoS(long, long, long)}
+ * and {@link StructOfArrays#toAoS(long, long, long)}.
+ *
+ * try(StructOfArrays particles = new StructOfArrays(PARTICLE, 100_000)){
+ * 		FloatPointer x = particles.column(X);
+ * 		FloatPointer y = particles.column(Y);
+ * 		for (int i = 0; i < particles.rows(); ++i)
+ * 			x.set(i, x.get(i) + y.get(i));
+ * }
+ *
+ * @see StructLayout
+ *
+ * @since 0.8
+ * @author miracle-masterpiece
+ * */
+public final class StructOfArrays implements AutoCloseable, Closeable{
+
+	private final StructLayout layout;
+
+	private final long rows;
+
+	private final List<StructLayout.IField> fields;
+
+	/**Addresses of the columns in the order of {@link StructLayout#fields()}.*/
+	private final long[] columns;
+
+	private final HashMap<StructLayout.IField, Integer> columnIndices = new HashMap<>();
+
+	private final IAllocator allocator;
+
+	private @NativeType("void*") long address;
+
+	/**
+	 * Allocates zeroed columns for rows rows of the layout, aligned to a cache line.
+	 * */
+	public StructOfArrays(StructLayout layout, long rows) {
+		this(layout, rows, IAllocator.aligned(MemoryAccessor.CACHE_LINE_SIZE));
+	}
+
+	/**
+	 * Allocates zeroed columns for rows rows of the layout with {@link IAllocator#calloc(long, int)}.
+	 * @param allocator The allocator of the columns, see {@link IAllocator#aligned(int)}.
+	 * */
+	public StructOfArrays(StructLayout layout, long rows, IAllocator allocator) {
+		if (rows < 0) {
+			throw new IllegalArgumentException("rows < 0");
+		}
+		this.layout 	= layout;
+		this.rows 		= rows;
+		this.fields 	= layout.fields();
+		this.columns 	= new long[fields.size()];
+		this.allocator 	= allocator;
+
+		final long[] offsets = new long[fields.size()];
+		long total = 0;
+		for (int i = 0; i < fields.size(); ++i) {
+			offsets[i] 	= total;
+			total 		= (total + fields.get(i).byteSize() * rows + MemoryAccessor.CACHE_LINE_SIZE - 1) & -MemoryAccessor.CACHE_LINE_SIZE;
+			columnIndices.put(fields.get(i), i);
+		}
+		total = Math.max(total, 1);
+		address = Helpers.addressNonNull(allocator.calloc(total, 1));
+		for (int i = 0; i < columns.length; ++i) {
+			columns[i] = address + offsets[i];
+		}
+	}
+
+	public StructLayout layout() {
+		return layout;
+	}
+
+	public long rows() {
+		return rows;
+	}
+
+	private int columnIndex(StructLayout.IField field) {
+		final Integer index = columnIndices.get(field);
+		if (index == null) {
+			throw new IllegalArgumentException("Field " + field.name() + " does not belong to struct " + layout.name());
+		}
+		return index;
+	}
+
+	/**
+	 * @return Returns the address of the first value of the column of the field.
+	 * */
+	public @NativeType("void*") long columnAddress(StructLayout.IField field) {
+		return columns[columnIndex(field)];
+	}
+
+	/**
+	 * @return Returns the address of the value of the field in the row.
+	 * */
+	public @NativeType("void*") long address(StructLayout.IField field, long row) {
+		if (Helpers.ENABLE_CHECKS) {
+			if (row < 0 || row >= rows) {
+				throw new IndexOutOfBoundsException(row);
+			}
+		}
+		return columns[columnIndex(field)] + row * field.byteSize();
+	}
+
+	/*
+	 * Typed views of columns. The pointers do not own the memory, closing them does nothing. They are valid until the container is closed.
+	 */
+
+	public BytePointer column(StructLayout.ByteField field) {
+		return VoidPointer.view(BytePointer.asAddress(columnAddress(field)));
+	}
+
+	public CharPointer column(StructLayout.CharField field) {
+		return VoidPointer.view(CharPointer.asAddress(columnAddress(field)));
+	}
+
+	public ShortPointer column(StructLayout.ShortField field) {
+		return VoidPointer.view(ShortPointer.asAddress(columnAddress(field)));
+	}
+
+	public IntPointer column(StructLayout.IntField field) {
+		return VoidPointer.view(IntPointer.asAddress(columnAddress(field)));
+	}
+
+	public LongPointer column(StructLayout.LongField field) {
+		return VoidPointer.view(LongPointer.asAddress(columnAddress(field)));
+	}
+
+	public FloatPointer column(StructLayout.FloatField field) {
+		return VoidPointer.view(FloatPointer.asAddress(columnAddress(field)));
+	}
+
+	public DoublePointer column(StructLayout.DoubleField field) {
+		return VoidPointer.view(DoublePointer.asAddress(columnAddress(field)));
+	}
+
+	/**
+	 * Copies count structs from the array of structs at aos into the rows starting at row.
+	 * */
+	public void fromAoS(@NativeType("void*") long aos, long row, long count) {
+		checkRows(row, count);
+		final long stride = layout.size();
+		for (int i = 0; i < columns.length; ++i) {
+			final StructLayout.IField field = fields.get(i);
+			final long n = field.byteSize();
+			gather(aos + field.offset(), stride, columns[i] + row * n, n, count);
+		}
+	}
+
+	/**
+	 * Copies count rows starting at row into the array of structs at aos. The padding of the structs is not written.
+	 * */
+	public void toAoS(@NativeType("void*") long aos, long row, long count) {
+		checkRows(row, count);
+		final long stride = layout.size();
+		for (int i = 0; i < columns.length; ++i) {
+			final StructLayout.IField field = fields.get(i);
+			final long n = field.byteSize();
+			scatter(columns[i] + row * n, n, aos + field.offset(), stride, count);
+		}
+	}
+
+	private void checkRows(long row, long count) {
+		if (row < 0 || count < 0 || row + count > rows) {
+			throw new IndexOutOfBoundsException("row: " + row + ", count: " + count + ", rows: " + rows);
+		}
+	}
+
+	/**
+	 * Copies count values of n bytes located every stride bytes from src to the contiguous dst.
+	 * */
+	private static void gather(long src, long stride, long dst, long n, long count) {
+		if (n == 4) {
+			for (long i = 0; i < count; ++i, src += stride, dst += 4) {
+				MemoryAccessor.setInt(dst, MemoryAccessor.getInt(src));
+			}
+		} else if (n == 8) {
+			for (long i = 0; i < count; ++i, src += stride, dst += 8) {
+				MemoryAccessor.setLong(dst, MemoryAccessor.getLong(src));
+			}
+		} else if (n == 2) {
+			for (long i = 0; i < count; ++i, src += stride, dst += 2) {
+				MemoryAccessor.setShort(dst, MemoryAccessor.getShort(src));
+			}
+		} else if (n == 1) {
+			for (long i = 0; i < count; ++i, src += stride, ++dst) {
+				MemoryAccessor.setByte(dst, MemoryAccessor.getByte(src));
+			}
+		} else {
+			for (long i = 0; i < count; ++i, src += stride, dst += n) {
+				MemoryAccessor.memcopy(src, dst, n);
+			}
+		}
+	}
+
+	/**
+	 * Copies count contiguous values of n bytes from src to dst every stride bytes.
+	 * */
+	private static void scatter(long src, long n, long dst, long stride, long count) {
+		if (n == 4) {
+			for (long i = 0; i < count; ++i, src += 4, dst += stride) {
+				MemoryAccessor.setInt(dst, MemoryAccessor.getInt(src));
+			}
+		} else if (n == 8) {
+			for (long i = 0; i < count; ++i, src += 8, dst += stride) {
+				MemoryAccessor.setLong(dst, MemoryAccessor.getLong(src));
+			}
+		} else if (n == 2) {
+			for (long i = 0; i < count; ++i, src += 2, dst += stride) {
+				MemoryAccessor.setShort(dst, MemoryAccessor.getShort(src));
+			}
+		} else if (n == 1) {
+			for (long i = 0; i < count; ++i, ++src, dst += stride) {
+				MemoryAccessor.setByte(dst, MemoryAccessor.getByte(src));
+			}
+		} else {
+			for (long i = 0; i < count; ++i, src += n, dst += stride) {
+				MemoryAccessor.memcopy(src, dst, n);
+			}
+		}
+	}
+
+	/**
+	 * Frees the columns. Column views become invalid.
+	 * */
+	@Override
+	public void close() {
+		if (address != VoidPointer.nullptr) {
+			allocator.free(address);
+			address = VoidPointer.nullptr;
+			Arrays.fill(columns, VoidPointer.nullptr);
+		}
+	}
+}